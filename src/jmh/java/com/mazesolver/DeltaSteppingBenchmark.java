@@ -0,0 +1,70 @@
+package com.mazesolver;
+
+import com.mazesolver.deltastepping.DeltaSteppingMazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.MazeException;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * How DeltaSteppingMazeSolver scales from 1 to 32 threads on large Mazes. Compare with SolveBenchmark
+ * (DIJKSTRA_FIRST_EXIT) for the single-threaded baseline.
+ * Threads beyond the cores of the machine can not speed anything up - check nproc before reading the results.
+ *
+ * See SolveBenchmark for how to run.
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class DeltaSteppingBenchmark {
+
+    @Param({"OPEN", "SPIRAL", "PERFECT"})
+    public MazeGenerator.Shape shape;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    /**
+     * 0 - DeltaSteppingMazeSolver.HIGHEST_CELL_VALUE_DELTA.
+     * */
+    @Param({"0", "3", "20"})
+    public int delta;
+
+    private int[][] maze;
+    private Point start;
+    private ForkJoinPool pool;
+    private MazeSolver mazeSolver;
+
+    @Setup
+    public void setUp() {
+        maze = MazeGenerator.generate(shape, size, 42);
+        start = MazeGenerator.getStart(maze);
+        pool = new ForkJoinPool(threads);
+        mazeSolver = new DeltaSteppingMazeSolver(delta, pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int solve() throws MazeException {
+        try {
+            return mazeSolver.solve(maze, start.x, start.y);
+        } catch (InescapableMazeException e) {
+            return -1;
+        }
+    }
+}
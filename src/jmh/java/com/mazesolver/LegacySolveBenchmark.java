@@ -0,0 +1,55 @@
+package com.mazesolver;
+
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.MazeException;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * MazeSolver.solve with the Engines, which flood select a Connected Weighted Graph from the Maze.
+ * Only small Mazes: the flood select is recursive and quadratic in the number of cells.
+ *
+ * See SolveBenchmark for the IMPLICIT_GRID Engine and for how to run.
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LegacySolveBenchmark {
+
+    @Param({"PERFECT", "OPEN", "SPIRAL", "MOSTLY_WALL"})
+    public MazeGenerator.Shape shape;
+
+    @Param({"10", "30"})
+    public int size;
+
+    @Param({"BINARY_HEAP", "LINEAR_SCAN"})
+    public DijkstraMazeSolver.Engine engine;
+
+    private int[][] maze;
+    private Point start;
+    private MazeSolver mazeSolver;
+
+    @Setup
+    public void setUp() {
+        maze = MazeGenerator.generate(shape, size, 42);
+        start = MazeGenerator.getStart(maze);
+        mazeSolver = new DijkstraMazeSolver(engine);
+    }
+
+    @Benchmark
+    public int solve() throws MazeException {
+        try {
+            return mazeSolver.solve(maze, start.x, start.y);
+        } catch (InescapableMazeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.mazesolver;
+
+import java.awt.*;
+import java.util.Random;
+
+/**
+ *
+ * Generates Mazes of a given shape and size for the benchmarks. The same shape, size and seed
+ * always give the same Maze.
+ *
+ * The start coordinates of every Maze are at its center (see getStart) and always traversable.
+ *
+ * */
+public final class MazeGenerator {
+
+    private static final int MAX_CELL_VALUE = 9;
+
+    public enum Shape {
+
+        /**
+         * A perfect maze (exactly one path between any two cells, carved by a randomized depth-first
+         * search), with walls on every even row and column and one opening in the border.
+         * */
+        PERFECT,
+
+        /**
+         * No walls at all, random cell values. Every border cell is an exit.
+         * */
+        OPEN,
+
+        /**
+         * Nested rings of corridors around the center, each with a single gap on alternating sides,
+         * so the only path to an exit winds through about half of all cells.
+         * The worst case for a search, which stops at the first exit.
+         * */
+        SPIRAL,
+
+        /**
+         * 80% walls, random cell values. The start is usually in a small, closed-off region.
+         * */
+        MOSTLY_WALL
+    }
+
+    private MazeGenerator() {
+    }
+
+    /**
+     * @param size - The number of cells per side.
+     * */
+    public static int[][] generate(final Shape shape, final int size, final long seed) {
+        final Random random = new Random(seed);
+
+        final int[][] maze;
+
+        switch (shape) {
+            case PERFECT:
+                maze = generatePerfect(size, random);
+                break;
+            case OPEN:
+                maze = generateRandom(size, 0.0, random);
+                break;
+            case SPIRAL:
+                maze = generateSpiral(size, random);
+                break;
+            case MOSTLY_WALL:
+                maze = generateRandom(size, 0.8, random);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown Maze shape: " + shape + "!");
+        }
+
+        final Point start = getStart(maze);
+
+        if (maze[start.y][start.x] <= 0)
+            maze[start.y][start.x] = 1 + random.nextInt(MAX_CELL_VALUE);
+
+        return maze;
+    }
+
+    /**
+     * @return The center cell, or the one next to it with odd coordinates (a room of a PERFECT Maze).
+     * */
+    public static Point getStart(final int[][] maze) {
+        return new Point(Math.min(maze[0].length / 2 | 1, maze[0].length - 1),
+                Math.min(maze.length / 2 | 1, maze.length - 1));
+    }
+
+    private static int[][] generateRandom(final int size, final double wallRatio, final Random random) {
+        final int[][] maze = new int[size][size];
+
+        for (int[] row : maze)
+            for (int x = 0; x < size; x++)
+                row[x] = random.nextDouble() < wallRatio ? 0 : 1 + random.nextInt(MAX_CELL_VALUE);
+
+        return maze;
+    }
+
+    /**
+     * Rooms are the cells with odd coordinates. An iterative depth-first search from the center room
+     * carves a passage to a random unvisited neighboring room, until every room is visited.
+     * */
+    private static int[][] generatePerfect(final int size, final Random random) {
+        final int[][] maze = new int[size][size];
+        final int rooms = (size - 1) / 2; //Rooms per side
+
+        if (rooms == 0)
+            return generateRandom(size, 0.0, random);
+
+        final int[] stack = new int[rooms * rooms];
+        final int[] directions = new int[4];
+        int stackSize = 0;
+
+        final int first = (rooms / 2) * rooms + rooms / 2; //The center room
+        stack[stackSize++] = first;
+        carve(maze, first, rooms, random);
+
+        while (stackSize > 0) {
+            final int room = stack[stackSize - 1];
+            final int roomX = room % rooms;
+            final int roomY = room / rooms;
+
+            //Unvisited neighboring rooms: 0 - north, 1 - east, 2 - south, 3 - west
+            int directionCount = 0;
+
+            if (roomY > 0 && maze[2 * roomY - 1][2 * roomX + 1] == 0)
+                directions[directionCount++] = 0;
+            if (roomX < rooms - 1 && maze[2 * roomY + 1][2 * roomX + 3] == 0)
+                directions[directionCount++] = 1;
+            if (roomY < rooms - 1 && maze[2 * roomY + 3][2 * roomX + 1] == 0)
+                directions[directionCount++] = 2;
+            if (roomX > 0 && maze[2 * roomY + 1][2 * roomX - 1] == 0)
+                directions[directionCount++] = 3;
+
+            if (directionCount == 0) {
+                stackSize--;
+                continue;
+            }
+
+            final int direction = directions[random.nextInt(directionCount)];
+            final int next = direction == 0 ? room - rooms : direction == 1 ? room + 1 :
+                    direction == 2 ? room + rooms : room - 1;
+
+            //The wall between the two rooms
+            maze[roomY + next / rooms + 1][roomX + next % rooms + 1] = 1 + random.nextInt(MAX_CELL_VALUE);
+            carve(maze, next, rooms, random);
+            stack[stackSize++] = next;
+        }
+
+        //The only exit: the west wall of the first room.
+        maze[1][0] = 1 + random.nextInt(MAX_CELL_VALUE);
+
+        return maze;
+    }
+
+    private static void carve(final int[][] maze, final int room, final int rooms, final Random random) {
+        maze[2 * (room / rooms) + 1][2 * (room % rooms) + 1] = 1 + random.nextInt(MAX_CELL_VALUE);
+    }
+
+    /**
+     * Layer L of a cell is its distance from the border. Even layers are corridors (layer 0 is the border),
+     * odd layers are walls with one gap, on the north side for every other wall and the south side
+     * for the rest, so a path has to go half way around each corridor to reach the next gap.
+     * */
+    private static int[][] generateSpiral(final int size, final Random random) {
+        final int[][] maze = new int[size][size];
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                final int layer = Math.min(Math.min(x, size - 1 - x), Math.min(y, size - 1 - y));
+
+                if (layer % 2 == 0) {
+                    maze[y][x] = 1 + random.nextInt(MAX_CELL_VALUE);
+                    continue;
+                }
+
+                final boolean northGap = (layer / 2) % 2 == 0;
+                final boolean isGap = x == size / 2 && y == (northGap ? layer : size - 1 - layer);
+
+                maze[y][x] = isGap ? 1 + random.nextInt(MAX_CELL_VALUE) : 0;
+            }
+        }
+
+        return maze;
+    }
+}
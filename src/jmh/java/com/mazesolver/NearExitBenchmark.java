@@ -0,0 +1,59 @@
+package com.mazesolver;
+
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.MazeException;
+import com.mazesolver.graph.MazeComponents;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * A FIRST_EXIT solve of the default DijkstraMazeSolver from a cell next to the border of an OPEN Maze,
+ * so that the search itself only touches a handful of cells, whatever the size of the Maze:
+ *
+ * - solve: MazeSolver.solve(maze, x, y), which still validates every cell of the Maze.
+ * - solveComponents: MazeSolver.solve(components, x, y) on a Maze, whose components were labelled
+ * (and the Maze validated) once. It should take about the same time for every size, as neither the
+ * GridGraph nor the SearchWorkspace do any work per cell of the Maze.
+ *
+ * See SolveBenchmark for how to run.
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class NearExitBenchmark {
+
+    @Param({"100", "1000", "4000", "10000"})
+    public int size;
+
+    private int[][] maze;
+    private MazeComponents components;
+    private Point start;
+    private MazeSolver mazeSolver;
+
+    @Setup
+    public void setUp() throws MazeException {
+        maze = MazeGenerator.generate(MazeGenerator.Shape.OPEN, size, 42);
+        start = new Point(1, size / 2);
+        maze[start.y][start.x] = 1;
+        maze[start.y][0] = 1;
+        components = MazeSolver.labelComponents(maze);
+        mazeSolver = new DijkstraMazeSolver();
+    }
+
+    @Benchmark
+    public int solve() throws MazeException {
+        return mazeSolver.solve(maze, start.x, start.y);
+    }
+
+    @Benchmark
+    public int solveComponents() throws MazeException {
+        return mazeSolver.solve(components, start.x, start.y);
+    }
+}
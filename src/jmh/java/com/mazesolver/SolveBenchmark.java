@@ -0,0 +1,75 @@
+package com.mazesolver;
+
+import com.mazesolver.astar.AStarMazeSolver;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.MazeException;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * MazeSolver.solve (validation included) on generated Mazes of every shape, from 10x10 to 10^4x10^4 cells.
+ *
+ * Build with mvn -B package -Pjmh and run with the JMH runner, e.g.:
+ *      java -jar target/benchmarks.jar SolveBenchmark -prof gc
+ * -prof gc adds the allocation rate and the bytes allocated per solve (gc.alloc.rate.norm).
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SolveBenchmark {
+
+    public enum Solver {
+        DIJKSTRA_FIRST_EXIT,
+        DIJKSTRA_FULL_COMPONENT,
+        A_STAR
+    }
+
+    @Param({"PERFECT", "OPEN", "SPIRAL", "MOSTLY_WALL"})
+    public MazeGenerator.Shape shape;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    @Param({"DIJKSTRA_FIRST_EXIT", "DIJKSTRA_FULL_COMPONENT", "A_STAR"})
+    public Solver solver;
+
+    private int[][] maze;
+    private Point start;
+    private MazeSolver mazeSolver;
+
+    @Setup
+    public void setUp() {
+        maze = MazeGenerator.generate(shape, size, 42);
+        start = MazeGenerator.getStart(maze);
+
+        switch (solver) {
+            case DIJKSTRA_FIRST_EXIT:
+                mazeSolver = new DijkstraMazeSolver(DijkstraMazeSolver.Engine.IMPLICIT_GRID,
+                        DijkstraMazeSolver.SearchMode.FIRST_EXIT);
+                break;
+            case DIJKSTRA_FULL_COMPONENT:
+                mazeSolver = new DijkstraMazeSolver(DijkstraMazeSolver.Engine.IMPLICIT_GRID,
+                        DijkstraMazeSolver.SearchMode.FULL_COMPONENT);
+                break;
+            default:
+                mazeSolver = new AStarMazeSolver();
+        }
+    }
+
+    @Benchmark
+    public int solve() throws MazeException {
+        try {
+            return mazeSolver.solve(maze, start.x, start.y);
+        } catch (InescapableMazeException e) {
+            return -1;
+        }
+    }
+}
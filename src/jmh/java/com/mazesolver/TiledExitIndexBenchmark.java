@@ -0,0 +1,72 @@
+package com.mazesolver;
+
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.dijkstra.TiledExitIndex;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.MazeException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * Queries of a TiledExitIndex from random traversable start cells of one large Maze.
+ * The build time, the size and the peak build memory of the index are logged once per trial by the index itself.
+ *
+ * See SolveBenchmark for how to run.
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class TiledExitIndexBenchmark {
+
+    private static final int START_COUNT = 1024;
+
+    @Param({"OPEN", "PERFECT", "SPIRAL"})
+    public MazeGenerator.Shape shape;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"16", "64"})
+    public int tileSize;
+
+    private TiledExitIndex index;
+    private final int[] startXs = new int[START_COUNT];
+    private final int[] startYs = new int[START_COUNT];
+    private int nextStart;
+
+    @Setup
+    public void setUp() throws MazeException {
+        final int[][] maze = MazeGenerator.generate(shape, size, 42);
+        final Random random = new Random(42);
+
+        index = new DijkstraMazeSolver().buildTiledExitIndex(maze, tileSize);
+
+        for (int i = 0; i < START_COUNT; ) {
+            final int x = random.nextInt(size);
+            final int y = random.nextInt(size);
+
+            if (maze[y][x] > 0) {
+                startXs[i] = x;
+                startYs[i++] = y;
+            }
+        }
+    }
+
+    @Benchmark
+    public int query() throws MazeException {
+        final int start = nextStart++ & (START_COUNT - 1);
+
+        try {
+            return index.getCost(startXs[start], startYs[start]);
+        } catch (InescapableMazeException e) {
+            return -1;
+        }
+    }
+}
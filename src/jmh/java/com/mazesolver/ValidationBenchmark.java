@@ -0,0 +1,84 @@
+package com.mazesolver;
+
+import com.mazesolver.exception.MazeException;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * The input validation of MazeSolver.solve on its own. It reads every cell once, whatever the shape,
+ * so only OPEN Mazes are used.
+ *
+ * - validate: the whole validation, with the default CellScanner (the VectorCellScanner, as the forks add
+ * the jdk.incubator.vector module).
+ * - scan: the fused pass of MazeScan alone, with the CellScanner of the scanner parameter.
+ * - separatePasses: the validation before MazeScan - separate passes for emptiness, shape and values,
+ * which only found the highest cell value. The baseline for scan, which also finds the lowest positive value
+ * and the traversable cell count.
+ *
+ * See SolveBenchmark for how to run.
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "--add-modules", "jdk.incubator.vector"})
+public class ValidationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    @Param({"VECTOR", "SCALAR"})
+    public String scanner;
+
+    private int[][] maze;
+    private Point start;
+    private CellScanner cellScanner;
+
+    @Setup
+    public void setUp() {
+        maze = MazeGenerator.generate(MazeGenerator.Shape.OPEN, size, 42);
+        start = MazeGenerator.getStart(maze);
+        cellScanner = scanner.equals("SCALAR") ? MazeScan.SCALAR_SCANNER : MazeScan.DEFAULT_SCANNER;
+    }
+
+    @Benchmark
+    public int validate() throws MazeException {
+        return MazeSolver.validate(maze, start).getMaxValue();
+    }
+
+    @Benchmark
+    public int scan() {
+        final MazeScan scan = MazeScan.of(maze, cellScanner);
+
+        return scan.getMaxValue() ^ scan.getMinPositiveValue();
+    }
+
+    @Benchmark
+    public int separatePasses() {
+        if (Arrays.stream(maze).allMatch(row -> row.length == 0))
+            return -1;
+
+        if (!Arrays.stream(maze).allMatch(row -> row.length == maze[0].length))
+            return -1;
+
+        int maxValue = 0;
+
+        for (int[] row : maze) {
+            for (int cell : row) {
+                if (cell < 0)
+                    return -1;
+
+                if (cell > maxValue)
+                    maxValue = cell;
+            }
+        }
+
+        return maxValue;
+    }
+}
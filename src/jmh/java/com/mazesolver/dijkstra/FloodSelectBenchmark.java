@@ -0,0 +1,44 @@
+package com.mazesolver.dijkstra;
+
+import com.mazesolver.MazeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * The flood select of a Connected Weighted Graph from a Maze, on its own.
+ * Only small Mazes: the flood select is recursive and quadratic in the number of cells.
+ *
+ * See SolveBenchmark for how to run.
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FloodSelectBenchmark {
+
+    @Param({"PERFECT", "OPEN", "SPIRAL", "MOSTLY_WALL"})
+    public MazeGenerator.Shape shape;
+
+    @Param({"10", "30"})
+    public int size;
+
+    private int[][] maze;
+    private Point start;
+
+    @Setup
+    public void setUp() {
+        maze = MazeGenerator.generate(shape, size, 42);
+        start = MazeGenerator.getStart(maze);
+    }
+
+    @Benchmark
+    public WeightedGraph floodSelect() {
+        return new ConnectedWeightedGraphSelector(maze, start).getConnectedWeightedGraph();
+    }
+}
@@ -0,0 +1,66 @@
+package com.mazesolver.graph;
+
+import com.mazesolver.MazeGenerator;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.MazeException;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * A CsrGraph of a Maze, against the implicit GridGraph of the IMPLICIT_GRID Engine, which it encodes:
+ *
+ * - build: CsrGraph.Builder.of(maze).build() - paid once per Maze.
+ * - solveCsrGraph: DijkstraMazeSolver.solveGraph on the prebuilt CsrGraph.
+ * - solveGrid: DijkstraMazeSolver.solve on the Maze itself (validation included) - the baseline.
+ *
+ * The Builder keeps 12 bytes per Edge (about 4 Edges per cell) and the CsrGraph 8, so the largest size is
+ * kept well below the heap.
+ *
+ * See SolveBenchmark for how to run.
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class CsrGraphBenchmark {
+
+    @Param({"PERFECT", "OPEN"})
+    public MazeGenerator.Shape shape;
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private int[][] maze;
+    private Point start;
+    private CsrGraph graph;
+    private DijkstraMazeSolver solver;
+
+    @Setup
+    public void setUp() {
+        maze = MazeGenerator.generate(shape, size, 42);
+        start = MazeGenerator.getStart(maze);
+        graph = CsrGraph.Builder.of(maze).build();
+        solver = new DijkstraMazeSolver();
+    }
+
+    @Benchmark
+    public CsrGraph build() {
+        return CsrGraph.Builder.of(maze).build();
+    }
+
+    @Benchmark
+    public int solveCsrGraph() {
+        return solver.solveGraph(graph, start.y * size + start.x);
+    }
+
+    @Benchmark
+    public int solveGrid() throws MazeException {
+        return solver.solve(maze, start.x, start.y);
+    }
+}
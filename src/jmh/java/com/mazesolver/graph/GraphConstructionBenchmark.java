@@ -0,0 +1,50 @@
+package com.mazesolver.graph;
+
+import com.mazesolver.MazeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * What is built from a Maze before a search starts, on its own:
+ *
+ * - gridGraph: the GridGraph of a prepared Maze, which packs every cell into a MazeGrid.
+ * - view: the GridGraph of a single solve of the IMPLICIT_GRID Engine, which reads the cells straight
+ * from the Maze, so its cost does not depend on the size of the Maze.
+ *
+ * See SolveBenchmark for how to run.
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class GraphConstructionBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    private int[][] maze;
+    private int maxValue;
+    private int minPositiveValue;
+
+    @Setup
+    public void setUp() {
+        maze = MazeGenerator.generate(MazeGenerator.Shape.OPEN, size, 42);
+        maxValue = MazeGrid.findMaxValue(maze);
+        minPositiveValue = MazeGrid.findMinPositiveValue(maze);
+    }
+
+    @Benchmark
+    public GridGraph view() {
+        return GridGraph.view(maze, maxValue, minPositiveValue);
+    }
+
+    @Benchmark
+    public GridGraph gridGraph() {
+        return new GridGraph(maze);
+    }
+}
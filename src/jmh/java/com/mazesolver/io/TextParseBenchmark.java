@@ -0,0 +1,81 @@
+package com.mazesolver.io;
+
+import com.mazesolver.MazeGenerator;
+import com.mazesolver.exception.MazeException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * Parsing a text Maze file into an int[][]. Both read the same file, with comma separated rows:
+ *
+ * - mappedParser: MazeTextParser.read - mapped, no String per line or cell.
+ * - splitParseInt: BufferedReader.readLine, String.split and Integer.parseInt - the baseline.
+ *
+ * See SolveBenchmark for how to run.
+ *
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class TextParseBenchmark {
+
+    @Param({"100", "1000", "4000"})
+    public int size;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        final int[][] maze = MazeGenerator.generate(MazeGenerator.Shape.OPEN, size, 42);
+        final StringBuilder text = new StringBuilder();
+
+        for (int[] row : maze) {
+            for (int x = 0; x < row.length; x++)
+                text.append(row[x]).append(x + 1 < row.length ? ", " : "\n");
+        }
+
+        file = Files.createTempFile("maze", ".txt");
+        Files.write(file, text.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public int[][] mappedParser() throws IOException, MazeException {
+        return MazeTextParser.read(file);
+    }
+
+    @Benchmark
+    public int[][] splitParseInt() throws IOException {
+        final List<int[]> rows = new ArrayList<int[]>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                final String[] cells = line.split(", ");
+                final int[] row = new int[cells.length];
+
+                for (int x = 0; x < cells.length; x++)
+                    row[x] = Integer.parseInt(cells[x]);
+
+                rows.add(row);
+            }
+        }
+
+        return rows.toArray(new int[0][]);
+    }
+}
@@ -0,0 +1,121 @@
+package com.mazesolver.server;
+
+import com.mazesolver.MazeGenerator;
+import com.mazesolver.io.MazeFile;
+
+import java.awt.*;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ * Drives a MazeSolverServer over localhost: a number of client threads send binary solve requests
+ * back to back, each for one of a few generated Mazes (so that requests share Mazes and can be batched)
+ * from a random traversable start. Prints the throughput, the client side p50 / p99 latencies,
+ * the number of 503 responses and the stats of the server.
+ *
+ * Usage: LoadTestClient [port] [threads] [requests per thread] [Maze size] [distinct Mazes]
+ * - defaults: 8080 16 1000 100 4.
+ *
+ * Start the server first, e.g. java com.mazesolver.server.MazeSolverServer 8080.
+ *
+ * */
+public final class LoadTestClient {
+
+    private LoadTestClient() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : MazeSolverServer.DEFAULT_PORT;
+        final int threadCount = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        final int requestsPerThread = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        final int size = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+        final int mazeCount = args.length > 4 ? Integer.parseInt(args[4]) : 4;
+
+        final int[][][] mazes = new int[mazeCount][][];
+        final byte[][] bodies = new byte[mazeCount][];
+
+        for (int i = 0; i < mazeCount; i++) {
+            mazes[i] = MazeGenerator.generate(MazeGenerator.Shape.OPEN, size, i);
+            bodies[i] = MazeFile.encode(mazes[i]);
+        }
+
+        final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        final String solveUri = "http://localhost:" + port + "/solve";
+        final long[] latencies = new long[threadCount * requestsPerThread];
+        final AtomicInteger rejectedCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        final long startNanos = System.nanoTime();
+
+        try {
+            final Future<?>[] clients = new Future<?>[threadCount];
+
+            for (int thread = 0; thread < threadCount; thread++) {
+                final int firstRequest = thread * requestsPerThread;
+                final Random random = new Random(thread);
+
+                clients[thread] = executor.submit(() -> {
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        final int mazeIndex = random.nextInt(mazeCount);
+                        final Point start = getTraversableStart(mazes[mazeIndex], random);
+                        final HttpRequest request = HttpRequest.newBuilder(
+                                URI.create(solveUri + "?x=" + start.x + "&y=" + start.y))
+                                .header("Content-Type", "application/octet-stream")
+                                .POST(HttpRequest.BodyPublishers.ofByteArray(bodies[mazeIndex]))
+                                .build();
+
+                        final long requestStartNanos = System.nanoTime();
+                        final HttpResponse<String> response = client.send(request,
+                                HttpResponse.BodyHandlers.ofString());
+
+                        latencies[firstRequest + i] = System.nanoTime() - requestStartNanos;
+
+                        if (response.statusCode() == 503)
+                            rejectedCount.incrementAndGet();
+                        else if (response.statusCode() != 200)
+                            throw new IllegalStateException("Unexpected response: " + response.statusCode() +
+                                    " " + response.body());
+                    }
+
+                    return null;
+                });
+            }
+
+            for (Future<?> clientThread : clients)
+                clientThread.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        final long elapsedNanos = System.nanoTime() - startNanos;
+
+        Arrays.sort(latencies);
+
+        System.out.println(latencies.length + " requests in " + elapsedNanos / 1_000_000 + " ms: " +
+                (long) (latencies.length / (elapsedNanos / 1e9)) + " requests/s");
+        System.out.println("Client p50: " + latencies[latencies.length / 2] / 1_000 + " us, p99: " +
+                latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1_000 + " us, 503: " + rejectedCount);
+        System.out.println("Server stats: " + client.send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/stats")).build(),
+                HttpResponse.BodyHandlers.ofString()).body());
+    }
+
+    private static Point getTraversableStart(final int[][] maze, final Random random) {
+        while (true) {
+            final int x = random.nextInt(maze[0].length);
+            final int y = random.nextInt(maze.length);
+
+            if (maze[y][x] > 0)
+                return new Point(x, y);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.mazesolver;
+
+/**
+ * The results of MazeSolver.solveAll - a cost and a SolveStatus for each set of start coordinates,
+ * in the order in which they were given.
+ *
+ * Stored as two primitive arrays, so large batches do not create an object per start.
+ * */
+public final class BatchSolveResult {
+
+    private static final SolveStatus[] STATUSES = SolveStatus.values();
+
+    private final int[] costs;
+    private final byte[] statuses;
+
+    BatchSolveResult(final int size) {
+        this.costs = new int[size];
+        this.statuses = new byte[size];
+    }
+
+    void setSolved(final int index, final int cost) {
+        costs[index] = cost;
+        statuses[index] = (byte) SolveStatus.SOLVED.ordinal();
+    }
+
+    void setFailed(final int index, final SolveStatus status) {
+        costs[index] = -1;
+        statuses[index] = (byte) status.ordinal();
+    }
+
+    public int size() {
+        return costs.length;
+    }
+
+    /**
+     * @return The value of the lowest cost path to a Maze exit from the start at the given index,
+     * or -1 if it was not SOLVED.
+     * */
+    public int getCost(final int index) {
+        return costs[index];
+    }
+
+    public SolveStatus getStatus(final int index) {
+        return STATUSES[statuses[index]];
+    }
+
+    public boolean isSolved(final int index) {
+        return statuses[index] == SolveStatus.SOLVED.ordinal();
+    }
+
+    /**
+     * @return A copy of all costs. -1 for every start, which was not SOLVED.
+     * */
+    public int[] getCosts() {
+        return costs.clone();
+    }
+}
@@ -0,0 +1,346 @@
+package com.mazesolver;
+
+import com.mazesolver.exception.InescapableMazeException;
+import org.apache.log4j.Logger;
+
+import java.awt.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * Caches the results of another MazeSolver, for traffic, which repeats the same Maze and start coordinates.
+ *
+ * - Content-addressed: the key is a 128-bit hash of the dimensions and cells of the Maze, plus the start
+ * coordinates. The Maze is hashed on every solve (once per batch for solveAll), so a Maze, which is
+ * modified between solves, simply gets a new key. Two different Mazes with the same 128-bit hash would
+ * share results, which is accepted as practically impossible.
+ *
+ * - LRU: the least recently used entries are evicted, once the estimated size of the cache exceeds
+ * maxBytes. Every entry has the same estimated size (ESTIMATED_ENTRY_BYTES).
+ *
+ * - Single-flight: concurrent solves of the same key wait for the one, which started first,
+ * instead of solving again.
+ *
+ * - Inescapable results are cached as well and replayed as an InescapableMazeException.
+ *
+ * Input validation is still performed on every solve, before the cache is looked up.
+ * Thread-safe, if the wrapped MazeSolver is.
+ *
+ * */
+public final class CachingMazeSolver extends MazeSolver {
+
+    private static final Logger logger = Logger.getLogger(CachingMazeSolver.class);
+
+    /**
+     * The estimated heap size of one entry: the key, the boxed cost and the LinkedHashMap entry.
+     * */
+    public static final int ESTIMATED_ENTRY_BYTES = 128;
+
+    private static final int INESCAPABLE = NO_PATH;
+
+    private final MazeSolver solver;
+    private final long maxEntries;
+
+    private final LinkedHashMap<CacheKey, Integer> entries =
+            new LinkedHashMap<CacheKey, Integer>(16, 0.75f, true); //Access order, guarded by itself
+    private final ConcurrentHashMap<CacheKey, CompletableFuture<Integer>> inFlightSolves =
+            new ConcurrentHashMap<CacheKey, CompletableFuture<Integer>>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param solver The MazeSolver, whose results are cached.
+     * @param maxBytes The most (estimated) bytes, which the cached entries may take up.
+     * */
+    public CachingMazeSolver(final MazeSolver solver, final long maxBytes) {
+        if (maxBytes < 0)
+            throw new IllegalArgumentException("The maximum cache size must be non-negative!");
+
+        this.solver = Objects.requireNonNull(solver);
+        this.maxEntries = maxBytes / ESTIMATED_ENTRY_BYTES;
+    }
+
+    @Override
+    protected int solve(final int[][] maze, final Point sourceCoordinates) throws InescapableMazeException {
+        final MazeHash mazeHash = new MazeHash(maze);
+
+        return replay(maze, sourceCoordinates, solve(new CacheKey(mazeHash, sourceCoordinates), sourceCoordinates,
+                point -> solver.solve(maze, point)));
+    }
+
+    /**
+     * Passes the highest and lowest positive cell value (found by the validation) on to the wrapped MazeSolver, on a miss.
+     * */
+    @Override
+    protected int solve(final int[][] maze, final int maxCellValue, final int minCellValue,
+                        final Point sourceCoordinates) throws InescapableMazeException {
+        final MazeHash mazeHash = new MazeHash(maze);
+
+        return replay(maze, sourceCoordinates, solve(new CacheKey(mazeHash, sourceCoordinates), sourceCoordinates,
+                point -> solver.solve(maze, maxCellValue, minCellValue, point)));
+    }
+
+    /**
+     * Replays cached inescapable results without an Exception and passes solveOrNoPath on
+     * to the wrapped MazeSolver, on a miss.
+     * */
+    @Override
+    protected int solveOrNoPath(final int[][] maze, final int maxCellValue, final int minCellValue,
+                                final Point sourceCoordinates) {
+        final MazeHash mazeHash = new MazeHash(maze);
+
+        return solve(new CacheKey(mazeHash, sourceCoordinates), sourceCoordinates,
+                point -> solver.solveOrNoPath(maze, maxCellValue, minCellValue, point));
+    }
+
+    /**
+     * Hashes the Maze once for the whole batch. The wrapped MazeSolver only prepares the Maze,
+     * once a start misses the cache.
+     * */
+    @Override
+    protected PreparedMaze prepare(final int[][] maze) {
+        final MazeHash mazeHash = new MazeHash(maze);
+        final LazyPreparedMaze preparedMaze = new LazyPreparedMaze(solver, maze);
+
+        return sourceCoordinates -> replay(maze, sourceCoordinates,
+                solve(new CacheKey(mazeHash, sourceCoordinates), sourceCoordinates,
+                        point -> preparedMaze.get().solve(point)));
+    }
+
+    /**
+     * @return The cached or solved cost, or INESCAPABLE.
+     * */
+    private int solve(final CacheKey key, final Point sourceCoordinates, final PreparedMaze uncachedSolve) {
+
+        Integer cost = get(key);
+
+        if (cost != null) {
+            hitCount.increment();
+            logger.debug("Cache hit for start coordinates: (" + key.x + ", " + key.y + ").");
+            return cost;
+        }
+
+        final CompletableFuture<Integer> solution = new CompletableFuture<Integer>();
+        final CompletableFuture<Integer> inFlightSolution = inFlightSolves.putIfAbsent(key, solution);
+
+        if (inFlightSolution != null) {
+            coalescedCount.increment();
+            logger.debug("Waiting for an identical solve in flight.");
+            return join(inFlightSolution);
+        }
+
+        try {
+            //An identical solve may have completed between the lookup and claiming the key.
+            cost = get(key);
+
+            if (cost != null) {
+                hitCount.increment();
+            } else {
+                missCount.increment();
+                logger.debug("Cache miss for start coordinates: (" + key.x + ", " + key.y + ").");
+
+                try {
+                    cost = uncachedSolve.solve(sourceCoordinates);
+                } catch (InescapableMazeException ex) {
+                    cost = INESCAPABLE;
+                }
+
+                put(key, cost);
+            }
+
+            solution.complete(cost);
+        } catch (RuntimeException | Error ex) {
+            solution.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightSolves.remove(key, solution);
+        }
+
+        return cost;
+    }
+
+    private static int replay(final int[][] maze, final Point sourceCoordinates, final int cost)
+            throws InescapableMazeException {
+        if (cost == INESCAPABLE)
+            throw new InescapableMazeException(maze, sourceCoordinates);
+
+        return cost;
+    }
+
+    private static int join(final CompletableFuture<Integer> solution) {
+        try {
+            return solution.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException)
+                throw (RuntimeException) ex.getCause();
+
+            if (ex.getCause() instanceof Error)
+                throw (Error) ex.getCause();
+
+            throw ex;
+        }
+    }
+
+    private Integer get(final CacheKey key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void put(final CacheKey key, final int cost) {
+        synchronized (entries) {
+            entries.put(key, cost);
+
+            while (entries.size() > maxEntries) {
+                final Map.Entry<CacheKey, Integer> eldest = entries.entrySet().iterator().next();
+                entries.remove(eldest.getKey());
+                evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * @return The number of solves answered from the cache.
+     * */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return The number of solves passed on to the wrapped MazeSolver.
+     * */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return The number of solves, which waited for an identical solve in flight, instead of solving again.
+     * */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * @return The number of entries evicted to stay within maxBytes.
+     * */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int getEntryCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getEstimatedBytes() {
+        return (long) getEntryCount() * ESTIMATED_ENTRY_BYTES;
+    }
+
+    /**
+     * A 128-bit hash of the dimensions and cells of a Maze: two independent 64-bit multiply-rotate hashes,
+     * each finished with the MurmurHash3 fmix64 step.
+     * */
+    private static final class MazeHash {
+
+        private final long high;
+        private final long low;
+
+        private MazeHash(final int[][] maze) {
+            long high = 0x9E3779B97F4A7C15L ^ maze.length;
+            long low = 0xC2B2AE3D27D4EB4FL ^ maze[0].length;
+
+            for (int[] row : maze) {
+                for (int cell : row) {
+                    high = Long.rotateLeft(high ^ cell * 0x87C37B91114253D5L, 31) * 0x4CF5AD432745937FL;
+                    low = Long.rotateLeft(low ^ cell * 0x52DCE729L, 27) * 0x38495AB5L + 0x9E3779B9L;
+                }
+            }
+
+            this.high = fmix64(high ^ maze[0].length);
+            this.low = fmix64(low ^ maze.length);
+        }
+
+        private static long fmix64(long hash) {
+            hash ^= hash >>> 33;
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            hash *= 0xC4CEB9FE1A85EC53L;
+            hash ^= hash >>> 33;
+
+            return hash;
+        }
+    }
+
+    private static final class CacheKey {
+
+        private final long mazeHashHigh;
+        private final long mazeHashLow;
+        private final int x;
+        private final int y;
+
+        private CacheKey(final MazeHash mazeHash, final Point sourceCoordinates) {
+            this.mazeHashHigh = mazeHash.high;
+            this.mazeHashLow = mazeHash.low;
+            this.x = (int) sourceCoordinates.getX();
+            this.y = (int) sourceCoordinates.getY();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof CacheKey))
+                return false;
+
+            final CacheKey key = (CacheKey) obj;
+
+            return key.mazeHashHigh == mazeHashHigh && key.mazeHashLow == mazeHashLow &&
+                    key.x == x && key.y == y;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) mazeHashLow ^ 31 * (x ^ 31 * y);
+        }
+    }
+
+    /**
+     * Prepares the Maze with the wrapped MazeSolver on first use, so a batch, which is answered
+     * entirely from the cache, never prepares it.
+     * */
+    private static final class LazyPreparedMaze {
+
+        private final MazeSolver solver;
+        private final int[][] maze;
+
+        private volatile PreparedMaze preparedMaze;
+
+        private LazyPreparedMaze(final MazeSolver solver, final int[][] maze) {
+            this.solver = solver;
+            this.maze = maze;
+        }
+
+        private PreparedMaze get() {
+            PreparedMaze result = preparedMaze;
+
+            if (result == null) {
+                synchronized (this) {
+                    result = preparedMaze;
+
+                    if (result == null)
+                        preparedMaze = result = solver.prepare(maze);
+                }
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.mazesolver;
+
+/**
+ * Folds the cells of a Maze, one row at a time, into a MazeScan. See MazeScan for the implementations.
+ * */
+interface CellScanner {
+
+    /**
+     * Checks the cells of one row for negative values and, if there are none, folds its highest and
+     * lowest positive value and the number of its positive cells into the scan.
+     *
+     * @return Whether the row contains only non-negative values. If not, nothing is folded into the scan.
+     * */
+    boolean scanRow(final int[] row, final MazeScan scan);
+}
@@ -4,7 +4,6 @@ import com.mazesolver.exception.*;
 import org.apache.log4j.Logger;
 
 import java.awt.*;
-import java.util.Arrays;
 
 /**
  * Helper class to valid user Maze related input and throw Exceptions, when necessary.
@@ -18,6 +17,9 @@ final class InputValidator {
     private final int[][] maze;
     private final Point sourceCoordinates;
 
+    private int maxValue;
+    private int minPositiveValue;
+
     //Init
     InputValidator(final int[][] maze, final Point sourceCoordinates) {
         this.maze = maze;
@@ -32,76 +34,124 @@ final class InputValidator {
     void validate() throws EmptyMazeException, MalformedMazeException,
             InvalidMazeCoordinatesException, InvalidMazeStartPositionException,
             InvalidMazeValuesException {
-        logger.info("Initialize input validation of a Maze and the source coordinates at which to " +
+        logger.debug("Initialize input validation of a Maze and the source coordinates at which to " +
                 "begin traversal.");
 
-        logger.info("Check if the Maze is empty (i.e. if it has any cells).");
-        if (mazeIsEmpty()) {
+        validateMaze();
+
+        logger.debug("Check if the traversal start coordinates are valid (i.e. are they in the maze?).");
+        if (!coordinatesAreValid()) {
+            logger.error("Input traversal start coordinates are invalid.");
+            throw new InvalidMazeCoordinatesException(maze, sourceCoordinates);
+        }
+
+        logger.debug("Maze Coordinates Validity Check - OK");
+
+        logger.debug("Check if the traversal start coordinates point to a cell with a positive value.");
+        if (!coordinatesValueIsValid()) {
+            logger.error("Input traversal start coordinates point to a cell with a non-positive value.");
+            throw new InvalidMazeStartPositionException(maze, sourceCoordinates);
+        }
+
+        logger.debug("Maze Start Position Value Check - OK");
+    }
+
+    /**
+     * Validates only the Maze itself and not the sourceCoordinates, which may be null.
+     * All checks share a single pass over the Maze (see MazeScan).
+     *
+     * */
+    void validateMaze() throws EmptyMazeException, MalformedMazeException, InvalidMazeValuesException {
+        logger.debug("Scan the Maze for emptiness, its shape and its cell values in one pass.");
+        final SolveStatus problem = scanMaze();
+
+        logger.debug("Check if the Maze is empty (i.e. if it has any cells).");
+        if (problem == SolveStatus.EMPTY) {
             logger.error("Input Maze is empty.");
             throw new EmptyMazeException(maze);
         }
 
-        logger.info("NOT Empty Maze Check - OK");
+        logger.debug("NOT Empty Maze Check - OK");
 
-        logger.info("Check if the Maze is rectangular.");
-        if (!mazeIsRectangle()) {
+        logger.debug("Check if the Maze is rectangular.");
+        if (problem == SolveStatus.MALFORMED) {
             logger.error("Input Maze is not rectangular.");
             throw new MalformedMazeException(maze);
         }
 
-        logger.info("Maze Rectangular Check - OK");
+        logger.debug("Maze Rectangular Check - OK");
 
-        logger.info("Confirm that the Maze does not contain cells with negative values.");
-        if (!mazeContainsValidValues()) {
+        logger.debug("Confirm that the Maze does not contain cells with negative values.");
+        if (problem == SolveStatus.INVALID_VALUES) {
             logger.error("Input Maze contains a cell / cells with negative values.");
             throw new InvalidMazeValuesException(maze);
         }
 
-        logger.info("Maze Valid Values Check - OK");
+        logger.debug("Maze Valid Values Check - OK");
+    }
 
-        logger.info("Check if the traversal start coordinates are valid (i.e. are they in the maze?).");
-        if (!coordinatesAreValid()) {
-            logger.error("Input traversal start coordinates are invalid.");
-            throw new InvalidMazeCoordinatesException(maze, sourceCoordinates);
-        }
+    /**
+     * Performs the same checks as validate, in the same order, but without logging or throwing.
+     *
+     * @return The SolveStatus of the first check, which fails, or null if the Maze and the sourceCoordinates
+     * are valid.
+     * */
+    SolveStatus check() {
+        final SolveStatus problem = scanMaze();
 
-        logger.info("Maze Coordinates Validity Check - OK");
+        if (problem != null)
+            return problem;
 
-        logger.info("Check if the traversal start coordinates point to a cell with a positive value.");
-        if (!coordinatesValueIsValid()) {
-            logger.error("Input traversal start coordinates point to a cell with a non-positive value.");
-            throw new InvalidMazeStartPositionException(maze, sourceCoordinates);
-        }
+        if (!coordinatesAreValid())
+            return SolveStatus.BAD_COORDINATES;
 
-        logger.info("Maze Start Position Value Check - OK");
+        if (!coordinatesValueIsValid())
+            return SolveStatus.BAD_START;
+
+        return null;
     }
 
-    private boolean mazeIsEmpty() {
-        if (maze.length == 0)
-            return true;
+    /**
+     * Also finds the highest and the lowest positive cell value, in the same pass.
+     *
+     * @return EMPTY, MALFORMED or INVALID_VALUES, or null if the Maze is valid.
+     * */
+    private SolveStatus scanMaze() {
+        final MazeScan scan = MazeScan.of(maze);
+
+        this.maxValue = scan.getMaxValue();
+        this.minPositiveValue = scan.getMinPositiveValue();
 
-        return Arrays.stream(maze).allMatch(row -> row.length == 0);
+        if (scan.getProblem() == null)
+            logger.debug("The Maze has " + scan.getPositiveCellCount() + " traversable cells.");
+
+        return scan.getProblem();
     }
 
-    private boolean mazeIsRectangle() {
-        return Arrays.stream(maze).allMatch(row ->
-                row.length == maze[0].length);
+    /**
+     * @return The highest cell value of the Maze, which picks the cell width of a MazeGrid.
+     * Only valid once the Maze has been validated.
+     * */
+    int getMaxValue() {
+        return maxValue;
     }
 
-    private boolean mazeContainsValidValues() {
-        return Arrays.stream(maze).allMatch(row ->
-                Arrays.stream(row).allMatch(cell ->
-                        cell >= 0));
+    /**
+     * @return The lowest positive cell value of the Maze (the lowest Edge weight, which A* needs), or
+     * Integer.MAX_VALUE if there is none. Only valid once the Maze has been validated.
+     * */
+    int getMinPositiveValue() {
+        return minPositiveValue;
     }
 
-    private boolean coordinatesAreValid() {
+    boolean coordinatesAreValid() {
         return !(sourceCoordinates.getY() < 0) &&
                 !(sourceCoordinates.getY() >= maze.length) &&
                 !(sourceCoordinates.getX() < 0) &&
                 !(sourceCoordinates.getX() >= maze[0].length);
     }
 
-    private boolean coordinatesValueIsValid() {
+    boolean coordinatesValueIsValid() {
         return maze[(int) sourceCoordinates.getY()]
                 [(int) sourceCoordinates.getX()] > 0;
     }
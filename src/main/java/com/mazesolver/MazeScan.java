@@ -0,0 +1,129 @@
+package com.mazesolver;
+
+import org.apache.log4j.Logger;
+
+/**
+ *
+ * The result of a single, fused pass over a Maze, which finds everything the validation needs
+ * (whether the Maze is empty, rectangular and free of negative values) together with its highest
+ * and lowest positive cell value and its number of positive (traversable) cells.
+ *
+ * Every row is checked for its length first and its cells are then scanned by a CellScanner:
+ * the VectorCellScanner, if the jdk.incubator.vector module is present, else the ScalarCellScanner.
+ * Once a negative value is found, the remaining rows are only checked for their length, as a Maze
+ * of the wrong shape is reported before one with invalid values (same as by InputValidator.validate).
+ *
+ * The lowest positive value is the lowest Edge weight of the Maze, which A* needs for its heuristic,
+ * so it is found here, instead of by another pass over the Maze on every solve (see GridGraph.view).
+ *
+ * */
+final class MazeScan {
+
+    private static final Logger logger = Logger.getLogger(MazeScan.class);
+
+    static final CellScanner SCALAR_SCANNER = new ScalarCellScanner();
+
+    /**
+     * The VectorCellScanner if it can be loaded, else the SCALAR_SCANNER. The Vector API may be turned off
+     * with -Dcom.mazesolver.vectorScan=false.
+     * */
+    static final CellScanner DEFAULT_SCANNER = loadDefaultScanner();
+
+    private final SolveStatus problem;
+
+    private int maxValue;
+    private int minPositiveValue = Integer.MAX_VALUE;
+    private long positiveCellCount;
+
+    private MazeScan(final int[][] maze, final CellScanner scanner) {
+        final int width = maze.length > 0 ? maze[0].length : 0;
+
+        boolean isEmpty = true;
+        boolean isRectangle = true;
+        boolean hasValidValues = true;
+
+        for (int[] row : maze) {
+            if (row.length != 0)
+                isEmpty = false;
+
+            if (row.length != width)
+                isRectangle = false;
+            else if (hasValidValues)
+                hasValidValues = scanner.scanRow(row, this);
+        }
+
+        if (isEmpty)
+            problem = SolveStatus.EMPTY;
+        else if (!isRectangle)
+            problem = SolveStatus.MALFORMED;
+        else if (!hasValidValues)
+            problem = SolveStatus.INVALID_VALUES;
+        else
+            problem = null;
+    }
+
+    static MazeScan of(final int[][] maze) {
+        return new MazeScan(maze, DEFAULT_SCANNER);
+    }
+
+    static MazeScan of(final int[][] maze, final CellScanner scanner) {
+        return new MazeScan(maze, scanner);
+    }
+
+    private static CellScanner loadDefaultScanner() {
+        if ("false".equalsIgnoreCase(System.getProperty("com.mazesolver.vectorScan")) ||
+                !ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            logger.debug("The Vector API is not available. Scanning Mazes one cell at a time.");
+            return SCALAR_SCANNER;
+        }
+
+        try {
+            return (CellScanner) Class.forName("com.mazesolver.VectorCellScanner")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            logger.debug("The VectorCellScanner could not be loaded. Scanning Mazes one cell at a time.", ex);
+            return SCALAR_SCANNER;
+        }
+    }
+
+    /**
+     * Folds the results of one row into the scan. For the CellScanners.
+     * */
+    void fold(final int rowMaxValue, final int rowMinPositiveValue, final int rowPositiveCellCount) {
+        if (rowMaxValue > maxValue)
+            maxValue = rowMaxValue;
+
+        if (rowMinPositiveValue < minPositiveValue)
+            minPositiveValue = rowMinPositiveValue;
+
+        positiveCellCount += rowPositiveCellCount;
+    }
+
+    /**
+     * @return EMPTY, MALFORMED or INVALID_VALUES (in this order), or null if the Maze is valid.
+     * */
+    SolveStatus getProblem() {
+        return problem;
+    }
+
+    /**
+     * @return The highest cell value. Only valid, if the Maze is valid.
+     * */
+    int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * @return The lowest positive cell value, or Integer.MAX_VALUE if there is none. Only valid, if the Maze is valid.
+     * */
+    int getMinPositiveValue() {
+        return minPositiveValue;
+    }
+
+    /**
+     * @return The number of traversable cells. Only valid, if the Maze is valid.
+     * */
+    long getPositiveCellCount() {
+        return positiveCellCount;
+    }
+}
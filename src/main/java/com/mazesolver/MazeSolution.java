@@ -0,0 +1,127 @@
+package com.mazesolver;
+
+import java.awt.*;
+
+/**
+ * A lowest cost path to a Maze exit: its cost, the start and exit cells and the moves between them.
+ *
+ * Each move is stored in 2 bits (4 moves per byte), in the order they are taken, so a path through
+ * a million cells takes 250 KB, instead of a million Point objects. Leaving the Maze through
+ * the exit cell is not a move.
+ * */
+public final class MazeSolution {
+
+    /**
+     * One step to a neighboring cell. North is towards y = 0. The ordinal is the 2 bit code of the move.
+     * */
+    public enum Move {
+        NORTH(0, -1),
+        EAST(1, 0),
+        SOUTH(0, 1),
+        WEST(-1, 0);
+
+        private static final Move[] MOVES = values();
+
+        private final int deltaX;
+        private final int deltaY;
+
+        Move(final int deltaX, final int deltaY) {
+            this.deltaX = deltaX;
+            this.deltaY = deltaY;
+        }
+
+        public int getDeltaX() {
+            return deltaX;
+        }
+
+        public int getDeltaY() {
+            return deltaY;
+        }
+    }
+
+    private final int cost;
+    private final Point startCoordinates;
+    private final Point exitCoordinates;
+    private final byte[] moves;
+    private final int moveCount;
+
+    /**
+     * @param moves The moves, packed by encode. Not copied.
+     * */
+    public MazeSolution(final int cost, final Point startCoordinates, final Point exitCoordinates,
+                        final byte[] moves, final int moveCount) {
+        this.cost = cost;
+        this.startCoordinates = new Point(startCoordinates);
+        this.exitCoordinates = new Point(exitCoordinates);
+        this.moves = moves;
+        this.moveCount = moveCount;
+    }
+
+    /**
+     * @return A buffer for the given number of moves, for encode.
+     * */
+    public static byte[] allocateMoves(final int moveCount) {
+        return new byte[(moveCount + 3) >>> 2];
+    }
+
+    /**
+     * Stores a move at the given index of a buffer from allocateMoves.
+     * */
+    public static void encode(final byte[] moves, final int index, final Move move) {
+        final int shift = (index & 3) << 1;
+
+        moves[index >>> 2] = (byte) (moves[index >>> 2] & ~(3 << shift) | move.ordinal() << shift);
+    }
+
+    /**
+     * @return The value of the lowest cost path to a Maze exit.
+     * */
+    public int getCost() {
+        return cost;
+    }
+
+    public Point getStartCoordinates() {
+        return new Point(startCoordinates);
+    }
+
+    /**
+     * @return The border cell, through which the path leaves the Maze.
+     * */
+    public Point getExitCoordinates() {
+        return new Point(exitCoordinates);
+    }
+
+    /**
+     * @return The number of moves from the start cell to the exit cell (0 if the start is a border cell).
+     * */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public Move getMove(final int index) {
+        if (index < 0 || index >= moveCount)
+            throw new IndexOutOfBoundsException("Move " + index + " of " + moveCount + "!");
+
+        return Move.MOVES[moves[index >>> 2] >>> ((index & 3) << 1) & 3];
+    }
+
+    /**
+     * @return A copy of the packed moves: move i is in bits 2 * (i % 4) and 2 * (i % 4) + 1 of byte i / 4.
+     * */
+    public byte[] getEncodedMoves() {
+        return moves.clone();
+    }
+
+    /**
+     * @return The moves as a String of their initials, e.g. "NNEES".
+     * */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(moveCount);
+
+        for (int i = 0; i < moveCount; i++)
+            builder.append(getMove(i).name().charAt(0));
+
+        return builder.toString();
+    }
+}
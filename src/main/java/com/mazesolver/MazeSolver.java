@@ -1,14 +1,24 @@
 package com.mazesolver;
 
 import com.mazesolver.exception.*;
+import com.mazesolver.graph.MazeComponents;
 import org.apache.log4j.Logger;
 
 import java.awt.*;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public abstract class MazeSolver {
 
     private static final Logger logger = Logger.getLogger(MazeSolver.class);
 
+    /**
+     * Returned by solveOrNoPath, when there is no path to a Maze exit. Costs of solved Mazes are always positive.
+     * */
+    protected static final int NO_PATH = -1;
+
     /**
      *
      * Solves a Rectangular (Square) Maze with Weights for each cell via an implementable algorithm.
@@ -32,11 +42,267 @@ public abstract class MazeSolver {
             InvalidMazeCoordinatesException, InvalidMazeStartPositionException,
             EmptyMazeException, InescapableMazeException, InvalidMazeValuesException {
 
-        logger.info("Initialize Abstract Maze Solver.");
+        logger.debug("Initialize Abstract Maze Solver.");
 
         final Point sourceCoordinates = new Point(x, y);
+        final CellValues cellValues = validate(maze, sourceCoordinates);
+
+        return solve(maze, cellValues.getMaxValue(), cellValues.getMinPositiveValue(), sourceCoordinates);
+    }
+
+    /**
+     *
+     * Like solve(maze, x, y), but never throws: every problem, which solve would throw an Exception for,
+     * is reported by the SolveStatus of the result instead. For workloads, in which invalid and inescapable
+     * inputs are routine, so that they cost about as much as valid ones.
+     *
+     * @return The cost of the lowest cost path to a Maze exit, or the SolveStatus of the problem.
+     * */
+    public SolveResult solveResult(final int[][] maze, final int x, final int y) {
+
+        final Point sourceCoordinates = new Point(x, y);
+        final InputValidator validator = new InputValidator(maze, sourceCoordinates);
+        final SolveStatus problem = validator.check();
+
+        if (problem != null) {
+            logger.debug("Input validation has failed with: " + problem + ".");
+            return SolveResult.failed(problem);
+        }
+
+        final int cost = solveOrNoPath(maze, validator.getMaxValue(), validator.getMinPositiveValue(),
+                sourceCoordinates);
+
+        return cost == NO_PATH ? SolveResult.failed(SolveStatus.INESCAPABLE) : SolveResult.solved(cost);
+    }
+
+    /**
+     *
+     * Labels the connected components of a Maze once (see MazeComponents), for solve(components, x, y).
+     *
+     * NOTE: Input validation of the Maze is performed and different Exceptions may be thrown.
+     * */
+    public static MazeComponents labelComponents(final int[][] maze) throws MalformedMazeException,
+            EmptyMazeException, InvalidMazeValuesException {
+
+        validateMaze(maze);
+
+        return new MazeComponents(maze);
+    }
+
+    /**
+     *
+     * Like solve(maze, x, y), for the Maze of already labelled components, which are meant to be kept
+     * for many solves of the same Maze. The Maze is not validated again and a start, whose component
+     * has no border cell, is rejected in O(1), without building a graph or running a search.
+     * */
+    public int solve(final MazeComponents components, final int x, final int y)
+            throws InvalidMazeCoordinatesException, InvalidMazeStartPositionException, InescapableMazeException {
+
+        final int[][] maze = components.getMaze();
+        final Point sourceCoordinates = new Point(x, y);
+        final InputValidator validator = new InputValidator(maze, sourceCoordinates);
+
+        if (!validator.coordinatesAreValid())
+            throw new InvalidMazeCoordinatesException(maze, sourceCoordinates);
+
+        if (!validator.coordinatesValueIsValid())
+            throw new InvalidMazeStartPositionException(maze, sourceCoordinates);
+
+        if (!components.isEscapable(x, y)) {
+            logger.debug("The component of the start coordinates has no border cell.");
+            throw new InescapableMazeException(maze, sourceCoordinates);
+        }
+
+        return solve(maze, components.getMaxCellValue(), components.getMinCellValue(), sourceCoordinates);
+    }
+
+    /**
+     *
+     * Solves the same Maze from many start coordinates, in parallel on the common ForkJoinPool.
+     * See solveAll(maze, xs, ys, pool).
+     * */
+    public BatchSolveResult solveAll(final int[][] maze, final int[] xs, final int[] ys)
+            throws MalformedMazeException, EmptyMazeException, InvalidMazeValuesException {
+        return solveAll(maze, xs, ys, ForkJoinPool.commonPool());
+    }
+
+    /**
+     *
+     * Solves the same Maze from many start coordinates, in parallel on the common ForkJoinPool.
+     * See solveAll(maze, xs, ys, pool).
+     * */
+    public BatchSolveResult solveAll(final int[][] maze, final List<Point> sourceCoordinates)
+            throws MalformedMazeException, EmptyMazeException, InvalidMazeValuesException {
+        final int[] xs = new int[sourceCoordinates.size()];
+        final int[] ys = new int[sourceCoordinates.size()];
+
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = (int) sourceCoordinates.get(i).getX();
+            ys[i] = (int) sourceCoordinates.get(i).getY();
+        }
+
+        return solveAll(maze, xs, ys, ForkJoinPool.commonPool());
+    }
+
+    /**
+     *
+     * Solves the same Maze from many start coordinates.
+     *
+     * The Maze is validated and prepared (see prepare) only once and the prepared Maze is then
+     * shared, read-only, by all starts, which are solved in parallel on the given ForkJoinPool.
+     *
+     * NOTE: Problems with the Maze itself still throw, as they affect every start. Problems with a
+     * single start do not - they are reported by the SolveStatus of that start instead.
+     *
+     * The connected components of the Maze are labelled once as well (see MazeComponents), so starts,
+     * which can not reach a border cell, are reported as INESCAPABLE without being solved.
+     *
+     * @param xs - X axis coordinates of the starts.
+     * @param ys - Y axis coordinates of the starts. Must have the same length as xs.
+     *
+     * @return The cost & SolveStatus for each start, in the order of xs & ys.
+     * */
+    public BatchSolveResult solveAll(final int[][] maze, final int[] xs, final int[] ys,
+                                     final ForkJoinPool pool)
+            throws MalformedMazeException, EmptyMazeException, InvalidMazeValuesException {
+
+        if (xs.length != ys.length)
+            throw new IllegalArgumentException("There must be as many X as Y coordinates!");
+
+        logger.debug("Initialize batch solve of " + xs.length + " start coordinates.");
+
+        validateMaze(maze);
+
+        final MazeComponents components = new MazeComponents(maze);
+        final PreparedMaze preparedMaze = prepare(maze);
+        final BatchSolveResult result = new BatchSolveResult(xs.length);
+
+        Objects.requireNonNull(pool).invoke(
+                new BatchSolveTask(maze, components, preparedMaze, xs, ys, result, 0, xs.length));
 
-        logger.info("Passing input Maze and source coordinates to Validator.");
+        logger.info("Batch solve of " + xs.length + " start coordinates completed.");
+
+        return result;
+    }
+
+    /**
+     * Solves the starts in [from, to) of a batch, splitting the range in two until it is small enough.
+     * */
+    private static final class BatchSolveTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final int SEQUENTIAL_THRESHOLD = 4;
+
+        private final int[][] maze;
+        private final MazeComponents components;
+        private final PreparedMaze preparedMaze;
+        private final int[] xs;
+        private final int[] ys;
+        private final BatchSolveResult result;
+        private final int from;
+        private final int to;
+
+        private BatchSolveTask(final int[][] maze, final MazeComponents components, final PreparedMaze preparedMaze,
+                               final int[] xs, final int[] ys, final BatchSolveResult result,
+                               final int from, final int to) {
+            this.maze = maze;
+            this.components = components;
+            this.preparedMaze = preparedMaze;
+            this.xs = xs;
+            this.ys = ys;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                final int middle = (from + to) >>> 1;
+
+                invokeAll(new BatchSolveTask(maze, components, preparedMaze, xs, ys, result, from, middle),
+                        new BatchSolveTask(maze, components, preparedMaze, xs, ys, result, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                final Point sourceCoordinates = new Point(xs[i], ys[i]);
+                final InputValidator validator = new InputValidator(maze, sourceCoordinates);
+
+                if (!validator.coordinatesAreValid()) {
+                    result.setFailed(i, SolveStatus.BAD_COORDINATES);
+                } else if (!validator.coordinatesValueIsValid()) {
+                    result.setFailed(i, SolveStatus.BAD_START);
+                } else if (!components.isEscapable(xs[i], ys[i])) {
+                    result.setFailed(i, SolveStatus.INESCAPABLE);
+                } else {
+                    try {
+                        result.setSolved(i, preparedMaze.solve(sourceCoordinates));
+                    } catch (InescapableMazeException ex) {
+                        result.setFailed(i, SolveStatus.INESCAPABLE);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A Maze, which has been prepared by an implementing algorithm, in order to be solved from
+     * many start coordinates. Must be safe to solve from several threads at once.
+     * */
+    protected interface PreparedMaze {
+
+        /**
+         * @param sourceCoordinates - Already validated X & Y axis coordinates for the Maze.
+         * */
+        int solve(final Point sourceCoordinates) throws InescapableMazeException;
+    }
+
+    /**
+     * Prepares a validated Maze to be solved from many start coordinates.
+     *
+     * By default nothing is prepared and each start is simply passed to solve(maze, sourceCoordinates).
+     * Implementing algorithms should override this, when part of their work does not depend on the
+     * start coordinates (e.g. building a graph of the Maze).
+     * */
+    protected PreparedMaze prepare(final int[][] maze) {
+        return sourceCoordinates -> solve(maze, sourceCoordinates);
+    }
+
+    /**
+     * The highest and the lowest positive cell value of a Maze, as found by its validation.
+     * */
+    protected static final class CellValues {
+
+        private final int maxValue;
+        private final int minPositiveValue;
+
+        private CellValues(final int maxValue, final int minPositiveValue) {
+            this.maxValue = maxValue;
+            this.minPositiveValue = minPositiveValue;
+        }
+
+        public int getMaxValue() {
+            return maxValue;
+        }
+
+        public int getMinPositiveValue() {
+            return minPositiveValue;
+        }
+    }
+
+    /**
+     * Validates the Maze and the start coordinates.
+     * For implementing algorithms, which offer other entry points than solve.
+     *
+     * @return The highest and the lowest positive cell value of the Maze.
+     * */
+    protected static CellValues validate(final int[][] maze, final Point sourceCoordinates) throws MalformedMazeException,
+            InvalidMazeCoordinatesException, InvalidMazeStartPositionException,
+            EmptyMazeException, InvalidMazeValuesException {
+
+        logger.debug("Passing input Maze and source coordinates to Validator.");
 
         final InputValidator validator = new InputValidator(maze, sourceCoordinates);
 
@@ -50,9 +316,55 @@ public abstract class MazeSolver {
             throw ex;
         }
 
+        return new CellValues(validator.getMaxValue(), validator.getMinPositiveValue());
+    }
+
+    /**
+     * Validates only the Maze itself (i.e. no start coordinates).
+     * For implementing algorithms, which prepare something for a Maze, before any start coordinates are known.
+     *
+     * */
+    protected static void validateMaze(final int[][] maze) throws MalformedMazeException,
+            EmptyMazeException, InvalidMazeValuesException {
+
+        logger.debug("Passing input Maze to Validator.");
+
+        try {
+            new InputValidator(maze, null).validateMaze();
+        } catch (MalformedMazeException | EmptyMazeException | InvalidMazeValuesException ex) {
+            logger.fatal("Input validation of Maze has failed! Terminating.");
+
+            throw ex;
+        }
+    }
+
+    /**
+     * Solves a validated Maze, whose highest and lowest positive cell value have been found by the validation.
+     *
+     * By default, the cell values are not used. Implementing algorithms, which pick a queue or a heuristic
+     * by them (see GridGraph.view), override this, so that they do not have to find them again.
+     * */
+    protected int solve(final int[][] maze, final int maxCellValue, final int minCellValue,
+                        final Point sourceCoordinates) throws InescapableMazeException {
         return solve(maze, sourceCoordinates);
     }
 
+    /**
+     * Like solve(maze, maxCellValue, minCellValue, sourceCoordinates), but returns NO_PATH instead of throwing an
+     * InescapableMazeException.
+     *
+     * By default, the Exception is simply caught. Implementing algorithms, which find out that there is no path
+     * without an Exception, override this, so that solveResult does not create one.
+     * */
+    protected int solveOrNoPath(final int[][] maze, final int maxCellValue, final int minCellValue,
+                                final Point sourceCoordinates) {
+        try {
+            return solve(maze, maxCellValue, minCellValue, sourceCoordinates);
+        } catch (InescapableMazeException ex) {
+            return NO_PATH;
+        }
+    }
+
     /**
      * Abstract solve function, which can be implemented by any algorithm.
      *
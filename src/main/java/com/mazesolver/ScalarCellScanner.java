@@ -0,0 +1,44 @@
+package com.mazesolver;
+
+/**
+ * Scans one cell at a time. Used when the Vector API is not available (see VectorCellScanner).
+ *
+ * Walls are as common as traversable cells, so nothing branches on them: negative values are found by their
+ * sign bit, which is OR-ed over the whole row and checked once at its end, and a positive cell counts as 1,
+ * the sign bit of its negation. The highest and lowest positive value keep their branches, which are almost
+ * never taken once the first few cells have been seen - branch-free Math.max/min reductions would compile
+ * into one long chain of conditional moves instead.
+ *
+ * For the lowest positive value, every cell is mapped to cell - 1 + Integer.MIN_VALUE, which keeps the order
+ * of the positive values and maps a wall (0) to Integer.MAX_VALUE, so that a single compare skips it.
+ * */
+final class ScalarCellScanner implements CellScanner {
+
+    @Override
+    public boolean scanRow(final int[] row, final MazeScan scan) {
+        int signBits = 0;
+        int maxValue = 0;
+        int minPositiveKey = Integer.MAX_VALUE;
+        int positiveCellCount = 0;
+
+        for (int cell : row) {
+            final int positiveKey = cell - 1 + Integer.MIN_VALUE;
+
+            signBits |= cell;
+            positiveCellCount += -cell >>> 31;
+
+            if (cell > maxValue)
+                maxValue = cell;
+
+            if (positiveKey < minPositiveKey)
+                minPositiveKey = positiveKey;
+        }
+
+        if (signBits < 0)
+            return false;
+
+        scan.fold(maxValue, minPositiveKey == Integer.MAX_VALUE ? Integer.MAX_VALUE :
+                minPositiveKey - Integer.MIN_VALUE + 1, positiveCellCount);
+        return true;
+    }
+}
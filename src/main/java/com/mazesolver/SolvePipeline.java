@@ -0,0 +1,434 @@
+package com.mazesolver;
+
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.io.SolveRequest;
+import org.apache.log4j.Logger;
+
+import java.awt.*;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * Solves a stream of Mazes - one JSON solve request per line (see SolveRequest.parseJson) - and writes one
+ * JSON result per line: {"line": 1, "status": "SOLVED", "cost": 15}, or {"line": 1, "error": "..."} for a line,
+ * which can not be parsed. Lines are numbered from 1 and blank lines are skipped.
+ *
+ * Five stages, each on its own thread(s), connected by bounded queues:
+ *
+ *      read (1 thread) -> parse (n) -> validate (n) -> solve (n) -> write (1 thread)
+ *
+ * - validate runs the same checks as MazeSolver.solve (see InputValidator.check), but reports problems
+ * by their SolveStatus, same as MazeSolver.solveResult.
+ * - solve uses MazeSolver.solveOrNoPath, so inescapable Mazes do not throw.
+ *
+ * Memory stays constant, whatever the size of the input: the reader may only be 4 * queueCapacity lines ahead
+ * of the writer. This also bounds the results, which wait for an earlier line, when the order of the input
+ * is preserved.
+ *
+ * The StageStats of every stage (items processed, time busy, queue depth) may be read while the pipeline
+ * runs and are logged once it is done.
+ *
+ * A pipeline may only be run once.
+ *
+ * */
+public final class SolvePipeline {
+
+    private static final Logger logger = Logger.getLogger(SolvePipeline.class);
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private final MazeSolver solver;
+    private final int workerThreadCount;
+    private final int queueCapacity;
+    private final boolean preserveOrder;
+    private final Semaphore inFlightLines;
+
+    private final StageStats[] stageStats = {
+            new StageStats("read"), new StageStats("parse"), new StageStats("validate"),
+            new StageStats("solve"), new StageStats("write")
+    };
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    private final List<Thread> threads = new ArrayList<Thread>();
+
+    /**
+     * Uses the DEFAULT_QUEUE_CAPACITY and as many parse, validate and solve threads as there are processors.
+     * */
+    public SolvePipeline(final MazeSolver solver, final boolean preserveOrder) {
+        this(solver, Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY, preserveOrder);
+    }
+
+    /**
+     * @param workerThreadCount The number of threads of each of the parse, validate and solve stages. Positive.
+     * @param queueCapacity The capacity of the queue in front of each stage. Positive. At most
+     *                      4 * queueCapacity lines are in flight at once.
+     * @param preserveOrder Whether the results are written in the order of the input lines, or as soon as
+     *                      they are solved.
+     * */
+    public SolvePipeline(final MazeSolver solver, final int workerThreadCount, final int queueCapacity,
+                         final boolean preserveOrder) {
+
+        if (workerThreadCount < 1)
+            throw new IllegalArgumentException("The worker thread count must be positive!");
+
+        if (queueCapacity < 1)
+            throw new IllegalArgumentException("The queue capacity must be positive!");
+
+        this.solver = Objects.requireNonNull(solver);
+        this.workerThreadCount = workerThreadCount;
+        this.queueCapacity = queueCapacity;
+        this.preserveOrder = preserveOrder;
+        this.inFlightLines = new Semaphore(4 * queueCapacity);
+    }
+
+    /**
+     * Solves a JSON-lines file with the DijkstraMazeSolver.
+     *
+     * @param args input file, output file, [preserve order: true / false] - true, if not given.
+     * */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length < 2)
+            throw new IllegalArgumentException("Usage: SolvePipeline <input file> <output file> [preserve order]");
+
+        try (BufferedReader input = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+             BufferedWriter output = Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+
+            new SolvePipeline(new DijkstraMazeSolver(), args.length < 3 || Boolean.parseBoolean(args[2]))
+                    .run(input, output);
+        }
+    }
+
+    /**
+     * One line of the input, as it passes through the stages.
+     * */
+    private static final class Job {
+
+        private static final Job END = new Job(-1, -1, null);
+
+        private final long sequenceNumber; //Counts the Jobs, without the blank lines
+        private final long lineNumber;
+        private String line;
+        private SolveRequest request;
+        private int maxCellValue;
+        private int minCellValue;
+        private SolveStatus status;
+        private int cost = -1;
+        private String error;
+
+        private Job(final long sequenceNumber, final long lineNumber, final String line) {
+            this.sequenceNumber = sequenceNumber;
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+
+        private boolean hasFailed() {
+            return status != null || error != null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface StageFunction {
+
+        void process(final Job job) throws IOException;
+    }
+
+    /**
+     * Reads, solves and writes every line of the input. Blocks until every line has been written.
+     * Neither the input, nor the output are closed.
+     *
+     * @throws IOException If the input can not be read or the output can not be written.
+     * */
+    public void run(final BufferedReader input, final Writer output) throws IOException, InterruptedException {
+        final long startNanos = System.nanoTime();
+
+        final BlockingQueue<Job> parseQueue = new ArrayBlockingQueue<Job>(queueCapacity);
+        final BlockingQueue<Job> validateQueue = new ArrayBlockingQueue<Job>(queueCapacity);
+        final BlockingQueue<Job> solveQueue = new ArrayBlockingQueue<Job>(queueCapacity);
+        final BlockingQueue<Job> writeQueue = new ArrayBlockingQueue<Job>(queueCapacity);
+
+        stageStats[1].queue = parseQueue;
+        stageStats[2].queue = validateQueue;
+        stageStats[3].queue = solveQueue;
+        stageStats[4].queue = writeQueue;
+
+        createThread("read", () -> read(input, parseQueue));
+        createStage(stageStats[1], parseQueue, validateQueue, this::parse);
+        createStage(stageStats[2], validateQueue, solveQueue, this::validate);
+        createStage(stageStats[3], solveQueue, writeQueue, this::solve);
+        createThread("write", () -> write(writeQueue, output));
+
+        //Only once all of them exist, so that a failure can interrupt every one of them.
+        for (Thread thread : threads)
+            thread.start();
+
+        try {
+            for (Thread thread : threads)
+                thread.join();
+        } catch (InterruptedException ex) {
+            fail(ex);
+            throw ex;
+        }
+
+        final long elapsedNanos = System.nanoTime() - startNanos;
+
+        for (StageStats stats : stageStats)
+            logger.info("Stage " + stats.name + ": " + stats.getProcessedCount() + " lines, " +
+                    (long) stats.getThroughput(elapsedNanos) + " lines/s, busy " +
+                    stats.getBusyNanos() / 1_000_000 + " ms, max queue depth " + stats.getMaxQueueDepth() + ".");
+
+        final Throwable cause = failure.get();
+
+        if (cause instanceof IOException)
+            throw (IOException) cause;
+
+        if (cause instanceof RuntimeException)
+            throw (RuntimeException) cause;
+
+        if (cause instanceof Error)
+            throw (Error) cause;
+
+        if (cause != null)
+            throw new IOException("The pipeline has failed.", cause);
+    }
+
+    private void read(final BufferedReader input, final BlockingQueue<Job> parseQueue)
+            throws IOException, InterruptedException {
+        final StageStats stats = stageStats[0];
+        long sequenceNumber = 0;
+        long lineNumber = 0;
+
+        while (true) {
+            inFlightLines.acquire();
+
+            final long stageStartNanos = System.nanoTime();
+            String line;
+
+            do {
+                line = input.readLine();
+                lineNumber++;
+            } while (line != null && line.trim().isEmpty());
+
+            if (line == null)
+                break;
+
+            stats.record(stageStartNanos);
+            parseQueue.put(new Job(sequenceNumber++, lineNumber, line));
+        }
+
+        parseQueue.put(Job.END);
+    }
+
+    private void parse(final Job job) {
+        try {
+            job.request = SolveRequest.parseJson(job.line);
+        } catch (IOException ex) {
+            job.error = ex.getMessage();
+        }
+
+        job.line = null;
+    }
+
+    private void validate(final Job job) {
+        final SolveRequest request = job.request;
+        final InputValidator validator = new InputValidator(request.getMaze(),
+                new Point(request.getX(), request.getY()));
+
+        job.status = validator.check();
+        job.maxCellValue = validator.getMaxValue();
+        job.minCellValue = validator.getMinPositiveValue();
+    }
+
+    private void solve(final Job job) {
+        final SolveRequest request = job.request;
+        final int cost = solver.solveOrNoPath(request.getMaze(), job.maxCellValue, job.minCellValue,
+                new Point(request.getX(), request.getY()));
+
+        job.status = cost == MazeSolver.NO_PATH ? SolveStatus.INESCAPABLE : SolveStatus.SOLVED;
+        job.cost = cost;
+        job.request = null;
+    }
+
+    private void write(final BlockingQueue<Job> writeQueue, final Writer output)
+            throws IOException, InterruptedException {
+        final StageStats stats = stageStats[4];
+        final Map<Long, Job> waitingJobs = new HashMap<Long, Job>(); //Solved ahead of an earlier line
+        long nextSequenceNumber = 0;
+
+        for (Job job = writeQueue.take(); job != Job.END; job = writeQueue.take()) {
+            final long stageStartNanos = System.nanoTime();
+
+            if (!preserveOrder) {
+                writeResult(job, output);
+            } else {
+                waitingJobs.put(job.sequenceNumber, job);
+
+                for (Job nextJob = waitingJobs.remove(nextSequenceNumber); nextJob != null;
+                     nextJob = waitingJobs.remove(++nextSequenceNumber))
+                    writeResult(nextJob, output);
+            }
+
+            stats.record(stageStartNanos);
+        }
+
+        output.flush();
+    }
+
+    private void writeResult(final Job job, final Writer output) throws IOException {
+        if (job.error != null)
+            output.write("{\"line\": " + job.lineNumber + ", \"error\": \"" +
+                    SolveRequest.escapeJson(job.error) + "\"}\n");
+        else
+            output.write("{\"line\": " + job.lineNumber + ", \"status\": \"" + job.status + "\", \"cost\": " +
+                    job.cost + "}\n");
+
+        inFlightLines.release();
+    }
+
+    @FunctionalInterface
+    private interface Task {
+
+        void run() throws Exception;
+    }
+
+    private void createThread(final String name, final Task task) {
+        final Thread thread = new Thread(() -> {
+            try {
+                task.run();
+            } catch (Throwable ex) {
+                fail(ex);
+            }
+        }, "solve-pipeline-" + name);
+
+        threads.add(thread);
+    }
+
+    /**
+     * Creates the threads of a stage. Jobs, which have already failed (a line, which can not be parsed,
+     * or an invalid Maze), are passed on untouched. The last thread of the stage to see the END passes it on.
+     * */
+    private void createStage(final StageStats stats, final BlockingQueue<Job> input, final BlockingQueue<Job> output,
+                            final StageFunction function) {
+        final AtomicInteger runningThreadCount = new AtomicInteger(workerThreadCount);
+
+        for (int i = 0; i < workerThreadCount; i++) {
+            createThread(stats.name + "-" + i, () -> {
+                for (Job job = input.take(); job != Job.END; job = input.take()) {
+                    final long stageStartNanos = System.nanoTime();
+
+                    if (!job.hasFailed())
+                        function.process(job);
+
+                    stats.record(stageStartNanos);
+                    output.put(job);
+                }
+
+                input.put(Job.END); //For the other threads of the stage
+
+                if (runningThreadCount.decrementAndGet() == 0) {
+                    input.clear();
+                    output.put(Job.END);
+                }
+            });
+        }
+    }
+
+    /**
+     * Records the first failure and stops every thread.
+     * */
+    private void fail(final Throwable cause) {
+        if (failure.compareAndSet(null, cause)) {
+            logger.error("The solve pipeline has failed. Stopping.", cause);
+
+            for (Thread thread : threads)
+                thread.interrupt();
+        }
+    }
+
+    /**
+     * @return The StageStats of the read, parse, validate, solve and write stages, in this order.
+     * */
+    public List<StageStats> getStageStats() {
+        return List.of(stageStats);
+    }
+
+    /**
+     * The counters of one stage. Thread-safe.
+     * */
+    public static final class StageStats {
+
+        private final String name;
+        private final LongAdder processedCount = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+        private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+        private volatile BlockingQueue<Job> queue; //In front of the stage, null for read
+
+        private StageStats(final String name) {
+            this.name = name;
+        }
+
+        private void record(final long stageStartNanos) {
+            processedCount.increment();
+            busyNanos.add(System.nanoTime() - stageStartNanos);
+            maxQueueDepth.accumulateAndGet(getQueueDepth(), Math::max);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The number of lines, which have passed through the stage.
+         * */
+        public long getProcessedCount() {
+            return processedCount.sum();
+        }
+
+        /**
+         * @return The time, which the threads of the stage spent on lines (not waiting for them), summed up.
+         * */
+        public long getBusyNanos() {
+            return busyNanos.sum();
+        }
+
+        /**
+         * @return The number of lines, which are waiting in the queue in front of the stage.
+         * */
+        public int getQueueDepth() {
+            final BlockingQueue<Job> queue = this.queue;
+
+            return queue == null ? 0 : queue.size();
+        }
+
+        /**
+         * @return The deepest the queue in front of the stage has been, when a line passed through the stage.
+         * */
+        public int getMaxQueueDepth() {
+            return maxQueueDepth.get();
+        }
+
+        /**
+         * @return The lines per second, which passed through the stage in the given time.
+         * */
+        public double getThroughput(final long elapsedNanos) {
+            return elapsedNanos <= 0 ? 0 : getProcessedCount() / (elapsedNanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.mazesolver;
+
+/**
+ * The result of MazeSolver.solveResult - the cost of the lowest cost path to a Maze exit,
+ * or the SolveStatus, which explains why there is none.
+ *
+ * Failures carry no cost, so there is only one (shared) result per failed SolveStatus and a failed
+ * solve allocates nothing for its result.
+ * */
+public final class SolveResult {
+
+    private static final SolveResult[] FAILURES = new SolveResult[SolveStatus.values().length];
+
+    static {
+        for (SolveStatus status : SolveStatus.values())
+            if (status != SolveStatus.SOLVED)
+                FAILURES[status.ordinal()] = new SolveResult(-1, status);
+    }
+
+    private final int cost;
+    private final SolveStatus status;
+
+    private SolveResult(final int cost, final SolveStatus status) {
+        this.cost = cost;
+        this.status = status;
+    }
+
+    static SolveResult solved(final int cost) {
+        return new SolveResult(cost, SolveStatus.SOLVED);
+    }
+
+    static SolveResult failed(final SolveStatus status) {
+        if (status == SolveStatus.SOLVED)
+            throw new IllegalArgumentException("A failed result can not be SOLVED!");
+
+        return FAILURES[status.ordinal()];
+    }
+
+    /**
+     * @return The result of the start at the given index of a batch (see MazeSolver.solveAll).
+     * */
+    public static SolveResult of(final BatchSolveResult results, final int index) {
+        return results.isSolved(index) ? solved(results.getCost(index)) : failed(results.getStatus(index));
+    }
+
+    /**
+     * @return The value of the lowest cost path to a Maze exit, or -1 if it was not SOLVED.
+     * */
+    public int getCost() {
+        return cost;
+    }
+
+    public SolveStatus getStatus() {
+        return status;
+    }
+
+    public boolean isSolved() {
+        return status == SolveStatus.SOLVED;
+    }
+
+    @Override
+    public String toString() {
+        return isSolved() ? String.valueOf(cost) : status.name();
+    }
+}
@@ -0,0 +1,45 @@
+package com.mazesolver;
+
+/**
+ * The outcome of solving a Maze from one set of start coordinates, for APIs which report
+ * failures as values instead of throwing an Exception per start.
+ *
+ * Each failure corresponds to the Exception, which MazeSolver.solve would throw in that case.
+ * */
+public enum SolveStatus {
+
+    /**
+     * A path to a Maze exit was found and its cost is available.
+     * */
+    SOLVED,
+
+    /**
+     * The start coordinates are not within the Maze. See InvalidMazeCoordinatesException.
+     * */
+    BAD_COORDINATES,
+
+    /**
+     * The start coordinates point to a cell, which can not be traversed. See InvalidMazeStartPositionException.
+     * */
+    BAD_START,
+
+    /**
+     * There is no path to a Maze exit from the start coordinates. See InescapableMazeException.
+     * */
+    INESCAPABLE,
+
+    /**
+     * The Maze has no cells. See EmptyMazeException.
+     * */
+    EMPTY,
+
+    /**
+     * The Maze is not rectangular. See MalformedMazeException.
+     * */
+    MALFORMED,
+
+    /**
+     * The Maze contains negative cell values. See InvalidMazeValuesException.
+     * */
+    INVALID_VALUES
+}
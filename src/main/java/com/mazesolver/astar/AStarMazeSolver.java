@@ -0,0 +1,256 @@
+package com.mazesolver.astar;
+
+import com.mazesolver.MazeSolver;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.EmptyMazeException;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.InvalidMazeCoordinatesException;
+import com.mazesolver.exception.InvalidMazeStartPositionException;
+import com.mazesolver.exception.InvalidMazeValuesException;
+import com.mazesolver.exception.MalformedMazeException;
+import com.mazesolver.graph.GridGraph;
+import com.mazesolver.graph.IntPriorityQueue;
+import com.mazesolver.graph.MazeGrid;
+import com.mazesolver.graph.SearchWorkspace;
+import org.apache.log4j.Logger;
+
+import java.awt.*;
+
+/**
+ *
+ * Solves a Maze with the A* Algorithm on a GridGraph.
+ *
+ * Heuristic: every path from a cell to the exit Vertex leaves at least
+ * (steps to the nearest border cell + 1) cells, each at a cost of at least the lowest cell value.
+ * So the heuristic of a cell is:
+ *
+ *      (min(x, y, width - 1 - x, height - 1 - y) + 1) * lowestCellValue
+ *
+ * and 0 for the exit Vertex. It never overestimates and is consistent (it changes by at most
+ * lowestCellValue per step, while every step costs at least that much), so the first time the
+ * exit Vertex is settled, its distance is the same lowest cost, which Dijkstra's Algorithm finds.
+ *
+ * Starts deep inside a large Maze settle (expand) far fewer cells than Dijkstra's Algorithm,
+ * as cells, which lead away from every border, are pushed back in the queue.
+ *
+ * As the heuristic is consistent, the queued keys (distance + heuristic) also never drop and grow by at
+ * most highestCellValue + lowestCellValue per step. So a DialBucketQueue can be used for small cell values,
+ * same as in the IMPLICIT_GRID Engine of DijkstraMazeSolver.
+ *
+ * Thread-safe, with a SearchWorkspace per thread, same as DijkstraMazeSolver.
+ *
+ * */
+public final class AStarMazeSolver extends MazeSolver {
+
+    private static final Logger logger = Logger.getLogger(AStarMazeSolver.class);
+
+    private final int bucketQueueThreshold;
+    private final ThreadLocal<SearchWorkspace> workspaces;
+
+    /**
+     * Uses the DijkstraMazeSolver.DEFAULT_BUCKET_QUEUE_THRESHOLD.
+     * */
+    public AStarMazeSolver() {
+        this(DijkstraMazeSolver.DEFAULT_BUCKET_QUEUE_THRESHOLD);
+    }
+
+    /**
+     * Uses the DijkstraMazeSolver.DEFAULT_MAX_RETAINED_WORKSPACE_VERTEXES.
+     * */
+    public AStarMazeSolver(final int bucketQueueThreshold) {
+        this(bucketQueueThreshold, DijkstraMazeSolver.DEFAULT_MAX_RETAINED_WORKSPACE_VERTEXES);
+    }
+
+    /**
+     * @param bucketQueueThreshold Uses a DialBucketQueue for Mazes, whose highest cell value is below
+     *                             this threshold, and an IndexedBinaryHeap for all others.
+     *                             0 - Always use the IndexedBinaryHeap.
+     * @param maxRetainedWorkspaceVertexes The largest Maze (in Vertexes), whose SearchWorkspace is kept
+     *                                     by a thread for its next solve. 0 - Never keep a workspace.
+     * */
+    public AStarMazeSolver(final int bucketQueueThreshold, final int maxRetainedWorkspaceVertexes) {
+        if (bucketQueueThreshold < 0)
+            throw new IllegalArgumentException("The bucket queue threshold must be non-negative!");
+
+        if (maxRetainedWorkspaceVertexes < 0)
+            throw new IllegalArgumentException("The maximum retained workspace Vertexes must be non-negative!");
+
+        this.bucketQueueThreshold = bucketQueueThreshold;
+        this.workspaces = ThreadLocal.withInitial(() -> new SearchWorkspace(maxRetainedWorkspaceVertexes));
+    }
+
+    /**
+     *
+     * Solves a Rectangular (Square) Maze with Weights for each cell via the A* Algorithm.
+     * The point is to find the lowest cost path to a Maze exit (a border cell).
+     *
+     * @param maze - A <b>rectangular</b> 2D Maze of non-negative Integers.
+     *             0 - Denotes a space, which can not be traversed.
+     *             >0 - Denotes a space, which can be traversed, however a certain cost is incurred
+     *
+     * @param sourceCoordinates - X & Y axis coordinates for the Maze. Must be positive and within array bounds.
+     *
+     * @return The value of the lowest cost path to a Maze exit. In case of NoPath, an exception is thrown
+     * and no result is returned.
+     * */
+    protected int solve(final int[][] maze, final Point sourceCoordinates) throws InescapableMazeException {
+        return solve(maze, MazeGrid.findMaxValue(maze), MazeGrid.findMinPositiveValue(maze), sourceCoordinates);
+    }
+
+    /**
+     * The highest cell value (found by the validation) picks the queue, the lowest positive one scales the heuristic.
+     * */
+    @Override
+    protected int solve(final int[][] maze, final int maxCellValue, final int minCellValue,
+                        final Point sourceCoordinates) throws InescapableMazeException {
+
+        logger.debug("Initialize A* Maze Solver.");
+
+        //A single solve reads the cells straight from the Maze.
+        final SearchWorkspace workspace = workspaces.get();
+        final GridGraph graph = GridGraph.view(maze, maxCellValue, minCellValue);
+
+        return solve(maze, graph, sourceCoordinates, workspace);
+    }
+
+    /**
+     * Finds out that there is no path to a Maze exit without an Exception.
+     * */
+    @Override
+    protected int solveOrNoPath(final int[][] maze, final int maxCellValue, final int minCellValue,
+                                final Point sourceCoordinates) {
+
+        logger.debug("Initialize A* Maze Solver.");
+
+        final SearchWorkspace workspace = workspaces.get();
+        final GridGraph graph = GridGraph.view(maze, maxCellValue, minCellValue);
+        final int exitDistance = search(graph, sourceCoordinates, workspace).getCost();
+
+        return exitDistance == Integer.MAX_VALUE ? NO_PATH : exitDistance;
+    }
+
+    /**
+     * Builds the GridGraph once. It is only read afterwards, so the PreparedMaze may be solved
+     * from several threads.
+     * */
+    @Override
+    protected PreparedMaze prepare(final int[][] maze) {
+
+        logger.debug("Initialize A* Maze Solver.");
+
+        final GridGraph graph = new GridGraph(maze);
+
+        return sourceCoordinates -> solve(maze, graph, sourceCoordinates, workspaces.get());
+    }
+
+    /**
+     *
+     * Like solve(maze, x, y), but also returns the number of cells, which the solve expanded (see AStarSolution).
+     * */
+    public AStarSolution solveWithExpandedCount(final int[][] maze, final int x, final int y)
+            throws MalformedMazeException, InvalidMazeCoordinatesException, InvalidMazeStartPositionException,
+            EmptyMazeException, InescapableMazeException, InvalidMazeValuesException {
+
+        final Point sourceCoordinates = new Point(x, y);
+        final CellValues cellValues = validate(maze, sourceCoordinates);
+        final GridGraph graph = GridGraph.view(maze, cellValues.getMaxValue(), cellValues.getMinPositiveValue());
+
+        logger.debug("Initialize A* Maze Solver.");
+
+        return checkEscapable(maze, sourceCoordinates, search(graph, sourceCoordinates, workspaces.get()));
+    }
+
+    private int solve(final int[][] maze, final GridGraph graph, final Point sourceCoordinates,
+                      final SearchWorkspace workspace) throws InescapableMazeException {
+
+        return checkEscapable(maze, sourceCoordinates, search(graph, sourceCoordinates, workspace)).getCost();
+    }
+
+    private static AStarSolution checkEscapable(final int[][] maze, final Point sourceCoordinates,
+                                                final AStarSolution solution) throws InescapableMazeException {
+
+        if (solution.getCost() == Integer.MAX_VALUE) {
+            logger.fatal("The input Maze does not have any exits from the given " +
+                    "start point. Unable to proceed further. Terminating A* Maze Solver.");
+            throw new InescapableMazeException(maze, sourceCoordinates);
+        }
+
+        return solution;
+    }
+
+    /**
+     * @return The distance to the exit Vertex of the GridGraph (Integer.MAX_VALUE if there is no path to it)
+     * and the number of expanded cells.
+     * */
+    private AStarSolution search(final GridGraph graph, final Point sourceCoordinates, final SearchWorkspace workspace) {
+
+        final int exitVertex = graph.getExitVertex();
+        final int lowestCellValue = graph.getMinWeight();
+        final int exitDistance;
+        int expandedNodeCount = 0;
+
+        workspace.begin(graph.getVertexCount());
+        try {
+            final IntPriorityQueue openVertexes = graph.getMaxWeight() < bucketQueueThreshold ?
+                    workspace.getBucketQueue(graph.getMaxWeight() + lowestCellValue) :
+                    workspace.getHeap();
+            final int[] neighbors = workspace.getNeighborBuffer();
+
+            final int sourceVertex = graph.getVertex((int) sourceCoordinates.getX(),
+                    (int) sourceCoordinates.getY());
+
+            workspace.setDistance(sourceVertex, 0);
+            openVertexes.insertOrDecrease(sourceVertex, heuristic(graph, sourceVertex, lowestCellValue));
+
+            while (!openVertexes.isEmpty()) {
+                final int vertex = openVertexes.poll();
+
+                if (vertex == exitVertex)
+                    break;
+
+                workspace.setSettled(vertex);
+                expandedNodeCount++;
+
+                final int candidateDistance = workspace.getDistance(vertex) + graph.getWeight(vertex);
+                final int neighborCount = graph.getNeighbors(vertex, neighbors);
+
+                for (int i = 0; i < neighborCount; i++) {
+                    final int target = neighbors[i];
+
+                    if (!workspace.isSettled(target) && candidateDistance < workspace.getDistance(target)) {
+                        workspace.setDistance(target, candidateDistance);
+                        openVertexes.insertOrDecrease(target,
+                                candidateDistance + heuristic(graph, target, lowestCellValue));
+                    }
+                }
+            }
+
+            exitDistance = workspace.getDistance(exitVertex);
+        } finally {
+            workspace.end();
+        }
+
+        logger.debug("A* expanded " + expandedNodeCount + " of the " + (graph.getVertexCount() - 1) +
+                " cells of the Maze.");
+
+        if (exitDistance != Integer.MAX_VALUE)
+            logger.info(exitDistance + " is the absolute shortest distance " +
+                    "to the exit Vertex (i.e. out of a border cell). " +
+                    "Returning as a result of the A* Maze Solver.");
+
+        return new AStarSolution(exitDistance, expandedNodeCount);
+    }
+
+    private static int heuristic(final GridGraph graph, final int vertex, final int lowestCellValue) {
+        if (vertex == graph.getExitVertex())
+            return 0;
+
+        final int x = graph.getX(vertex);
+        final int y = graph.getY(vertex);
+
+        final int stepsToBorder = Math.min(Math.min(x, graph.getWidth() - 1 - x),
+                Math.min(y, graph.getHeight() - 1 - y));
+
+        return (stepsToBorder + 1) * lowestCellValue;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mazesolver.astar;
+
+/**
+ * The result of one A* solve: the lowest cost to a Maze exit and the number of cells, which A* expanded
+ * (settled) to find it - so that every solve reports its own count, even if the solver is shared.
+ * */
+public final class AStarSolution {
+
+    private final int cost;
+    private final int expandedNodeCount;
+
+    AStarSolution(final int cost, final int expandedNodeCount) {
+        this.cost = cost;
+        this.expandedNodeCount = expandedNodeCount;
+    }
+
+    /**
+     * @return The value of the lowest cost path to a Maze exit.
+     * */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * @return The number of cells, which were expanded (settled) by the solve.
+     * */
+    public int getExpandedNodeCount() {
+        return expandedNodeCount;
+    }
+}
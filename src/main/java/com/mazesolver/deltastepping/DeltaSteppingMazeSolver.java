@@ -0,0 +1,141 @@
+package com.mazesolver.deltastepping;
+
+import com.mazesolver.MazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.graph.GridGraph;
+import com.mazesolver.graph.MazeGrid;
+import org.apache.log4j.Logger;
+
+import java.awt.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ *
+ * Solves a Maze with the delta-stepping algorithm (see DeltaSteppingSearch) on a GridGraph, with the
+ * relaxations of every phase spread across a ForkJoinPool. Meant for very large Mazes, where a single
+ * thread running Dijkstra's Algorithm is the bottleneck.
+ *
+ * Returns the same cost as the IMPLICIT_GRID Engine of DijkstraMazeSolver.
+ *
+ * Delta trades work for parallelism: a small delta settles few Vertexes per bucket (close to Dijkstra's
+ * Algorithm, little parallelism), a large one relaxes more Edges, whose distances are later lowered
+ * again (close to Bellman-Ford). The highest cell value is a good default, as all Edges are then light.
+ *
+ * Thread-safe. Each solve has its own distances and runs its phases on the shared pool.
+ *
+ * */
+public final class DeltaSteppingMazeSolver extends MazeSolver {
+
+    private static final Logger logger = Logger.getLogger(DeltaSteppingMazeSolver.class);
+
+    /**
+     * Use the highest cell value of each Maze as delta.
+     * */
+    public static final int HIGHEST_CELL_VALUE_DELTA = 0;
+
+    /**
+     * Frontiers of fewer pairs are relaxed on the calling thread - splitting them costs more than it saves.
+     * */
+    public static final int DEFAULT_MIN_PARALLEL_FRONTIER = 4096;
+
+    private final int delta;
+    private final ForkJoinPool pool;
+    private final int minParallelFrontier;
+
+    /**
+     * Uses the HIGHEST_CELL_VALUE_DELTA and the common ForkJoinPool.
+     * */
+    public DeltaSteppingMazeSolver() {
+        this(HIGHEST_CELL_VALUE_DELTA, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Uses the DEFAULT_MIN_PARALLEL_FRONTIER.
+     * */
+    public DeltaSteppingMazeSolver(final int delta, final ForkJoinPool pool) {
+        this(delta, pool, DEFAULT_MIN_PARALLEL_FRONTIER);
+    }
+
+    /**
+     * @param delta The width of a bucket (a range of distances). HIGHEST_CELL_VALUE_DELTA - the highest
+     *              cell value of each Maze.
+     * @param pool Runs the relaxations of large frontiers. Its parallelism is the number of threads used.
+     * @param minParallelFrontier The smallest frontier (Vertexes to relax), which is split across the pool.
+     * */
+    public DeltaSteppingMazeSolver(final int delta, final ForkJoinPool pool, final int minParallelFrontier) {
+        if (delta < 0)
+            throw new IllegalArgumentException("Delta must be non-negative!");
+
+        if (minParallelFrontier < 1)
+            throw new IllegalArgumentException("The minimum parallel frontier must be positive!");
+
+        this.delta = delta;
+        this.pool = pool;
+        this.minParallelFrontier = minParallelFrontier;
+    }
+
+    /**
+     *
+     * Solves a Rectangular (Square) Maze with Weights for each cell via the delta-stepping algorithm.
+     * The point is to find the lowest cost path to a Maze exit (a border cell).
+     *
+     * @param maze - A <b>rectangular</b> 2D Maze of non-negative Integers.
+     *             0 - Denotes a space, which can not be traversed.
+     *             >0 - Denotes a space, which can be traversed, however a certain cost is incurred
+     *
+     * @param sourceCoordinates - X & Y axis coordinates for the Maze. Must be positive and within array bounds.
+     *
+     * @return The value of the lowest cost path to a Maze exit. In case of NoPath, an exception is thrown
+     * and no result is returned.
+     * */
+    protected int solve(final int[][] maze, final Point sourceCoordinates) throws InescapableMazeException {
+        return solve(maze, MazeGrid.findMaxValue(maze), MazeGrid.findMinPositiveValue(maze), sourceCoordinates);
+    }
+
+    @Override
+    protected int solve(final int[][] maze, final int maxCellValue, final int minCellValue,
+                        final Point sourceCoordinates) throws InescapableMazeException {
+
+        logger.debug("Initialize Delta-Stepping Maze Solver.");
+
+        return solve(maze, GridGraph.view(maze, maxCellValue, minCellValue), sourceCoordinates);
+    }
+
+    /**
+     * Builds the GridGraph once. It is only read afterwards, so the PreparedMaze may be solved
+     * from several threads.
+     * */
+    @Override
+    protected PreparedMaze prepare(final int[][] maze) {
+
+        logger.debug("Initialize Delta-Stepping Maze Solver.");
+
+        final GridGraph graph = new GridGraph(maze);
+
+        return sourceCoordinates -> solve(maze, graph, sourceCoordinates);
+    }
+
+    private int solve(final int[][] maze, final GridGraph graph, final Point sourceCoordinates)
+            throws InescapableMazeException {
+
+        final int bucketWidth = delta != HIGHEST_CELL_VALUE_DELTA ? delta : Math.max(1, graph.getMaxWeight());
+
+        logger.debug("Run delta-stepping with delta: " + bucketWidth + " and " + pool.getParallelism() +
+                " threads on an implicit grid graph with: " + graph.getVertexCount() + " Vertexes.");
+
+        final int exitDistance = new DeltaSteppingSearch(graph, bucketWidth, pool, minParallelFrontier)
+                .run(graph.getVertex((int) sourceCoordinates.getX(), (int) sourceCoordinates.getY()));
+
+        if (exitDistance == Integer.MAX_VALUE) {
+            logger.fatal("The input Maze does not have any exits from the given " +
+                    "start point. Unable to proceed further. Terminating Delta-Stepping Maze Solver.");
+            throw new InescapableMazeException(maze, sourceCoordinates);
+        }
+
+        logger.info(exitDistance + " is the absolute shortest distance " +
+                "to the exit Vertex (i.e. out of a border cell). " +
+                "Returning as a result of the Delta-Stepping Maze Solver.");
+
+        return exitDistance;
+    }
+}
@@ -0,0 +1,297 @@
+package com.mazesolver.deltastepping;
+
+import com.mazesolver.graph.GridGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * One delta-stepping search on a GridGraph, from a given source Vertex.
+ *
+ * Bucket i holds the Vertexes with a tentative distance in [i * delta, (i + 1) * delta). Buckets are
+ * settled in order. Within a bucket, the light Edges (weight <= delta) of the current frontier are relaxed
+ * in phases, until no distance in the bucket drops any more. Only then are the heavy Edges
+ * (weight > delta) of the bucket relaxed, once - they can never lead back into the same bucket.
+ *
+ * As the weight of an Edge is the value of the cell, which is being left, all Edges out of a Vertex are
+ * either light or heavy.
+ *
+ * Each relaxation of a large frontier is split into chunks across the ForkJoinPool. Distances live in
+ * an AtomicIntegerArray and only ever drop, by a compare-and-set loop, so no locks are taken.
+ * They are stored as Integer.MAX_VALUE - distance, so the array needs no filling before a search.
+ * Every drop is recorded as a (Vertex, distance) pair. A pair, whose distance is no longer the distance
+ * of its Vertex, is stale and skipped, which also removes duplicates.
+ *
+ * */
+final class DeltaSteppingSearch {
+
+    private final GridGraph graph;
+    private final int delta;
+    private final ForkJoinPool pool;
+    private final int minParallelFrontier;
+
+    private final AtomicIntegerArray reversedDistances; //Integer.MAX_VALUE - distance, per Vertex
+
+    /**
+     * @param delta The width of a bucket. Positive.
+     * @param minParallelFrontier The smallest frontier (in pairs), which is split across the pool.
+     * */
+    DeltaSteppingSearch(final GridGraph graph, final int delta, final ForkJoinPool pool,
+                        final int minParallelFrontier) {
+        this.graph = graph;
+        this.delta = delta;
+        this.pool = pool;
+        this.minParallelFrontier = minParallelFrontier;
+        this.reversedDistances = new AtomicIntegerArray(graph.getVertexCount());
+    }
+
+    /**
+     * @return The shortest distance from the source Vertex to the exit Vertex,
+     * or Integer.MAX_VALUE if it can not be reached.
+     * */
+    int run(final int sourceVertex) {
+        final int exitVertex = graph.getExitVertex();
+
+        reversedDistances.set(sourceVertex, Integer.MAX_VALUE);
+
+        PairList frontier = new PairList();
+        frontier.add(sourceVertex, 0);
+
+        final PairList pending = new PairList(); //Pairs in later buckets
+        final PairList heavy = new PairList(); //Pairs of the current bucket with heavy Edges
+
+        long bucket = 0;
+
+        while (true) {
+            final long bucketEnd = (bucket + 1) * delta;
+
+            //Light phases
+            while (!frontier.isEmpty()) {
+                final Relaxation relaxation = relax(frontier, bucketEnd, false);
+
+                pending.addAll(relaxation.later);
+                heavy.addAll(relaxation.heavy);
+                frontier = relaxation.current;
+            }
+
+            if (!heavy.isEmpty()) {
+                pending.addAll(relax(heavy, bucketEnd, true).later);
+                heavy.clear();
+            }
+
+            //Every distance below bucketEnd is final now.
+            if (getDistance(exitVertex) < bucketEnd)
+                return getDistance(exitVertex);
+
+            bucket = nextBucket(pending);
+
+            if (bucket < 0)
+                return Integer.MAX_VALUE;
+
+            frontier = takeBucket(pending, bucket);
+        }
+    }
+
+    /**
+     * @return The lowest bucket of a valid pair in the list, or -1 if there is none.
+     * */
+    private long nextBucket(final PairList pending) {
+        long lowest = -1;
+
+        for (int i = 0; i < pending.size; i++) {
+            if (isValid(pending, i)) {
+                final long bucket = pending.getDistance(i) / delta;
+
+                if (lowest < 0 || bucket < lowest)
+                    lowest = bucket;
+            }
+        }
+
+        return lowest;
+    }
+
+    /**
+     * Moves the valid pairs of the bucket out of the list, and drops all invalid ones.
+     * */
+    private PairList takeBucket(final PairList pending, final long bucket) {
+        final PairList taken = new PairList();
+        int kept = 0;
+
+        for (int i = 0; i < pending.size; i++) {
+            if (!isValid(pending, i))
+                continue;
+
+            if (pending.getDistance(i) / delta == bucket)
+                taken.add(pending.getVertex(i), pending.getDistance(i));
+            else
+                pending.set(kept++, pending.getVertex(i), pending.getDistance(i));
+        }
+
+        pending.size = kept;
+
+        return taken;
+    }
+
+    private boolean isValid(final PairList pairs, final int index) {
+        return getDistance(pairs.getVertex(index)) == pairs.getDistance(index);
+    }
+
+    private int getDistance(final int vertex) {
+        return Integer.MAX_VALUE - reversedDistances.get(vertex);
+    }
+
+    /**
+     * Relaxes the Edges of all valid pairs: in one chunk on the current thread for a small list,
+     * else in chunks on the pool.
+     *
+     * @param heavyPhase false - relax only light Edges and collect the pairs with heavy Edges.
+     *                   true - relax only heavy Edges.
+     * */
+    private Relaxation relax(final PairList pairs, final long bucketEnd, final boolean heavyPhase) {
+        final int chunkSize = Math.max(minParallelFrontier,
+                (pairs.size + pool.getParallelism() * 4 - 1) / (pool.getParallelism() * 4));
+
+        if (pairs.size <= chunkSize) {
+            final Relaxation relaxation = new Relaxation(pairs, 0, pairs.size, bucketEnd, heavyPhase);
+            relaxation.compute();
+
+            return relaxation;
+        }
+
+        final Relaxation[] chunks = new Relaxation[(pairs.size + chunkSize - 1) / chunkSize];
+
+        for (int i = 0; i < chunks.length; i++)
+            chunks[i] = new Relaxation(pairs, i * chunkSize, Math.min(pairs.size, (i + 1) * chunkSize),
+                    bucketEnd, heavyPhase);
+
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(chunks)));
+
+        for (int i = 1; i < chunks.length; i++) {
+            chunks[0].current.addAll(chunks[i].current);
+            chunks[0].later.addAll(chunks[i].later);
+            chunks[0].heavy.addAll(chunks[i].heavy);
+        }
+
+        return chunks[0];
+    }
+
+    /**
+     * The relaxation of one chunk of pairs, and the pairs it produced:
+     * dropped distances in the current bucket and in later buckets, and the skipped pairs with heavy Edges.
+     * */
+    private final class Relaxation extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final PairList pairs;
+        private final int from;
+        private final int to;
+        private final long bucketEnd;
+        private final boolean heavyPhase;
+
+        private final PairList current = new PairList();
+        private final PairList later = new PairList();
+        private final PairList heavy = new PairList();
+
+        private Relaxation(final PairList pairs, final int from, final int to, final long bucketEnd,
+                           final boolean heavyPhase) {
+            this.pairs = pairs;
+            this.from = from;
+            this.to = to;
+            this.bucketEnd = bucketEnd;
+            this.heavyPhase = heavyPhase;
+        }
+
+        @Override
+        protected void compute() {
+            final int[] neighbors = new int[4];
+            final int exitVertex = graph.getExitVertex();
+
+            for (int i = from; i < to; i++) {
+                final int vertex = pairs.getVertex(i);
+                final int distance = pairs.getDistance(i);
+
+                //The exit Vertex has no outgoing Edges.
+                if (vertex == exitVertex || getDistance(vertex) != distance)
+                    continue;
+
+                final int weight = graph.getWeight(vertex);
+
+                if (!heavyPhase && weight > delta) {
+                    heavy.add(vertex, distance);
+                    continue;
+                }
+
+                final int candidateDistance = distance + weight;
+                final int neighborCount = graph.getNeighbors(vertex, neighbors);
+
+                for (int j = 0; j < neighborCount; j++)
+                    decrease(neighbors[j], candidateDistance);
+            }
+        }
+
+        private void decrease(final int target, final int candidateDistance) {
+            final int reversedCandidate = Integer.MAX_VALUE - candidateDistance;
+            int reversedDistance = reversedDistances.get(target);
+
+            while (reversedCandidate > reversedDistance) {
+                if (reversedDistances.compareAndSet(target, reversedDistance, reversedCandidate)) {
+                    (candidateDistance < bucketEnd ? current : later).add(target, candidateDistance);
+                    return;
+                }
+
+                reversedDistance = reversedDistances.get(target);
+            }
+        }
+    }
+
+    /**
+     * A growable list of (Vertex, distance) pairs, stored next to each other in one int[].
+     * */
+    private static final class PairList {
+
+        private int[] pairs = new int[16];
+        private int size;
+
+        private void add(final int vertex, final int distance) {
+            if (2 * size == pairs.length)
+                pairs = Arrays.copyOf(pairs, 2 * pairs.length);
+
+            pairs[2 * size] = vertex;
+            pairs[2 * size + 1] = distance;
+            size++;
+        }
+
+        private void addAll(final PairList other) {
+            if (2 * (size + other.size) > pairs.length)
+                pairs = Arrays.copyOf(pairs, Math.max(2 * pairs.length, 2 * (size + other.size)));
+
+            System.arraycopy(other.pairs, 0, pairs, 2 * size, 2 * other.size);
+            size += other.size;
+        }
+
+        private void set(final int index, final int vertex, final int distance) {
+            pairs[2 * index] = vertex;
+            pairs[2 * index + 1] = distance;
+        }
+
+        private int getVertex(final int index) {
+            return pairs[2 * index];
+        }
+
+        private int getDistance(final int index) {
+            return pairs[2 * index + 1];
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+    }
+}
@@ -10,8 +10,9 @@ import org.apache.log4j.Logger;
  * Provides a Connected Weighted Graph, which includes in itself a Vertex
  * with the original coordinates, which were passed to DijkstraMazeSolver.
  *
- * AN EXPANDED Maze, as per the DijkstraMazeSolver method must be passed to this class, else
- * it will not work.
+ * Works on the original Maze, which is neither copied nor changed. Around it lies a virtual outer layer
+ * of cells (x = -1, x = width, y = -1 or y = height), which are selected as Vertexes, but never traversed.
+ * The Edge from a border cell to the outer layer cell next to it is an exit of the Maze.
  *
  * Used a modified version of the Flood Fill algorithm to build the Graph.
  *
@@ -21,7 +22,7 @@ final class ConnectedWeightedGraphSelector {
 
     private final static Logger logger = Logger.getLogger(ConnectedWeightedGraphSelector.class);
 
-    private final int[][] maze; //Hold an expanded maze
+    private final int[][] maze; //Holds the original maze
     private final List<WeightedGraph.Vertex> selectedVertexes; //Stores Vertexes, which have already been FloodSelected
     private final List<WeightedGraph.WeightedEdge> selectedEdges; //Same as Vertexes
 
@@ -32,8 +33,8 @@ final class ConnectedWeightedGraphSelector {
 
     /**
      *
-     * @param maze Takes an EXPANDED maze. Caution is advised.
-     * @param sourceCoordinates Should also take EXPANDEDsourceCoordinates.
+     * @param maze Takes the original maze.
+     * @param sourceCoordinates Coordinates within the original maze.
      *
      * */
     ConnectedWeightedGraphSelector(final int[][] maze, final Point sourceCoordinates) {
@@ -44,14 +45,14 @@ final class ConnectedWeightedGraphSelector {
         this.selectedVertexes = new ArrayList<WeightedGraph.Vertex>();
         this.selectedEdges = new ArrayList<WeightedGraph.WeightedEdge>();
 
-        logger.info("Begin Flood selection of Vertexes and Edges from Maze with " +
+        logger.debug("Begin Flood selection of Vertexes and Edges from Maze with " +
                 "dimensions: X(" + xAxisSize + "), Y(" +
                 yAxisSize + ").");
         floodSelect(null, sourceCoordinates);
 
         //After the floodSelect is completed, actually construct a new Graph.
         connectedWeightedGraph = new WeightedGraph(selectedVertexes, selectedEdges);
-        logger.info("Connected Weighted Graph generated from Maze with " +
+        logger.debug("Connected Weighted Graph generated from Maze with " +
                 "dimensions: X(" + xAxisSize + "), Y(" +
                 yAxisSize + ") via Flood Select Algorithm.");
     }
@@ -70,37 +71,27 @@ final class ConnectedWeightedGraphSelector {
     private void floodSelect(final Point previousCoordinates, final Point coordinatesToExplore) {
 
         /*
-        * Firstly, check if we are in the bounds of the Expanded Maze.
-        * Secondly, if we are, make sure that we are not traversing the edges
-        * of the Expanded Maze. The outer layer vertexes are simply helpers, so that
+        * Make sure that we are not traversing the virtual outer layer of the Maze.
+        * The outer layer vertexes are simply helpers, so that
         * a WeightedEdge may be created between the actual outer Vertex and it.
         * THEY SHOULD NOT BE TRAVERSED, AS THIS WILL BREAK THE ALGORITHM.
         *
         * */
-        if (coordinatesToExplore.getX() < 0 ||
-                coordinatesToExplore.getX() >= xAxisSize ||
-                coordinatesToExplore.getY() < 0 ||
-                coordinatesToExplore.getY() >= yAxisSize ||
-                previousCoordinates != null ?
-                (previousCoordinates.getX() == 0 ||
-                        previousCoordinates.getX() == xAxisSize - 1 ||
-                        previousCoordinates.getY() == 0 ||
-                        previousCoordinates.getY() == yAxisSize - 1) :
-                false)
+        if (previousCoordinates != null && isOuterLayerCoordinates(previousCoordinates))
             return;
         //Also check that we haven't been in this cell before and that it is traversable (e.g. it has a posotive value).
         else if(selectedVertexes.stream().anyMatch(vertex ->
                 vertex.getCoordinates().equals(coordinatesToExplore)) ||
-                maze[(int) coordinatesToExplore.getY()]
-                        [(int) coordinatesToExplore.getX()] <= 0)
+                getCell(coordinatesToExplore) <= 0)
             return;
 
         //If all is good, add a new Vertex to our Graph.
         selectedVertexes.add(new WeightedGraph.Vertex(coordinatesToExplore));
-        logger.info("Selected Vertex with coordinates: (" +
-                (int) coordinatesToExplore.getX() + ", " +
-                (int) coordinatesToExplore.getY() + ") " +
-                "from Maze.");
+        if (logger.isTraceEnabled())
+            logger.trace("Selected Vertex with coordinates: (" +
+                    (int) coordinatesToExplore.getX() + ", " +
+                    (int) coordinatesToExplore.getY() + ") " +
+                    "from Maze.");
 
         /*If we were previously in another Vertex, add an edge between it and the current Vertex.
          *
@@ -113,14 +104,15 @@ final class ConnectedWeightedGraphSelector {
                     maze[(int) previousCoordinates.getY()]
                             [(int) previousCoordinates.getX()]));
 
-            logger.info("Selected Edge between Vertexes with coordinates: (" +
-                    (int) previousCoordinates.getX() + ", " +
-                    (int) previousCoordinates.getY() + ") " +
-                    "and: (" + (int) coordinatesToExplore.getX() +
-                    ", " + (int) coordinatesToExplore.getY() + ")" +
-                    "from Maze. Edge weight: " +
-                    maze[(int) previousCoordinates.getY()]
-                            [(int) previousCoordinates.getX()]);
+            if (logger.isTraceEnabled())
+                logger.trace("Selected Edge between Vertexes with coordinates: (" +
+                        (int) previousCoordinates.getX() + ", " +
+                        (int) previousCoordinates.getY() + ") " +
+                        "and: (" + (int) coordinatesToExplore.getX() +
+                        ", " + (int) coordinatesToExplore.getY() + ")" +
+                        "from Maze. Edge weight: " +
+                        maze[(int) previousCoordinates.getY()]
+                                [(int) previousCoordinates.getX()]);
         }
 
         //Recurse through neighboring cells.
@@ -138,6 +130,24 @@ final class ConnectedWeightedGraphSelector {
                         (int) coordinatesToExplore.getY() - 1));
     }
 
+    /**
+     * @return Whether the coordinates are outside of the Maze (i.e. in its virtual outer layer).
+     * */
+    boolean isOuterLayerCoordinates(final Point coordinates) {
+        return coordinates.getX() < 0 || coordinates.getX() >= xAxisSize ||
+                coordinates.getY() < 0 || coordinates.getY() >= yAxisSize;
+    }
+
+    /**
+     * @return The value of a cell of the Maze, or Integer.MAX_VALUE for the virtual outer layer.
+     * */
+    private int getCell(final Point coordinates) {
+        if (isOuterLayerCoordinates(coordinates))
+            return Integer.MAX_VALUE;
+
+        return maze[(int) coordinates.getY()][(int) coordinates.getX()];
+    }
+
     /**
      * @return A referance to the Connected Weighted Graph, which was created in the constructor.
      * */
@@ -0,0 +1,92 @@
+package com.mazesolver.dijkstra;
+
+import com.mazesolver.graph.CsrGraph;
+import com.mazesolver.graph.IntPriorityQueue;
+import com.mazesolver.graph.SearchWorkspace;
+import org.apache.log4j.Logger;
+
+/**
+ * Runs Dijkstra's Algorithm on a CsrGraph, using a given source Vertex.
+ *
+ * The same as GridDijkstraAlgorithm, except that the Edges of a Vertex are read from the CSR arrays
+ * of the CsrGraph, and there may be any number of exit Vertexes. All per-Vertex state lives in a SearchWorkspace.
+ *
+ * With the FIRST_EXIT SearchMode, the search stops as soon as the first exit Vertex is settled - its
+ * distance is the answer. With FULL_COMPONENT, the lowest distance of all exit Vertexes is picked at the end.
+ *
+ * Any Edge weight up to Integer.MAX_VALUE is allowed, so distances are added as longs and capped at
+ * MAX_DISTANCE. Every Vertex below the cap still gets its exact distance.
+ *
+ * */
+final class CsrDijkstraAlgorithm {
+
+    private static final Logger logger = Logger.getLogger(CsrDijkstraAlgorithm.class);
+
+    /**
+     * The highest distance, which is stored. Integer.MAX_VALUE stands for an unreached Vertex.
+     * */
+    static final int MAX_DISTANCE = Integer.MAX_VALUE - 1;
+
+    private final CsrGraph graph;
+    private final SearchWorkspace workspace;
+    private int exitDistance = Integer.MAX_VALUE;
+
+    /**
+     * @param workspace A SearchWorkspace, which has begun a search on the graph.
+     * @param unSettledVertexes An empty queue of the workspace.
+     * */
+    CsrDijkstraAlgorithm(final CsrGraph graph, final int sourceVertex,
+                         final DijkstraMazeSolver.SearchMode searchMode,
+                         final SearchWorkspace workspace, final IntPriorityQueue unSettledVertexes) {
+        this.graph = graph;
+        this.workspace = workspace;
+
+        logger.debug("Execute CSR Dijkstra Algorithm for a graph with: " + graph.getVertexCount() +
+                " Vertexes & " + graph.getEdgeCount() + " Edges.");
+        execute(sourceVertex, searchMode == DijkstraMazeSolver.SearchMode.FIRST_EXIT, unSettledVertexes);
+    }
+
+    private void execute(final int sourceVertex, final boolean stopAtExit,
+                         final IntPriorityQueue unSettledVertexes) {
+        int settledVertexCount = 0;
+
+        workspace.setDistance(sourceVertex, 0);
+        unSettledVertexes.insertOrDecrease(sourceVertex, 0);
+
+        while (!unSettledVertexes.isEmpty()) {
+            final int vertex = unSettledVertexes.poll();
+            final int distance = workspace.getDistance(vertex);
+
+            workspace.setSettled(vertex);
+            settledVertexCount++;
+
+            if (graph.isExit(vertex)) {
+                exitDistance = Math.min(exitDistance, distance);
+
+                if (stopAtExit)
+                    break;
+            }
+
+            for (int edge = graph.getFirstEdge(vertex), end = graph.getEndEdge(vertex); edge < end; edge++) {
+                final int target = graph.getTarget(edge);
+                final int candidateDistance = (int) Math.min((long) distance + graph.getWeight(edge), MAX_DISTANCE);
+
+                if (!workspace.isSettled(target) && candidateDistance < workspace.getDistance(target)) {
+                    workspace.setDistance(target, candidateDistance);
+                    workspace.setPredecessor(target, vertex);
+                    unSettledVertexes.insertOrDecrease(target, candidateDistance);
+                }
+            }
+        }
+
+        logger.debug("Settled " + settledVertexCount + " Vertexes.");
+    }
+
+    /**
+     * @return The shortest distance from the source Vertex to any exit Vertex, MAX_DISTANCE if it is
+     * at least that, or Integer.MAX_VALUE if none can be reached.
+     * */
+    int getExitDistance() {
+        return exitDistance;
+    }
+}
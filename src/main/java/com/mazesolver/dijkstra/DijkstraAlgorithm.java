@@ -36,7 +36,7 @@ final class DijkstraAlgorithm {
         distances = new HashMap<WeightedGraph.Vertex, Integer>();
         predecessors = new HashMap<WeightedGraph.Vertex, WeightedGraph.Vertex>();
 
-        logger.info("Execute Dijkstra Algorithm for a connected weighted graph with: " +
+        logger.debug("Execute Dijkstra Algorithm for a connected weighted graph with: " +
                 graph.getVertexes().size() + " Vertexes & " + edges.size() + " Edges.");
         execute(sourceVertex);
     }
@@ -50,9 +50,10 @@ final class DijkstraAlgorithm {
             unSettledVertexes.remove(vertex);
             findMinimalDistances(vertex);
 
-            logger.info("Settled Vertex with coordinates: (" +
-                    (int) vertex.getCoordinates().getX() + ", " + (int) vertex.getCoordinates().getY() +
-                    "). Distance from Source Vertex: " + getShortestDistance(vertex) + ".");
+            if (logger.isTraceEnabled())
+                logger.trace("Settled Vertex with coordinates: (" +
+                        (int) vertex.getCoordinates().getX() + ", " + (int) vertex.getCoordinates().getY() +
+                        "). Distance from Source Vertex: " + getShortestDistance(vertex) + ".");
         }
     }
 
@@ -1,21 +1,158 @@
 package com.mazesolver.dijkstra;
 
+import com.mazesolver.MazeSolution;
 import com.mazesolver.MazeSolver;
+import com.mazesolver.exception.EmptyMazeException;
 import com.mazesolver.exception.InescapableMazeException;
-import org.apache.commons.lang3.ArrayUtils;
+import com.mazesolver.exception.InvalidMazeCoordinatesException;
+import com.mazesolver.exception.InvalidMazeStartPositionException;
+import com.mazesolver.exception.InvalidMazeValuesException;
+import com.mazesolver.exception.MalformedMazeException;
+import com.mazesolver.graph.CsrGraph;
+import com.mazesolver.graph.DialBucketQueue;
+import com.mazesolver.graph.GridGraph;
+import com.mazesolver.graph.IndexedBinaryHeap;
+import com.mazesolver.graph.IntPriorityQueue;
+import com.mazesolver.graph.MazeGrid;
+import com.mazesolver.graph.SearchWorkspace;
 import org.apache.log4j.Logger;
 
 import java.awt.*;
 import java.util.*;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+/**
+ *
+ * Thread-safe: one instance may serve concurrent solves. The configuration is immutable and
+ * the IMPLICIT_GRID Engine keeps its scratch memory (distances, settled Vertexes and priority queues)
+ * in a SearchWorkspace per thread, while the cells are read straight from the Maze. The workspace grows to the largest
+ * Maze seen by that thread, so in steady state a solve allocates close to nothing - unless the Maze
+ * has more than maxRetainedWorkspaceVertexes cells, in which case a FIRST_EXIT search only keeps state for the
+ * cells it touches (see SearchWorkspace), which is dropped afterwards.
+ *
+ * The LINEAR_SCAN and BINARY_HEAP Engines still allocate their graphs for every solve.
+ *
+ * */
 @SuppressWarnings("Convert2Diamond")
 public final class DijkstraMazeSolver extends MazeSolver {
 
     private static final Logger logger = Logger.getLogger(DijkstraMazeSolver.class);
 
+    /**
+     * The implementation of Dijkstra's Algorithm, which is run on the Connected Weighted Graph.
+     * */
+    public enum Engine {
+        /**
+         * The original DijkstraAlgorithm. Keeps the unsettled Vertexes in a Set, which is scanned
+         * for the minimum, and scans the whole list of Edges for neighbors. Roughly O(V * E).
+         * Kept for comparison.
+         *
+         * Like BINARY_HEAP, it only searches the Edges, which the flood selection of the
+         * ConnectedWeightedGraphSelector walks - a tree, so it may miss a cheaper way around a loop.
+         * */
+        LINEAR_SCAN,
+
+        /**
+         * HeapDijkstraAlgorithm. Uses int Vertex ids, int arrays and an IndexedBinaryHeap.
+         * O((V + E) log V).
+         * */
+        BINARY_HEAP,
+
+        /**
+         * GridDijkstraAlgorithm. Skips the Connected Weighted Graph entirely
+         * and reads neighbors and weights straight from the cells of the Maze (see GridGraph).
+         * O(V log V) and a few bytes of memory per cell.
+         *
+         * Uses a DialBucketQueue, when the highest cell value is below the bucket queue threshold
+         * (O(V + maxCellValue * distance) instead), else an IndexedBinaryHeap.
+         * */
+        IMPLICIT_GRID
+    }
+
+    /**
+     * How much of the Maze is searched. Does not apply to the LINEAR_SCAN Engine, which always
+     * searches the whole connected component.
+     * */
+    public enum SearchMode {
+        /**
+         * Settles every Vertex, which can be reached from the source Vertex, and only then
+         * picks the cheapest exit.
+         * */
+        FULL_COMPONENT,
+
+        /**
+         * Treats all exits (the outer layer cells next to the border cells) as targets and stops as soon as the
+         * first of them is settled - its distance is the answer.
+         * */
+        FIRST_EXIT
+    }
+
+    /**
+     * Cell values, up to which the IMPLICIT_GRID Engine uses a DialBucketQueue by default.
+     * */
+    public static final int DEFAULT_BUCKET_QUEUE_THRESHOLD = 256;
+
+    /**
+     * The largest Maze (in Vertexes), whose SearchWorkspace is kept by a thread by default.
+     * Roughly 40 bytes per Vertex.
+     * */
+    public static final int DEFAULT_MAX_RETAINED_WORKSPACE_VERTEXES = 1 << 20;
+
+    private final Engine engine;
+    private final SearchMode searchMode;
+    private final int bucketQueueThreshold;
+    private final ThreadLocal<SearchWorkspace> workspaces;
+
+    /**
+     * Uses the IMPLICIT_GRID Engine and the FIRST_EXIT SearchMode.
+     * */
+    public DijkstraMazeSolver() {
+        this(Engine.IMPLICIT_GRID);
+    }
+
+    /**
+     * Uses the FIRST_EXIT SearchMode.
+     * */
+    public DijkstraMazeSolver(final Engine engine) {
+        this(engine, SearchMode.FIRST_EXIT);
+    }
+
+    /**
+     * Uses the DEFAULT_BUCKET_QUEUE_THRESHOLD.
+     * */
+    public DijkstraMazeSolver(final Engine engine, final SearchMode searchMode) {
+        this(engine, searchMode, DEFAULT_BUCKET_QUEUE_THRESHOLD);
+    }
+
+    /**
+     * @param bucketQueueThreshold The IMPLICIT_GRID Engine uses a DialBucketQueue for Mazes, whose
+     *                             highest cell value is below this threshold, and an IndexedBinaryHeap
+     *                             for all others. 0 - Always use the IndexedBinaryHeap.
+     * */
+    public DijkstraMazeSolver(final Engine engine, final SearchMode searchMode,
+                              final int bucketQueueThreshold) {
+        this(engine, searchMode, bucketQueueThreshold, DEFAULT_MAX_RETAINED_WORKSPACE_VERTEXES);
+    }
+
+    /**
+     * @param maxRetainedWorkspaceVertexes The largest Maze (in Vertexes), whose SearchWorkspace is kept
+     *                                     by a thread for its next solve. 0 - Never keep a workspace.
+     * */
+    public DijkstraMazeSolver(final Engine engine, final SearchMode searchMode,
+                              final int bucketQueueThreshold, final int maxRetainedWorkspaceVertexes) {
+        if (bucketQueueThreshold < 0)
+            throw new IllegalArgumentException("The bucket queue threshold must be non-negative!");
+
+        if (maxRetainedWorkspaceVertexes < 0)
+            throw new IllegalArgumentException("The maximum retained workspace Vertexes must be non-negative!");
+
+        this.engine = Objects.requireNonNull(engine);
+        this.searchMode = Objects.requireNonNull(searchMode);
+        this.bucketQueueThreshold = bucketQueueThreshold;
+        this.workspaces = ThreadLocal.withInitial(() -> new SearchWorkspace(maxRetainedWorkspaceVertexes));
+    }
+
     /**
      *
      * Solves a Rectangular (Square) Maze with Weights for each cell via the Dijkstra Graph Algorithm.
@@ -31,43 +168,98 @@ public final class DijkstraMazeSolver extends MazeSolver {
      * and no result is returned.
      * */
     protected int solve(final int[][] maze, final Point sourceCoordinates) throws InescapableMazeException {
+        if (engine != Engine.IMPLICIT_GRID)
+            return prepare(maze).solve(sourceCoordinates);
+
+        return solve(maze, MazeGrid.findMaxValue(maze), MazeGrid.findMinPositiveValue(maze), sourceCoordinates);
+    }
+
+    /**
+     * The highest cell value (found by the validation) picks the queue of the IMPLICIT_GRID Engine.
+     * */
+    @Override
+    protected int solve(final int[][] maze, final int maxCellValue, final int minCellValue,
+                        final Point sourceCoordinates) throws InescapableMazeException {
+        if (engine != Engine.IMPLICIT_GRID)
+            return prepare(maze).solve(sourceCoordinates);
+
+        logger.debug("Initialize Dijkstra Maze Solver.");
+
+        //A single solve reads the cells straight from the Maze, so that a search, which stops early,
+        //does not have to pay for a pass over all of them.
+        final SearchWorkspace workspace = workspaces.get();
+        final GridGraph graph = GridGraph.view(maze, maxCellValue, minCellValue);
 
-        logger.info("Initialize Dijkstra Maze Solver.");
+        return solveImplicitGrid(maze, graph, sourceCoordinates, workspace);
+    }
+
+    /**
+     * The IMPLICIT_GRID Engine finds out that there is no path to a Maze exit without an Exception.
+     * */
+    @Override
+    protected int solveOrNoPath(final int[][] maze, final int maxCellValue, final int minCellValue,
+                                final Point sourceCoordinates) {
+        if (engine != Engine.IMPLICIT_GRID)
+            return super.solveOrNoPath(maze, maxCellValue, minCellValue, sourceCoordinates);
+
+        logger.debug("Initialize Dijkstra Maze Solver.");
+
+        final SearchWorkspace workspace = workspaces.get();
+        final GridGraph graph = GridGraph.view(maze, maxCellValue, minCellValue);
+        final int shortestDistanceToExit = searchImplicitGrid(maze, graph, sourceCoordinates, workspace);
+
+        return shortestDistanceToExit == Integer.MAX_VALUE ? NO_PATH : shortestDistanceToExit;
+    }
+
+    /**
+     * Does the part of the work, which does not depend on the start coordinates, once:
+     * packs the Maze into the GridGraph for the IMPLICIT_GRID Engine. It is only read afterwards, so the
+     * PreparedMaze may be solved from several threads.
+     * All other Engines flood select from the Maze itself, per start coordinates, so there is nothing to prepare.
+     * */
+    @Override
+    protected PreparedMaze prepare(final int[][] maze) {
 
-        final Point expandedSourceCoordinates =
-                new Point( ((int) (sourceCoordinates.getX() + 1)),
-                        ((int) (sourceCoordinates.getY() + 1)));
+        logger.debug("Initialize Dijkstra Maze Solver.");
+
+        if (engine == Engine.IMPLICIT_GRID) {
+            final GridGraph graph = new GridGraph(maze);
+
+            return sourceCoordinates -> solveImplicitGrid(maze, graph, sourceCoordinates, workspaces.get());
+        }
 
-        logger.info("Original Maze dimensions: X(" +
+        logger.debug("Original Maze dimensions: X(" +
                 maze[0].length + "), Y(" +
                 maze.length + ").");
 
-        final int[][] expanded_maze = expand_maze(maze);
-        logger.info("Expanded Maze internally by adding an additional layer of cells, in order to " +
-                "properly integrate it with Dijkstra's Algorithm. " +
-                "ALL FURTHER COORDINATES IN THIS DIJKSTRA ALGORITHM (& RELATED CLASSES ) " +
-                "LOG ARE FOR THE EXPANDED MAZE.");
+        return sourceCoordinates -> solveConnectedWeightedGraph(maze, sourceCoordinates);
+    }
+
+    /**
+     * Solves the Maze with the LINEAR_SCAN or BINARY_HEAP Engine, on a Connected Weighted Graph,
+     * which is flood selected from the Maze itself (the Maze is not copied).
+     * */
+    private int solveConnectedWeightedGraph(final int[][] maze, final Point sourceCoordinates)
+            throws InescapableMazeException {
 
-        //Construct a Connect Weighted Graph from the Expanded Maze and the Expanded Source Coordinates
+        //Construct a Connect Weighted Graph from the Maze and the Source Coordinates
         @SuppressWarnings("SpellCheckingInspection")
-        final ConnectedWeightedGraphSelector CWGS = new ConnectedWeightedGraphSelector(expanded_maze,
-                expandedSourceCoordinates);
+        final ConnectedWeightedGraphSelector CWGS = new ConnectedWeightedGraphSelector(maze,
+                sourceCoordinates);
 
         final WeightedGraph weightedGraph = CWGS.getConnectedWeightedGraph();
 
 
-        //Simply parse a list of Vertexes from the weightedGraph, which are at the border of Expanded Maze
-        logger.info("Get Target Vertexes (i.e. Vertexes which are at the border of the Maze) " +
+        //Simply parse a list of Vertexes from the weightedGraph, which are in the outer layer of the Maze
+        logger.debug("Get Target Vertexes (i.e. Vertexes which are in the outer layer of the Maze) " +
                 "from the generated Connected Weighted Graph.");
         final List<WeightedGraph.Vertex> targetVertexes =
                 weightedGraph.getVertexes().stream().filter(vertex ->
-                        getMazeBorderCoordinates(expanded_maze)
-                                .stream().anyMatch(coordinates ->
-                                coordinates.equals(vertex.getCoordinates())))
+                        CWGS.isOuterLayerCoordinates(vertex.getCoordinates()))
                         .collect(Collectors.toList());
 
         //If no target(border)Vertexes exist => Our Maze does not have a solution from the current start pos
-        logger.info("Check if any Target Vertexes exist (i.e. if the Maze has exits from the " +
+        logger.debug("Check if any Target Vertexes exist (i.e. if the Maze has exits from the " +
                 "given start point). " + "If this list is empty, a fatal Exception will be thrown " +
                 "and the Dijkstra Maze Solver will be terminated.");
         if (targetVertexes.isEmpty()) {
@@ -77,46 +269,31 @@ public final class DijkstraMazeSolver extends MazeSolver {
             throw new InescapableMazeException(maze, sourceCoordinates);
         }
 
-        logger.info("Passing Connected Weighted Graph to Dijkstra Algorithm, " +
+        logger.debug("Passing Connected Weighted Graph to Dijkstra Algorithm, " +
                 "in order to determine the shortest paths between the source Vertex " +
                 "with coordinates: (" +
-                (int) expandedSourceCoordinates.getX() + ", " +
-                (int) expandedSourceCoordinates.getY() + ") ~in the expanded Maze~ and all other " +
+                (int) sourceCoordinates.getX() + ", " +
+                (int) sourceCoordinates.getY() + ") and all other " +
                 "Vertexes.");
 
-        //Init a new DijkstraAlgorithm. Source Vertex is parsed via our expandedSourceCoordinates.
-        @SuppressWarnings("OptionalGetWithoutIsPresent")
-        final DijkstraAlgorithm algorithm = new DijkstraAlgorithm(weightedGraph,
-                weightedGraph.getVertexes().stream().filter(
-                        vertex ->
-                                vertex.getCoordinates().
-                                        equals(expandedSourceCoordinates)).
-                        findFirst().get());
-
-        //The distances of all Vertexes to our sourceVertex and vice-versa
-        final Map<WeightedGraph.Vertex, Integer> distancesFromSource
-                = algorithm.getDistancesFromSource();
-
         //Parse only those distances, which are for targetVertexes
-        final Map<WeightedGraph.Vertex, Integer> shortestDistancesToTargetVertexes = new HashMap<WeightedGraph.Vertex, Integer>();
-
-        //The actual parsing
-        //noinspection OptionalGetWithoutIsPresent
-        targetVertexes.forEach(targetVertex ->
-            shortestDistancesToTargetVertexes.put(targetVertex, distancesFromSource.get(
-                    distancesFromSource.keySet()
-                            .stream().filter(vertex ->
-                            vertex.equals(targetVertex)).findFirst().get())));
+        final Map<WeightedGraph.Vertex, Integer> shortestDistancesToTargetVertexes =
+                engine == Engine.LINEAR_SCAN ?
+                        getShortestDistancesViaLinearScan(weightedGraph, sourceCoordinates,
+                                targetVertexes) :
+                        getShortestDistancesViaBinaryHeap(weightedGraph, sourceCoordinates,
+                                targetVertexes);
 
-        logger.info("Found " + shortestDistancesToTargetVertexes.size() +
-                " shortest distances to target Vertexes (border cells in the expanded Maze):");
+        logger.debug("Found " + shortestDistancesToTargetVertexes.size() +
+                " shortest distances to target Vertexes (outer layer cells of the Maze):");
 
         //Log each targetVertex and the distance from the Source to it.
-        //noinspection LambdaBodyCanBeCodeBlock
-        shortestDistancesToTargetVertexes.forEach((targetVertex, shortestDistanceToTargetVertex) ->
-                logger.info("Vertex: (" + (int) targetVertex.getCoordinates().getX() +
-                        ", " + (int) targetVertex.getCoordinates().getY() +
-                        "); Distance from Source Vertex: " + shortestDistanceToTargetVertex));
+        if (logger.isTraceEnabled())
+            //noinspection LambdaBodyCanBeCodeBlock
+            shortestDistancesToTargetVertexes.forEach((targetVertex, shortestDistanceToTargetVertex) ->
+                    logger.trace("Vertex: (" + (int) targetVertex.getCoordinates().getX() +
+                            ", " + (int) targetVertex.getCoordinates().getY() +
+                            "); Distance from Source Vertex: " + shortestDistanceToTargetVertex));
 
         //Get the absolute shortest distances from the source to a target vertex and return.
         final int shortestDistanceToTargetVertex = Collections.min(shortestDistancesToTargetVertexes.values());
@@ -130,63 +307,362 @@ public final class DijkstraMazeSolver extends MazeSolver {
 
 
     /**
-     * Add a new outer layer of cells to the original Maze.
-     * Used so that the Dijkstra Algorithm and ConnectedWeightedGraphSelector work
-     * properly.
+     * Solves the Maze with the IMPLICIT_GRID Engine. The exit Vertex of the GridGraph stands
+     * for the whole outer layer of cells.
+     * */
+    private int solveImplicitGrid(final int[][] maze, final GridGraph graph, final Point sourceCoordinates,
+                                  final SearchWorkspace workspace) throws InescapableMazeException {
+
+        final int shortestDistanceToExit = searchImplicitGrid(maze, graph, sourceCoordinates, workspace);
+
+        if (shortestDistanceToExit == Integer.MAX_VALUE) {
+            logger.fatal("The input Maze does not have any exits from the given " +
+                    "start point. Unable to proceed further. Terminating Dijkstra Maze " +
+                    "Solver.");
+            throw new InescapableMazeException(maze, sourceCoordinates);
+        }
+
+        return shortestDistanceToExit;
+    }
+
+    /**
+     * @return The distance to the exit Vertex of the GridGraph, or Integer.MAX_VALUE if there is no path to it.
+     * */
+    private int searchImplicitGrid(final int[][] maze, final GridGraph graph, final Point sourceCoordinates,
+                                   final SearchWorkspace workspace) {
+
+        logger.debug("Passing implicit grid graph of Maze with dimensions: X(" +
+                maze[0].length + "), Y(" + maze.length + ") to Grid Dijkstra Algorithm.");
+
+        final int shortestDistanceToExit;
+
+        begin(workspace, graph.getVertexCount());
+        try {
+            final GridDijkstraAlgorithm algorithm = new GridDijkstraAlgorithm(graph,
+                    graph.getVertex((int) sourceCoordinates.getX(), (int) sourceCoordinates.getY()),
+                    searchMode, workspace, getQueue(graph, workspace));
+
+            shortestDistanceToExit = algorithm.getShortestDistance(graph.getExitVertex());
+        } finally {
+            workspace.end();
+        }
+
+        if (shortestDistanceToExit != Integer.MAX_VALUE)
+            logger.info(shortestDistanceToExit + " is the absolute shortest distance " +
+                    "to the exit Vertex (i.e. out of a border cell). " +
+                    "Returning as a result of the Dijkstra Maze Solver.");
+
+        return shortestDistanceToExit;
+    }
+
+    /**
+     *
+     * Precomputes the cost of the lowest cost path to a Maze exit for every cell of the Maze,
+     * with a single reverse run of Dijkstra's Algorithm from all exits (see ExitDistanceField).
+     * Meant for solving the same Maze from many different start coordinates.
+     *
+     * NOTE: Input validation of the Maze is performed and different Exceptions may be thrown.
+     * The start coordinates are validated by ExitDistanceField.getCost(x, y).
+     *
+     * Always uses the IMPLICIT_GRID Engine, with the bucket queue threshold of this solver.
+     *
+     * @param maze - A <b>rectangular</b> 2D Maze of non-negative Integers.
+     *             0 - Denotes a space, which can not be traversed.
+     *             >0 - Denotes a space, which can be traversed, however a certain cost is incurred
+     * */
+    public ExitDistanceField computeExitDistanceField(final int[][] maze) throws MalformedMazeException,
+            EmptyMazeException, InvalidMazeValuesException {
+
+        validateMaze(maze);
+
+        final GridGraph graph = new GridGraph(maze);
+
+        return new ExitDistanceField(maze, graph, newQueue(graph));
+    }
+
+    /**
+     * Uses a TiledExitIndex.DEFAULT_TILE_SIZE. See buildTiledExitIndex(maze, tileSize).
+     * */
+    public TiledExitIndex buildTiledExitIndex(final int[][] maze) throws MalformedMazeException,
+            EmptyMazeException, InvalidMazeValuesException {
+        return buildTiledExitIndex(maze, TiledExitIndex.DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     *
+     * Precomputes a TiledExitIndex, which answers queries from any start coordinates exactly, with a search
+     * inside a single tile. Meant for very large Mazes, whose full ExitDistanceField would take too much memory
+     * to keep: the index keeps only the exit costs of the tile borders.
      *
-     * @return A new Expanded Maze with an additional outer layer.
+     * NOTE: The build itself still runs the reverse search of a full ExitDistanceField, so it briefly takes
+     * as much memory as one - the packed Maze, 4 bytes of exit cost per cell, the settled cells and the queue
+     * (see TiledExitIndex.getPeakBuildBytes).
      *
-     * The old Maze is not affected in any way.
+     * NOTE: Input validation of the Maze is performed and different Exceptions may be thrown.
+     * The start coordinates are validated by TiledExitIndex.getCost(x, y).
      *
+     * Always uses the IMPLICIT_GRID Engine, with the bucket queue threshold of this solver.
+     *
+     * @param tileSize - The number of cells per side of a tile. Positive.
      * */
-    private int[][] expand_maze(final int[][] maze) {
+    public TiledExitIndex buildTiledExitIndex(final int[][] maze, final int tileSize) throws MalformedMazeException,
+            EmptyMazeException, InvalidMazeValuesException {
+
+        if (tileSize < 1)
+            throw new IllegalArgumentException("The tile size must be positive!");
+
+        final long buildStartNanos = System.nanoTime();
 
-        int[][] maze_copy = Arrays.stream(maze).map(int[]::clone).toArray(int[][]::new);
+        validateMaze(maze);
 
-        final int xAxisSize = maze[0].length;
-        final int yAxisSize = maze.length;
+        final MazeGrid grid = MazeGrid.of(maze);
+        final GridGraph graph = new GridGraph(grid);
+        final int[] exitCosts = ExitDistanceField.computeExitCosts(graph, newQueue(graph));
+        final long searchBytes = (long) grid.getCellWidth() * grid.getWidth() * grid.getHeight() +
+                ExitDistanceField.getSearchBytes(graph) + getQueueBytes(graph);
 
-        for (int i = 0; i < yAxisSize; i++)
-            maze_copy[i] = ArrayUtils.add(ArrayUtils.insert(0, maze[i],
-                    Integer.MAX_VALUE), Integer.MAX_VALUE);
+        return new TiledExitIndex(maze, exitCosts, tileSize, buildStartNanos, searchBytes);
+    }
+
+    /**
+     *
+     * Creates a handle for one Maze and start position, whose lowest cost path can be repaired
+     * incrementally, after individual cells change (see IncrementalMazeSolver).
+     *
+     * NOTE: Input validation of the Maze and the start coordinates is performed and different Exceptions may
+     * be thrown. The Maze is copied.
+     *
+     * Matches the IMPLICIT_GRID Engine, whatever the Engine of this solver.
+     * */
+    public IncrementalMazeSolver createIncrementalSolver(final int[][] maze, final int x, final int y)
+            throws MalformedMazeException, InvalidMazeCoordinatesException, InvalidMazeStartPositionException,
+            EmptyMazeException, InvalidMazeValuesException {
 
-        maze_copy = ArrayUtils.add(ArrayUtils.insert(0, maze_copy,
-                Arrays.stream(Collections.nCopies(xAxisSize + 2, Integer.MAX_VALUE)
-                        .toArray(new Integer[xAxisSize + 2])).mapToInt(Integer::intValue).toArray() ),
-                Arrays.stream(Collections.nCopies(xAxisSize + 2, Integer.MAX_VALUE)
-                        .toArray(new Integer[xAxisSize + 2])).mapToInt(Integer::intValue).toArray() );
+        final Point sourceCoordinates = new Point(x, y);
 
-        maze_copy[0][0] = -1;
-        maze_copy[0][xAxisSize + 1] = -1;
-        maze_copy[yAxisSize + 1][0] = -1;
-        maze_copy[yAxisSize + 1][xAxisSize + 1] = -1;
+        validate(maze, sourceCoordinates);
 
-        return maze_copy;
+        return new IncrementalMazeSolver(maze, sourceCoordinates);
     }
 
     /**
      *
-     * Utility function.
+     * Like solve(maze, x, y), but also returns the lowest cost path itself (see MazeSolution),
+     * traced back from the exit through the predecessor of every Vertex on it.
      *
-     * @return A list of points, which are coordinates to
-     * all of the outer layer cells of the expanded Maze
-     * **/
-    private List<Point> getMazeBorderCoordinates(final int[][] maze) {
-        final List<Point> borderCoordinates = new ArrayList<Point>();
-        final int xAxisSize = maze[0].length;
-        final int yAxisSize = maze.length;
+     * Always uses the IMPLICIT_GRID Engine, with the SearchMode and bucket queue threshold of this solver.
+     * */
+    public MazeSolution solveWithPath(final int[][] maze, final int x, final int y)
+            throws MalformedMazeException, InvalidMazeCoordinatesException, InvalidMazeStartPositionException,
+            EmptyMazeException, InescapableMazeException, InvalidMazeValuesException {
+
+        final Point sourceCoordinates = new Point(x, y);
+        final CellValues cellValues = validate(maze, sourceCoordinates);
+
+        final SearchWorkspace workspace = workspaces.get();
+        final GridGraph graph = GridGraph.view(maze, cellValues.getMaxValue(), cellValues.getMinPositiveValue());
+        final int sourceVertex = graph.getVertex(x, y);
+
+        begin(workspace, graph.getVertexCount());
+        try {
+            final GridDijkstraAlgorithm algorithm = new GridDijkstraAlgorithm(graph, sourceVertex,
+                    searchMode, workspace, getQueue(graph, workspace));
 
-        IntStream.range(0, yAxisSize).forEach(yIndex -> {
-            if (yIndex == 0 || yIndex == yAxisSize - 1)
-                IntStream.range(0, xAxisSize).forEach(xIndex ->
-                    borderCoordinates.add(new Point(xIndex, yIndex))
-                );
-            else {
-                borderCoordinates.add(new Point(0, yIndex));
-                borderCoordinates.add(new Point(xAxisSize - 1, yIndex));
+            final int shortestDistanceToExit = algorithm.getShortestDistance(graph.getExitVertex());
+
+            if (shortestDistanceToExit == Integer.MAX_VALUE) {
+                logger.fatal("The input Maze does not have any exits from the given " +
+                        "start point. Unable to proceed further. Terminating Dijkstra Maze " +
+                        "Solver.");
+                throw new InescapableMazeException(maze, sourceCoordinates);
             }
-        });
 
-        return borderCoordinates;
+            return tracePath(graph, algorithm, sourceVertex, shortestDistanceToExit);
+        } finally {
+            workspace.end();
+        }
+    }
+
+    /**
+     *
+     * Solves a CsrGraph (e.g. a Maze with teleporters or one-way doors, see CsrGraph.Builder) from the given
+     * source Vertex: the cost is the distance to the nearest exit Vertex.
+     *
+     * The graph is not validated beyond the source Vertex - the Builder only accepts valid Edges.
+     *
+     * Always searches with Dijkstra's Algorithm on the CSR arrays (see CsrDijkstraAlgorithm), with the SearchMode,
+     * bucket queue threshold and SearchWorkspace of this solver.
+     *
+     * @return The cost of the lowest cost path to an exit Vertex, or -1 (NO_PATH) if there is none.
+     * @throws ArithmeticException If the lowest cost does not fit in an int.
+     * */
+    public int solveGraph(final CsrGraph graph, final int sourceVertex) {
+        if (sourceVertex < 0 || sourceVertex >= graph.getVertexCount())
+            throw new IllegalArgumentException("Vertex " + sourceVertex + " is not in [0, " +
+                    graph.getVertexCount() + ")!");
+
+        final SearchWorkspace workspace = workspaces.get();
+        final int shortestDistanceToExit;
+
+        begin(workspace, graph.getVertexCount());
+        try {
+            shortestDistanceToExit = new CsrDijkstraAlgorithm(graph, sourceVertex, searchMode, workspace,
+                    getQueue(graph.getMaxWeight(), workspace)).getExitDistance();
+        } finally {
+            workspace.end();
+        }
+
+        if (shortestDistanceToExit == Integer.MAX_VALUE) {
+            logger.info("The CSR graph does not have any exits from the given source Vertex.");
+            return NO_PATH;
+        }
+
+        if (shortestDistanceToExit == CsrDijkstraAlgorithm.MAX_DISTANCE)
+            throw new ArithmeticException("The shortest distance to an exit Vertex of the CSR graph " +
+                    "is at least " + CsrDijkstraAlgorithm.MAX_DISTANCE + "!");
+
+        logger.info(shortestDistanceToExit + " is the absolute shortest distance to an exit Vertex " +
+                "of the CSR graph. Returning as a result of the Dijkstra Maze Solver.");
+
+        return shortestDistanceToExit;
+    }
+
+    /**
+     * Walks the predecessors back from the exit Vertex twice: once to count the moves, then to store
+     * them from the last to the first.
+     * */
+    private static MazeSolution tracePath(final GridGraph graph, final GridDijkstraAlgorithm algorithm,
+                                          final int sourceVertex, final int cost) {
+        final int exitCell = algorithm.getPredecessor(graph.getExitVertex());
+
+        int moveCount = 0;
+
+        for (int vertex = exitCell; vertex != sourceVertex; vertex = algorithm.getPredecessor(vertex))
+            moveCount++;
+
+        final byte[] moves = MazeSolution.allocateMoves(moveCount);
+        final int width = graph.getWidth();
+
+        for (int vertex = exitCell, index = moveCount - 1; vertex != sourceVertex; index--) {
+            final int predecessor = algorithm.getPredecessor(vertex);
+            final int step = vertex - predecessor;
+
+            //Vertical first: with a width of 1, a step of 1 is to the south.
+            final MazeSolution.Move move = step == width ? MazeSolution.Move.SOUTH :
+                    step == -width ? MazeSolution.Move.NORTH :
+                    step == 1 ? MazeSolution.Move.EAST : MazeSolution.Move.WEST;
+
+            MazeSolution.encode(moves, index, move);
+            vertex = predecessor;
+        }
+
+        logger.info("Traced a lowest cost path of " + moveCount + " moves (" + moves.length + " bytes).");
+
+        return new MazeSolution(cost, new Point(graph.getX(sourceVertex), graph.getY(sourceVertex)),
+                new Point(graph.getX(exitCell), graph.getY(exitCell)), moves, moveCount);
+    }
+
+    /**
+     * A FIRST_EXIT search may stop after a few Vertexes, so on a graph above the retention limit of the workspace,
+     * it only keeps state for the Vertexes it touches. A FULL_COMPONENT search uses arrays of the size of the graph.
+     * */
+    private void begin(final SearchWorkspace workspace, final int vertexCount) {
+        if (searchMode == SearchMode.FIRST_EXIT)
+            workspace.begin(vertexCount);
+        else
+            workspace.beginFull(vertexCount);
+    }
+
+    /**
+     * @return The empty DialBucketQueue of the workspace, when the highest cell value of the graph is below
+     * the bucket queue threshold, else its empty IndexedBinaryHeap.
+     * */
+    private IntPriorityQueue getQueue(final GridGraph graph, final SearchWorkspace workspace) {
+        return getQueue(graph.getMaxWeight(), workspace);
+    }
+
+    /**
+     * Like getQueue, but a new queue with room for every Vertex of the graph, for a search, which keeps its own
+     * exit costs (see ExitDistanceField). Such a search needs nothing else of a SearchWorkspace, so it does
+     * not grow (and keep) the arrays of one to the size of the graph.
+     * */
+    private IntPriorityQueue newQueue(final GridGraph graph) {
+        final int maxWeight = graph.getMaxWeight();
+
+        if (maxWeight < bucketQueueThreshold) {
+            logger.debug("Highest Edge weight: " + maxWeight + " is below the bucket " +
+                    "queue threshold: " + bucketQueueThreshold + ". Using a Dial Bucket Queue.");
+            return new DialBucketQueue(graph.getVertexCount(), maxWeight);
+        }
+
+        return new IndexedBinaryHeap(graph.getVertexCount());
+    }
+
+    /**
+     * @return The memory taken by the queue of newQueue(graph), in bytes: 3 ints per Vertex, plus the buckets.
+     * */
+    private long getQueueBytes(final GridGraph graph) {
+        final long bytes = 3L * Integer.BYTES * graph.getVertexCount();
+
+        if (graph.getMaxWeight() < bucketQueueThreshold)
+            return bytes + (long) Integer.BYTES * (graph.getMaxWeight() + 1);
+
+        return bytes;
+    }
+
+    private IntPriorityQueue getQueue(final int maxWeight, final SearchWorkspace workspace) {
+        if (maxWeight < bucketQueueThreshold) {
+            logger.debug("Highest Edge weight: " + maxWeight + " is below the bucket " +
+                    "queue threshold: " + bucketQueueThreshold + ". Using a Dial Bucket Queue.");
+            return workspace.getBucketQueue(maxWeight);
+        }
+
+        return workspace.getHeap();
+    }
+
+    private Map<WeightedGraph.Vertex, Integer> getShortestDistancesViaLinearScan(
+            final WeightedGraph weightedGraph, final Point sourceCoordinates,
+            final List<WeightedGraph.Vertex> targetVertexes) {
+
+        //Init a new DijkstraAlgorithm. Source Vertex is parsed via our sourceCoordinates.
+        @SuppressWarnings("OptionalGetWithoutIsPresent")
+        final DijkstraAlgorithm algorithm = new DijkstraAlgorithm(weightedGraph,
+                weightedGraph.getVertexes().stream().filter(
+                        vertex ->
+                                vertex.getCoordinates().
+                                        equals(sourceCoordinates)).
+                        findFirst().get());
+
+        //The distances of all Vertexes to our sourceVertex and vice-versa
+        final Map<WeightedGraph.Vertex, Integer> distancesFromSource
+                = algorithm.getDistancesFromSource();
+
+        final Map<WeightedGraph.Vertex, Integer> shortestDistancesToTargetVertexes = new HashMap<WeightedGraph.Vertex, Integer>();
+
+        //The actual parsing
+        //noinspection OptionalGetWithoutIsPresent
+        targetVertexes.forEach(targetVertex ->
+            shortestDistancesToTargetVertexes.put(targetVertex, distancesFromSource.get(
+                    distancesFromSource.keySet()
+                            .stream().filter(vertex ->
+                            vertex.equals(targetVertex)).findFirst().get())));
+
+        return shortestDistancesToTargetVertexes;
+    }
+
+    private Map<WeightedGraph.Vertex, Integer> getShortestDistancesViaBinaryHeap(
+            final WeightedGraph weightedGraph, final Point sourceCoordinates,
+            final List<WeightedGraph.Vertex> targetVertexes) {
+
+        final HeapDijkstraAlgorithm algorithm = new HeapDijkstraAlgorithm(weightedGraph,
+                sourceCoordinates, targetVertexes, searchMode);
+
+        final Map<WeightedGraph.Vertex, Integer> shortestDistancesToTargetVertexes = new HashMap<WeightedGraph.Vertex, Integer>();
+
+        targetVertexes.forEach(targetVertex ->
+                shortestDistancesToTargetVertexes.put(targetVertex,
+                        algorithm.getShortestDistance(targetVertex.getCoordinates())));
+
+        return shortestDistancesToTargetVertexes;
     }
 }
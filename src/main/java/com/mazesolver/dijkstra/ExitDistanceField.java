@@ -0,0 +1,166 @@
+package com.mazesolver.dijkstra;
+
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.InvalidMazeCoordinatesException;
+import com.mazesolver.exception.InvalidMazeStartPositionException;
+import com.mazesolver.graph.GridGraph;
+import com.mazesolver.graph.IntPriorityQueue;
+import org.apache.log4j.Logger;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *
+ * The cost of the lowest cost path to a Maze exit, precomputed for every cell of a Maze.
+ * Obtained via DijkstraMazeSolver.computeExitDistanceField(maze).
+ *
+ * Built with a single reverse, multi-source run of Dijkstra's Algorithm, which starts from
+ * all exits at once:
+ *
+ * - Every traversable border cell starts with a cost of its own value (the cost of leaving it
+ * towards the outside of the Maze).
+ *
+ * - When a cell is settled, each traversable neighbor gets a cost of its own value plus the cost
+ * of the settled cell. This keeps the rule, that the weight of an Edge is the value of the cell,
+ * which is being left.
+ *
+ * Afterwards, getCost(x, y) is an array lookup. The Maze should not be modified afterwards,
+ * as the field is not updated.
+ *
+ * Immutable and safe to share between threads.
+ *
+ * */
+public final class ExitDistanceField {
+
+    private static final Logger logger = Logger.getLogger(ExitDistanceField.class);
+
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int[][] maze; //Kept only for Exceptions
+    private final int width;
+    private final int height;
+    private final int[] exitCosts;
+
+    /**
+     * @param unSettledVertexes An empty queue with room for every Vertex of the graph.
+     * */
+    ExitDistanceField(final int[][] maze, final GridGraph graph, final IntPriorityQueue unSettledVertexes) {
+        this.maze = maze;
+        this.width = graph.getWidth();
+        this.height = graph.getHeight();
+        this.exitCosts = computeExitCosts(graph, unSettledVertexes);
+    }
+
+    /**
+     * Runs the reverse, multi-source Dijkstra's Algorithm.
+     *
+     * @return The exit cost of every cell, by its Vertex. UNREACHABLE for cells, which can not reach an exit.
+     * */
+    static int[] computeExitCosts(final GridGraph graph, final IntPriorityQueue unSettledVertexes) {
+        final int width = graph.getWidth();
+        final int height = graph.getHeight();
+        final int[] exitCosts = new int[width * height];
+
+        Arrays.fill(exitCosts, UNREACHABLE);
+
+        logger.debug("Compute exit distance field for Maze with dimensions: X(" +
+                width + "), Y(" + height + ").");
+
+        //Sources: every traversable border cell, which leads straight out of the Maze.
+        for (int x = 0; x < width; x++) {
+            addSource(graph, unSettledVertexes, exitCosts, x, 0);
+            addSource(graph, unSettledVertexes, exitCosts, x, height - 1);
+        }
+
+        for (int y = 1; y < height - 1; y++) {
+            addSource(graph, unSettledVertexes, exitCosts, 0, y);
+            addSource(graph, unSettledVertexes, exitCosts, width - 1, y);
+        }
+
+        final BitSet settledVertexes = new BitSet(exitCosts.length);
+        final int[] neighbors = new int[4];
+        final int exitVertex = graph.getExitVertex();
+
+        while (!unSettledVertexes.isEmpty()) {
+            final int vertex = unSettledVertexes.poll();
+            settledVertexes.set(vertex);
+
+            final int neighborCount = graph.getNeighbors(vertex, neighbors);
+
+            for (int i = 0; i < neighborCount; i++) {
+                final int source = neighbors[i];
+
+                if (source == exitVertex || settledVertexes.get(source))
+                    continue;
+
+                final int candidateCost = exitCosts[vertex] + graph.getWeight(source);
+
+                if (candidateCost < exitCosts[source]) {
+                    exitCosts[source] = candidateCost;
+                    unSettledVertexes.insertOrDecrease(source, candidateCost);
+                }
+            }
+        }
+
+        logger.info("Exit distance field computed. " + settledVertexes.cardinality() +
+                " cells can reach an exit.");
+
+        return exitCosts;
+    }
+
+    /**
+     * @return The memory, which computeExitCosts takes on the graph besides its queue, in bytes: the exit cost
+     * of every cell and the settled cells.
+     * */
+    static long getSearchBytes(final GridGraph graph) {
+        final long cellCount = (long) graph.getWidth() * graph.getHeight();
+
+        return Integer.BYTES * cellCount + Long.BYTES * ((cellCount + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    private static void addSource(final GridGraph graph, final IntPriorityQueue unSettledVertexes,
+                                  final int[] exitCosts, final int x, final int y) {
+        final int vertex = graph.getVertex(x, y);
+        final int weight = graph.getWeight(vertex);
+
+        if (weight > 0) {
+            exitCosts[vertex] = weight;
+            unSettledVertexes.insertOrDecrease(vertex, weight);
+        }
+    }
+
+    /**
+     * @return The value of the lowest cost path to a Maze exit from the given start coordinates.
+     *
+     * @throws InvalidMazeCoordinatesException If the coordinates are not within the Maze.
+     * @throws InvalidMazeStartPositionException If the cell at the coordinates can not be traversed.
+     * @throws InescapableMazeException If there is no path to an exit from the coordinates.
+     * */
+    public int getCost(final int x, final int y) throws InvalidMazeCoordinatesException,
+            InvalidMazeStartPositionException, InescapableMazeException {
+
+        if (x < 0 || y < 0 || x >= width || y >= height)
+            throw new InvalidMazeCoordinatesException(maze, new Point(x, y));
+
+        final int exitCost = exitCosts[y * width + x];
+
+        if (exitCost == UNREACHABLE) {
+            if (maze[y][x] <= 0)
+                throw new InvalidMazeStartPositionException(maze, new Point(x, y));
+
+            throw new InescapableMazeException(maze, new Point(x, y));
+        }
+
+        return exitCost;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
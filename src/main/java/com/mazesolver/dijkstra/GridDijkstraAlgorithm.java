@@ -0,0 +1,98 @@
+package com.mazesolver.dijkstra;
+
+import com.mazesolver.graph.GridGraph;
+import com.mazesolver.graph.IntPriorityQueue;
+import com.mazesolver.graph.SearchWorkspace;
+import org.apache.log4j.Logger;
+
+/**
+ * Runs Dijkstra's Algorithm on a GridGraph, using a given source Vertex.
+ *
+ * Iterative, so the size of the Maze is not limited by the depth of the call stack.
+ * All per-Vertex state (distances, predecessors, settled Vertexes and the IntPriorityQueue - an IndexedBinaryHeap
+ * or a DialBucketQueue) lives in a SearchWorkspace, so nothing of the size of the Maze is allocated here.
+ * The distances are only valid until the SearchWorkspace is ended.
+ *
+ * With the FIRST_EXIT SearchMode, the search stops as soon as the exit Vertex is settled, as its
+ * distance is final at that point. Only the cells cheaper to reach than the cheapest exit are settled.
+ *
+ * */
+final class GridDijkstraAlgorithm {
+
+    private static final Logger logger = Logger.getLogger(GridDijkstraAlgorithm.class);
+
+    private final GridGraph graph;
+    private final SearchWorkspace workspace;
+
+    /**
+     * @param workspace A SearchWorkspace, which has begun a search on the graph.
+     * @param unSettledVertexes An empty queue of the workspace.
+     * */
+    GridDijkstraAlgorithm(final GridGraph graph, final int sourceVertex,
+                          final DijkstraMazeSolver.SearchMode searchMode,
+                          final SearchWorkspace workspace, final IntPriorityQueue unSettledVertexes) {
+        this.graph = graph;
+        this.workspace = workspace;
+
+        logger.debug("Execute Grid Dijkstra Algorithm for an implicit grid graph with: " +
+                graph.getVertexCount() + " Vertexes.");
+        execute(sourceVertex, searchMode == DijkstraMazeSolver.SearchMode.FIRST_EXIT,
+                unSettledVertexes);
+    }
+
+    private void execute(final int sourceVertex, final boolean stopAtExit,
+                         final IntPriorityQueue unSettledVertexes) {
+        final int[] neighbors = workspace.getNeighborBuffer();
+        final int exitVertex = graph.getExitVertex();
+
+        int settledVertexCount = 0;
+
+        workspace.setDistance(sourceVertex, 0);
+        unSettledVertexes.insertOrDecrease(sourceVertex, 0);
+
+        while (!unSettledVertexes.isEmpty()) {
+            final int vertex = unSettledVertexes.poll();
+            workspace.setSettled(vertex);
+            settledVertexCount++;
+
+            //The exit Vertex has no outgoing Edges.
+            if (vertex == exitVertex) {
+                if (stopAtExit)
+                    break;
+
+                continue;
+            }
+
+            final int candidateDistance = workspace.getDistance(vertex) + graph.getWeight(vertex);
+            final int neighborCount = graph.getNeighbors(vertex, neighbors);
+
+            for (int i = 0; i < neighborCount; i++) {
+                final int target = neighbors[i];
+
+                if (!workspace.isSettled(target) && candidateDistance < workspace.getDistance(target)) {
+                    workspace.setDistance(target, candidateDistance);
+                    workspace.setPredecessor(target, vertex);
+                    unSettledVertexes.insertOrDecrease(target, candidateDistance);
+                }
+            }
+        }
+
+        logger.debug("Settled " + settledVertexCount + " Vertexes.");
+    }
+
+    /**
+     * @return The shortest distance from the source Vertex to the given Vertex,
+     * or Integer.MAX_VALUE if it can not be reached.
+     * */
+    int getShortestDistance(final int vertex) {
+        return workspace.getDistance(vertex);
+    }
+
+    /**
+     * @return The Vertex before the given one on a shortest path from the source Vertex.
+     * Only defined for reached Vertexes, other than the source Vertex.
+     * */
+    int getPredecessor(final int vertex) {
+        return workspace.getPredecessor(vertex);
+    }
+}
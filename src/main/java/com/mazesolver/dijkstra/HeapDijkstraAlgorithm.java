@@ -0,0 +1,142 @@
+package com.mazesolver.dijkstra;
+
+import com.mazesolver.graph.IndexedBinaryHeap;
+import org.apache.log4j.Logger;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A primitive counterpart of DijkstraAlgorithm, for the same Weighted NON-DIRECTIONAL Graph.
+ *
+ * - Every Vertex is given an int id (its index in the Graph's list of Vertexes) and all
+ * per-Vertex state is kept in int arrays, indexed by that id.
+ *
+ * - The Edges are converted once into adjacency arrays, so the neighbors of a Vertex are
+ * read directly instead of scanning the whole list of Edges.
+ *
+ * - The next Vertex to settle is taken from an IndexedBinaryHeap instead of scanning the
+ * set of unsettled Vertexes.
+ *
+ * This brings the running time down to O((V + E) log V).
+ *
+ * - With the FIRST_EXIT SearchMode, the search stops as soon as the first target Vertex is settled.
+ * The distances of all other target Vertexes are then only upper bounds, but none of them is
+ * lower than the one of the settled target Vertex, so the minimum over all targets stays correct.
+ *
+ * */
+@SuppressWarnings({"MismatchedReadAndWriteOfArray", "Convert2Diamond"})
+final class HeapDijkstraAlgorithm {
+
+    private static final Logger logger = Logger.getLogger(HeapDijkstraAlgorithm.class);
+
+    private static final int NO_EDGE = -1;
+    private static final int NO_PREDECESSOR = -1;
+
+    private final Map<Point, Integer> vertexIds;
+
+    //Adjacency arrays. The Edges of a Vertex form a linked list, which starts at firstEdges[id].
+    private final int[] firstEdges;
+    private final int[] nextEdges;
+    private final int[] edgeTargets;
+    private final int[] edgeWeights;
+
+    private final int[] distances;
+    private final int[] predecessors;
+    private final BitSet targetVertexes;
+
+    HeapDijkstraAlgorithm(final WeightedGraph graph, final Point sourceCoordinates,
+                          final List<WeightedGraph.Vertex> targetVertexes,
+                          final DijkstraMazeSolver.SearchMode searchMode) {
+
+        final List<WeightedGraph.Vertex> vertexes = graph.getVertexes();
+        final List<WeightedGraph.WeightedEdge> edges = graph.getEdges();
+
+        this.vertexIds = new HashMap<Point, Integer>(vertexes.size() * 2);
+
+        for (int id = 0; id < vertexes.size(); id++)
+            vertexIds.put(vertexes.get(id).getCoordinates(), id);
+
+        //Each NON-DIRECTIONAL Edge is stored once in each direction.
+        this.firstEdges = new int[vertexes.size()];
+        this.nextEdges = new int[edges.size() * 2];
+        this.edgeTargets = new int[edges.size() * 2];
+        this.edgeWeights = new int[edges.size() * 2];
+
+        Arrays.fill(firstEdges, NO_EDGE);
+
+        int edgeCount = 0;
+        for (WeightedGraph.WeightedEdge edge : edges) {
+            final int firstId = vertexIds.get(edge.getFirstVertex().getCoordinates());
+            final int secondId = vertexIds.get(edge.getSecondVertex().getCoordinates());
+
+            edgeCount = addEdge(edgeCount, firstId, secondId, edge.getWeight());
+            edgeCount = addEdge(edgeCount, secondId, firstId, edge.getWeight());
+        }
+
+        this.distances = new int[vertexes.size()];
+        this.predecessors = new int[vertexes.size()];
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(predecessors, NO_PREDECESSOR);
+
+        this.targetVertexes = new BitSet(vertexes.size());
+
+        for (WeightedGraph.Vertex targetVertex : targetVertexes)
+            this.targetVertexes.set(vertexIds.get(targetVertex.getCoordinates()));
+
+        logger.debug("Execute Heap Dijkstra Algorithm for a connected weighted graph with: " +
+                vertexes.size() + " Vertexes & " + edges.size() + " Edges.");
+        execute(vertexIds.get(sourceCoordinates),
+                searchMode == DijkstraMazeSolver.SearchMode.FIRST_EXIT);
+    }
+
+    private int addEdge(final int edgeIndex, final int sourceId, final int targetId, final int weight) {
+        edgeTargets[edgeIndex] = targetId;
+        edgeWeights[edgeIndex] = weight;
+        nextEdges[edgeIndex] = firstEdges[sourceId];
+        firstEdges[sourceId] = edgeIndex;
+
+        return edgeIndex + 1;
+    }
+
+    private void execute(final int sourceId, final boolean stopAtFirstTarget) {
+        final IndexedBinaryHeap unSettledVertexes = new IndexedBinaryHeap(distances.length);
+
+        distances[sourceId] = 0;
+        unSettledVertexes.insertOrDecrease(sourceId, 0);
+
+        while (!unSettledVertexes.isEmpty()) {
+            final int vertex = unSettledVertexes.poll();
+            final int distance = distances[vertex];
+
+            if (stopAtFirstTarget && targetVertexes.get(vertex))
+                return;
+
+            for (int edge = firstEdges[vertex]; edge != NO_EDGE; edge = nextEdges[edge]) {
+                final int target = edgeTargets[edge];
+                final int candidateDistance = distance + edgeWeights[edge];
+
+                if (candidateDistance < distances[target]) {
+                    distances[target] = candidateDistance;
+                    predecessors[target] = vertex;
+                    unSettledVertexes.insertOrDecrease(target, candidateDistance);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The shortest distance from the source Vertex to the Vertex with the given coordinates,
+     * or Integer.MAX_VALUE if it is not part of the Graph.
+     * */
+    int getShortestDistance(final Point coordinates) {
+        final Integer id = vertexIds.get(coordinates);
+
+        return id == null ? Integer.MAX_VALUE : distances[id];
+    }
+}
@@ -0,0 +1,437 @@
+package com.mazesolver.dijkstra;
+
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.InvalidMazeCoordinatesException;
+import com.mazesolver.exception.InvalidMazeStartPositionException;
+import com.mazesolver.exception.InvalidMazeValuesException;
+import org.apache.log4j.Logger;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ *
+ * A Maze and a start position, whose lowest cost path to a Maze exit is kept up to date, while
+ * individual cells change. Obtained via DijkstraMazeSolver.createIncrementalSolver(maze, x, y).
+ *
+ * Uses Lifelong Planning A* (LPA*) on the same graph as the IMPLICIT_GRID Engine: the cells, plus one
+ * exit Vertex, which every border cell has an Edge to, and the weight of an Edge is the value of the cell,
+ * which is being left. For every Vertex, it keeps:
+ *
+ * - g: its distance from the start, as of the last search.
+ * - rhs: a one-step lookahead - the lowest g + weight over its predecessors (0 for the start).
+ *
+ * A Vertex, where the two differ, is inconsistent and queued. updateCell(x, y, value) only recomputes rhs
+ * for the changed cell and the Vertexes it has Edges to. currentCost() then settles inconsistent Vertexes
+ * in order of min(g, rhs) + heuristic, until the exit Vertex is consistent and nothing queued could still
+ * lower it - so only the part of the shortest path tree, which the changes affect, is repaired.
+ *
+ * Heuristic: (steps to the nearest border cell + 1), as every traversable cell has a value of at least 1.
+ * Unlike the one of AStarMazeSolver, it does not depend on the lowest cell value, so it stays admissible
+ * and consistent whatever values the cells change to.
+ *
+ * The Maze is copied - changes to the original Maze are not seen. NOT thread-safe.
+ *
+ * */
+public final class IncrementalMazeSolver {
+
+    private static final Logger logger = Logger.getLogger(IncrementalMazeSolver.class);
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int[][] maze;
+    private final Point sourceCoordinates;
+    private final int width;
+    private final int height;
+    private final int sourceVertex;
+    private final int exitVertex;
+
+    private final int[] g;
+    private final int[] rhs;
+    private final KeyedHeap inconsistentVertexes;
+
+    private final int[] touchedEpochs; //touchedEpochs[cell] == epoch - the cell was touched since the last repair
+    private int epoch = 1;
+    private int touchedCellCount;
+    private int lastTouchedCellCount;
+
+    IncrementalMazeSolver(final int[][] maze, final Point sourceCoordinates) {
+        this.maze = Arrays.stream(maze).map(int[]::clone).toArray(int[][]::new);
+        this.sourceCoordinates = new Point(sourceCoordinates);
+        this.width = maze[0].length;
+        this.height = maze.length;
+        this.sourceVertex = (int) sourceCoordinates.getY() * width + (int) sourceCoordinates.getX();
+        this.exitVertex = width * height;
+
+        this.g = new int[exitVertex + 1];
+        this.rhs = new int[exitVertex + 1];
+        this.inconsistentVertexes = new KeyedHeap(exitVertex + 1);
+        this.touchedEpochs = new int[exitVertex];
+
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+
+        rhs[sourceVertex] = 0;
+        updateVertex(sourceVertex);
+    }
+
+    /**
+     * Changes the value of a cell. The lowest cost path is only repaired by the next currentCost().
+     *
+     * @param value - The new value of the cell. 0 - the cell can no longer be traversed.
+     *
+     * @throws InvalidMazeCoordinatesException If the coordinates are not within the Maze.
+     * @throws InvalidMazeValuesException If the value is negative.
+     * */
+    public void updateCell(final int x, final int y, final int value) throws InvalidMazeCoordinatesException,
+            InvalidMazeValuesException {
+
+        if (x < 0 || y < 0 || x >= width || y >= height)
+            throw new InvalidMazeCoordinatesException(maze, new Point(x, y));
+
+        if (value < 0)
+            throw new InvalidMazeValuesException(maze);
+
+        if (maze[y][x] == value)
+            return;
+
+        logger.debug("Update cell: (" + x + ", " + y + ") from " + maze[y][x] + " to " + value + ".");
+
+        maze[y][x] = value;
+
+        //The cell itself (its traversability decides, whether it has incoming Edges)
+        //and every Vertex, it has an Edge to (the weight of which is its value).
+        final int vertex = y * width + x;
+
+        recomputeRhs(vertex);
+
+        if (x + 1 < width)
+            recomputeRhs(vertex + 1);
+        if (x > 0)
+            recomputeRhs(vertex - 1);
+        if (y + 1 < height)
+            recomputeRhs(vertex + width);
+        if (y > 0)
+            recomputeRhs(vertex - width);
+        if (isBorderCell(vertex))
+            recomputeRhs(exitVertex);
+    }
+
+    /**
+     * Repairs the lowest cost path after any updateCell calls, and returns its cost.
+     * Matches DijkstraMazeSolver.solve on the current cells.
+     *
+     * @throws InvalidMazeStartPositionException If the start cell has been updated to 0.
+     * @throws InescapableMazeException If there is no path to an exit from the start.
+     * */
+    public int currentCost() throws InvalidMazeStartPositionException, InescapableMazeException {
+        final int x = (int) sourceCoordinates.getX();
+        final int y = (int) sourceCoordinates.getY();
+
+        if (maze[y][x] <= 0)
+            throw new InvalidMazeStartPositionException(maze, sourceCoordinates);
+
+        computeShortestPath();
+
+        lastTouchedCellCount = touchedCellCount;
+        touchedCellCount = 0;
+        epoch++;
+
+        logger.info("Incremental repair touched " + lastTouchedCellCount + " of the " + exitVertex +
+                " cells of the Maze.");
+
+        if (g[exitVertex] == INFINITY)
+            throw new InescapableMazeException(maze, sourceCoordinates);
+
+        return g[exitVertex];
+    }
+
+    /**
+     * @return The number of cells, whose g or rhs was changed, or which were settled, by the updates and
+     * the repair, which led up to the most recent currentCost().
+     * */
+    public int getLastTouchedCellCount() {
+        return lastTouchedCellCount;
+    }
+
+    private void computeShortestPath() {
+        while (!inconsistentVertexes.isEmpty() &&
+                (inconsistentVertexes.peekKey() < key(exitVertex) || rhs[exitVertex] != g[exitVertex])) {
+
+            final int vertex = inconsistentVertexes.poll();
+            touch(vertex);
+
+            if (vertex == exitVertex) {
+                //No Edges out of the exit Vertex - only its own distance changes.
+                g[vertex] = g[vertex] > rhs[vertex] ? rhs[vertex] : INFINITY;
+                updateVertex(vertex);
+                continue;
+            }
+
+            if (g[vertex] > rhs[vertex]) {
+                //Overconsistent: its distance dropped. Successors can only get cheaper through it.
+                g[vertex] = rhs[vertex];
+
+                final int candidate = g[vertex] + getWeight(vertex);
+
+                forEachSuccessor(vertex, successor -> {
+                    if (successor != sourceVertex && candidate < rhs[successor]) {
+                        rhs[successor] = candidate;
+                        updateVertex(successor);
+                    }
+                });
+            } else {
+                //Underconsistent: its distance rose. Successors, which relied on it, look for another predecessor.
+                final int candidate = g[vertex] + getWeight(vertex);
+                g[vertex] = INFINITY;
+
+                forEachSuccessor(vertex, successor -> {
+                    if (rhs[successor] == candidate)
+                        recomputeRhs(successor);
+                });
+
+                updateVertex(vertex);
+            }
+        }
+    }
+
+    private interface VertexConsumer {
+        void accept(final int vertex);
+    }
+
+    /**
+     * Calls the consumer for every Vertex, which the given Vertex has an Edge to.
+     * */
+    private void forEachSuccessor(final int vertex, final VertexConsumer consumer) {
+        if (vertex == exitVertex || getWeight(vertex) <= 0)
+            return;
+
+        final int x = vertex % width;
+        final int y = vertex / width;
+
+        if (x + 1 < width && getWeight(vertex + 1) > 0)
+            consumer.accept(vertex + 1);
+        if (x > 0 && getWeight(vertex - 1) > 0)
+            consumer.accept(vertex - 1);
+        if (y + 1 < height && getWeight(vertex + width) > 0)
+            consumer.accept(vertex + width);
+        if (y > 0 && getWeight(vertex - width) > 0)
+            consumer.accept(vertex - width);
+        if (isBorderCell(vertex))
+            consumer.accept(exitVertex);
+    }
+
+    /**
+     * Sets rhs to the lowest g + weight over all predecessors of the Vertex, and re-queues it if needed.
+     * */
+    private void recomputeRhs(final int vertex) {
+        if (vertex == sourceVertex)
+            return;
+
+        int lowest = INFINITY;
+
+        if (vertex == exitVertex) {
+            for (int x = 0; x < width; x++) {
+                lowest = Math.min(lowest, viaPredecessor(x));
+                lowest = Math.min(lowest, viaPredecessor((height - 1) * width + x));
+            }
+
+            for (int y = 1; y < height - 1; y++) {
+                lowest = Math.min(lowest, viaPredecessor(y * width));
+                lowest = Math.min(lowest, viaPredecessor(y * width + width - 1));
+            }
+        } else if (getWeight(vertex) > 0) {
+            final int x = vertex % width;
+            final int y = vertex / width;
+
+            if (x + 1 < width)
+                lowest = Math.min(lowest, viaPredecessor(vertex + 1));
+            if (x > 0)
+                lowest = Math.min(lowest, viaPredecessor(vertex - 1));
+            if (y + 1 < height)
+                lowest = Math.min(lowest, viaPredecessor(vertex + width));
+            if (y > 0)
+                lowest = Math.min(lowest, viaPredecessor(vertex - width));
+        }
+
+        rhs[vertex] = lowest;
+        updateVertex(vertex);
+    }
+
+    /**
+     * @return g + weight of the predecessor, or INFINITY if it can not be traversed or has not been reached.
+     * */
+    private int viaPredecessor(final int predecessor) {
+        final int weight = getWeight(predecessor);
+
+        return weight <= 0 || g[predecessor] == INFINITY ? INFINITY : g[predecessor] + weight;
+    }
+
+    /**
+     * Queues the Vertex with its current key, if it is inconsistent, else removes it from the queue.
+     * */
+    private void updateVertex(final int vertex) {
+        touch(vertex);
+
+        if (g[vertex] != rhs[vertex])
+            inconsistentVertexes.insertOrUpdate(vertex, key(vertex));
+        else
+            inconsistentVertexes.remove(vertex);
+    }
+
+    /**
+     * @return [min(g, rhs) + heuristic; min(g, rhs)], packed into a long, which compares the same way.
+     * */
+    private long key(final int vertex) {
+        final int distance = Math.min(g[vertex], rhs[vertex]);
+
+        return ((long) distance + heuristic(vertex)) << 31 | distance;
+    }
+
+    private int heuristic(final int vertex) {
+        if (vertex == exitVertex)
+            return 0;
+
+        final int x = vertex % width;
+        final int y = vertex / width;
+
+        return Math.min(Math.min(x, width - 1 - x), Math.min(y, height - 1 - y)) + 1;
+    }
+
+    private int getWeight(final int vertex) {
+        return maze[vertex / width][vertex % width];
+    }
+
+    private boolean isBorderCell(final int vertex) {
+        final int x = vertex % width;
+        final int y = vertex / width;
+
+        return x == 0 || y == 0 || x == width - 1 || y == height - 1;
+    }
+
+    private void touch(final int vertex) {
+        if (vertex != exitVertex && touchedEpochs[vertex] != epoch) {
+            touchedEpochs[vertex] = epoch;
+            touchedCellCount++;
+        }
+    }
+
+    /**
+     * An indexed binary min-heap of Vertexes by long keys, which can also remove and re-key any Vertex.
+     * */
+    private static final class KeyedHeap {
+
+        private static final int ABSENT = -1;
+
+        private final int[] heap;
+        private final int[] positions;
+        private final long[] keys;
+
+        private int size;
+
+        private KeyedHeap(final int capacity) {
+            this.heap = new int[capacity];
+            this.positions = new int[capacity];
+            this.keys = new long[capacity];
+
+            Arrays.fill(positions, ABSENT);
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private long peekKey() {
+            return keys[heap[0]];
+        }
+
+        private void insertOrUpdate(final int vertex, final long key) {
+            if (positions[vertex] == ABSENT) {
+                keys[vertex] = key;
+                heap[size] = vertex;
+                positions[vertex] = size;
+                siftUp(size++);
+            } else if (key < keys[vertex]) {
+                keys[vertex] = key;
+                siftUp(positions[vertex]);
+            } else if (key > keys[vertex]) {
+                keys[vertex] = key;
+                siftDown(positions[vertex]);
+            }
+        }
+
+        private int poll() {
+            final int minimum = heap[0];
+
+            removeAt(0);
+
+            return minimum;
+        }
+
+        private void remove(final int vertex) {
+            if (positions[vertex] != ABSENT)
+                removeAt(positions[vertex]);
+        }
+
+        private void removeAt(final int position) {
+            positions[heap[position]] = ABSENT;
+            size--;
+
+            if (position == size)
+                return;
+
+            final int last = heap[size];
+
+            heap[position] = last;
+            positions[last] = position;
+            siftDown(position);
+
+            if (positions[last] == position)
+                siftUp(position);
+        }
+
+        private void siftUp(int position) {
+            final int vertex = heap[position];
+            final long key = keys[vertex];
+
+            while (position > 0) {
+                final int parent = (position - 1) >>> 1;
+
+                if (keys[heap[parent]] <= key)
+                    break;
+
+                heap[position] = heap[parent];
+                positions[heap[position]] = position;
+                position = parent;
+            }
+
+            heap[position] = vertex;
+            positions[vertex] = position;
+        }
+
+        private void siftDown(int position) {
+            final int vertex = heap[position];
+            final long key = keys[vertex];
+
+            while (true) {
+                int child = 2 * position + 1;
+
+                if (child >= size)
+                    break;
+
+                if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]])
+                    child++;
+
+                if (keys[heap[child]] >= key)
+                    break;
+
+                heap[position] = heap[child];
+                positions[heap[position]] = position;
+                position = child;
+            }
+
+            heap[position] = vertex;
+            positions[vertex] = position;
+        }
+    }
+}
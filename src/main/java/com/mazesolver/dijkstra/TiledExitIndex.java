@@ -0,0 +1,268 @@
+package com.mazesolver.dijkstra;
+
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.InvalidMazeCoordinatesException;
+import com.mazesolver.exception.InvalidMazeStartPositionException;
+import com.mazesolver.graph.IntPriorityQueue;
+import com.mazesolver.graph.SearchWorkspace;
+import org.apache.log4j.Logger;
+
+import java.awt.*;
+
+/**
+ *
+ * A precomputed index for solving one large, static Maze from many start coordinates, which keeps
+ * only a small part of an ExitDistanceField. Obtained via DijkstraMazeSolver.buildTiledExitIndex(maze).
+ *
+ * The Maze is split into square tiles. Only the exit costs of the cells on the borders of the tiles
+ * (the entrances of the tiles) are kept - about 4 / tileSize of all cells.
+ *
+ * A query searches only inside the tile of the start coordinates, with Dijkstra's Algorithm, and answers:
+ *
+ *      min over the border cells b of the tile of (cost from the start to b inside the tile + exit cost of b)
+ *
+ * This is exact: every path to an exit leaves the tile of the start (or the Maze itself, whose border cells
+ * are all tile border cells) through one of its border cells, and the part of the path up to that
+ * cell lies inside the tile. The search stops as soon as no cheaper answer can be found.
+ *
+ * The abstract graph of HPA* (entrances and the costs between them) is solved for all exits at once,
+ * at build time, by the reverse run of Dijkstra's Algorithm of the ExitDistanceField, so a query needs no
+ * search on it. A query costs O(tileSize^2 log tileSize), whatever the size of the Maze.
+ *
+ * Building the index still runs the reverse search of a full ExitDistanceField, so it briefly takes as much
+ * memory as one (see getPeakBuildBytes). Only the kept exit costs outlive the build.
+ *
+ * The Maze itself is read by queries and not copied, so it must not be modified afterwards.
+ *
+ * Thread-safe, with a SearchWorkspace per thread.
+ *
+ * */
+public final class TiledExitIndex {
+
+    private static final Logger logger = Logger.getLogger(TiledExitIndex.class);
+
+    /**
+     * Keeps about 6% of the exit costs, while a query searches at most 4096 cells.
+     * */
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    private static final int UNREACHABLE = ExitDistanceField.UNREACHABLE;
+
+    private final int[][] maze;
+    private final int width;
+    private final int height;
+    private final int tileSize;
+
+    //Exit costs of the top (2 * tile) and bottom (2 * tile + 1) row of each tile, by x. Null if not a border row.
+    private final int[][] rowExitCosts;
+    //Exit costs of the left (2 * tile) and right (2 * tile + 1) column of each tile, by y.
+    private final int[][] columnExitCosts;
+
+    private final long buildNanos;
+    private final long peakBuildBytes;
+    private final ThreadLocal<SearchWorkspace> workspaces;
+
+    /**
+     * @param exitCosts The exit cost of every cell (see ExitDistanceField.computeExitCosts). Only read.
+     * @param buildStartNanos The System.nanoTime() at which the build of the index started.
+     * @param searchBytes The memory taken by the search for the exit costs, which is still held
+     *                    while the index copies them, in bytes.
+     * */
+    TiledExitIndex(final int[][] maze, final int[] exitCosts, final int tileSize, final long buildStartNanos,
+                   final long searchBytes) {
+        this.maze = maze;
+        this.width = maze[0].length;
+        this.height = maze.length;
+        this.tileSize = tileSize;
+
+        final int tileRows = (height + tileSize - 1) / tileSize;
+        final int tileColumns = (width + tileSize - 1) / tileSize;
+
+        this.rowExitCosts = new int[2 * tileRows][];
+        this.columnExitCosts = new int[2 * tileColumns][];
+
+        for (int y = 0; y < height; y++) {
+            if (isBorderRow(y)) {
+                final int[] row = new int[width];
+                System.arraycopy(exitCosts, y * width, row, 0, width);
+                rowExitCosts[getSlot(y)] = row;
+            }
+        }
+
+        for (int x = 0; x < width; x++) {
+            if (isBorderColumn(x)) {
+                final int[] column = new int[height];
+
+                for (int y = 0; y < height; y++)
+                    column[y] = exitCosts[y * width + x];
+
+                columnExitCosts[getSlot(x)] = column;
+            }
+        }
+
+        final int tileArea = tileSize * tileSize;
+
+        this.workspaces = ThreadLocal.withInitial(() -> new SearchWorkspace(tileArea));
+        this.buildNanos = System.nanoTime() - buildStartNanos;
+        this.peakBuildBytes = searchBytes + getIndexBytes();
+
+        logger.info("Tiled exit index built for Maze with dimensions: X(" + width + "), Y(" + height +
+                ") and tiles of " + tileSize + "x" + tileSize + " cells in " + buildNanos / 1_000_000 +
+                " ms. Index size: " + getIndexBytes() + " bytes. Peak build memory: " + peakBuildBytes + " bytes.");
+    }
+
+    /**
+     * @return The value of the lowest cost path to a Maze exit from the given start coordinates.
+     *
+     * @throws InvalidMazeCoordinatesException If the coordinates are not within the Maze.
+     * @throws InvalidMazeStartPositionException If the cell at the coordinates can not be traversed.
+     * @throws InescapableMazeException If there is no path to an exit from the coordinates.
+     * */
+    public int getCost(final int x, final int y) throws InvalidMazeCoordinatesException,
+            InvalidMazeStartPositionException, InescapableMazeException {
+
+        if (x < 0 || y < 0 || x >= width || y >= height)
+            throw new InvalidMazeCoordinatesException(maze, new Point(x, y));
+
+        if (maze[y][x] <= 0)
+            throw new InvalidMazeStartPositionException(maze, new Point(x, y));
+
+        final int cost = searchTile(x, y);
+
+        if (cost == UNREACHABLE)
+            throw new InescapableMazeException(maze, new Point(x, y));
+
+        return cost;
+    }
+
+    /**
+     * Dijkstra's Algorithm inside the tile of the start coordinates, on local Vertex ids
+     * (y - tileY) * tileWidth + (x - tileX).
+     * */
+    private int searchTile(final int x, final int y) {
+        final int tileX = x / tileSize * tileSize;
+        final int tileY = y / tileSize * tileSize;
+        final int tileWidth = Math.min(tileSize, width - tileX);
+        final int tileHeight = Math.min(tileSize, height - tileY);
+
+        final SearchWorkspace workspace = workspaces.get();
+        int lowestCost = UNREACHABLE;
+
+        workspace.begin(tileWidth * tileHeight);
+        try {
+            final IntPriorityQueue unSettledVertexes = workspace.getHeap();
+            final int sourceVertex = (y - tileY) * tileWidth + (x - tileX);
+
+            workspace.setDistance(sourceVertex, 0);
+            unSettledVertexes.insertOrDecrease(sourceVertex, 0);
+
+            while (!unSettledVertexes.isEmpty()) {
+                final int vertex = unSettledVertexes.poll();
+                final int distance = workspace.getDistance(vertex);
+
+                //Every exit cost is at least 1, so no cell from here on can lead to a lower cost.
+                if (distance >= lowestCost)
+                    break;
+
+                workspace.setSettled(vertex);
+
+                final int localX = vertex % tileWidth;
+                final int localY = vertex / tileWidth;
+                final int cellX = tileX + localX;
+                final int cellY = tileY + localY;
+
+                if (localX == 0 || localY == 0 || localX == tileWidth - 1 || localY == tileHeight - 1) {
+                    final int exitCost = getBorderExitCost(cellX, cellY);
+
+                    if (exitCost != UNREACHABLE)
+                        lowestCost = Math.min(lowestCost, distance + exitCost);
+                }
+
+                final int candidateDistance = distance + maze[cellY][cellX];
+
+                if (localX + 1 < tileWidth)
+                    relax(workspace, unSettledVertexes, vertex + 1, cellX + 1, cellY, candidateDistance);
+                if (localX > 0)
+                    relax(workspace, unSettledVertexes, vertex - 1, cellX - 1, cellY, candidateDistance);
+                if (localY + 1 < tileHeight)
+                    relax(workspace, unSettledVertexes, vertex + tileWidth, cellX, cellY + 1, candidateDistance);
+                if (localY > 0)
+                    relax(workspace, unSettledVertexes, vertex - tileWidth, cellX, cellY - 1, candidateDistance);
+            }
+        } finally {
+            workspace.end();
+        }
+
+        return lowestCost;
+    }
+
+    private void relax(final SearchWorkspace workspace, final IntPriorityQueue unSettledVertexes,
+                       final int target, final int cellX, final int cellY, final int candidateDistance) {
+        if (maze[cellY][cellX] > 0 && !workspace.isSettled(target) &&
+                candidateDistance < workspace.getDistance(target)) {
+            workspace.setDistance(target, candidateDistance);
+            unSettledVertexes.insertOrDecrease(target, candidateDistance);
+        }
+    }
+
+    /**
+     * @return The exit cost of a cell on the border of its tile.
+     * */
+    private int getBorderExitCost(final int x, final int y) {
+        if (isBorderRow(y))
+            return rowExitCosts[getSlot(y)][x];
+
+        return columnExitCosts[getSlot(x)][y];
+    }
+
+    private boolean isBorderRow(final int y) {
+        return y % tileSize == 0 || y % tileSize == tileSize - 1 || y == height - 1;
+    }
+
+    private boolean isBorderColumn(final int x) {
+        return x % tileSize == 0 || x % tileSize == tileSize - 1 || x == width - 1;
+    }
+
+    /**
+     * @return The slot of a border row (or column): 2 * tile for the first one of its tile, else 2 * tile + 1.
+     * */
+    private int getSlot(final int coordinate) {
+        return 2 * (coordinate / tileSize) + (coordinate % tileSize == 0 ? 0 : 1);
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * @return The time, which building the index took (including the ExitDistanceField), in nanoseconds.
+     * */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    /**
+     * @return The most memory, which the build of the index took at once, in bytes (without the Maze itself):
+     * the search for the exit costs of every cell, and the kept exit costs, which are copied out of them.
+     * */
+    public long getPeakBuildBytes() {
+        return peakBuildBytes;
+    }
+
+    /**
+     * @return The memory taken by the exit costs, which the index keeps, in bytes (without the Maze itself).
+     * */
+    public long getIndexBytes() {
+        long bytes = 0;
+
+        for (int[] row : rowExitCosts)
+            if (row != null)
+                bytes += (long) row.length * Integer.BYTES;
+
+        for (int[] column : columnExitCosts)
+            if (column != null)
+                bytes += (long) column.length * Integer.BYTES;
+
+        return bytes;
+    }
+}
@@ -1,7 +1,7 @@
 package com.mazesolver.dijkstra;
 
 import java.awt.*;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @SuppressWarnings("Convert2Diamond")
@@ -9,7 +9,7 @@ final class WeightedGraph {
 
     /**
      * A model for a Vertex.
-     * It is defined only by the coordinates of a cell in the Expanded Maze.
+     * It is defined only by the coordinates of a cell in the Maze, or in its virtual outer layer.
      * E
      *
      * public boolean equals(Object obj) is Overridden for convenience, in order to assure that
@@ -31,7 +31,12 @@ final class WeightedGraph {
         @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
         @Override
         public boolean equals(Object obj) {
-            return coordinates.equals(((Vertex) obj).getCoordinates());
+            return coordinates.equals(((Vertex) obj).coordinates); //No copy of the coordinates
+        }
+
+        @Override
+        public int hashCode() {
+            return coordinates.hashCode();
         }
     }
 
@@ -41,7 +46,7 @@ final class WeightedGraph {
      * DISCLAIMER: These are NON-DIRECTION Edges.
      *
      * Simply holds a source & destination (both interchangeable) Vertex, as well as a weight,
-     * as defined in the Maze & the Expanded Maze.
+     * as defined in the Maze.
      *
      * */
     static final class WeightedEdge {
@@ -93,12 +98,18 @@ final class WeightedGraph {
         this.edges = edges;
     }
 
+    /**
+     * @return A read-only view of the Vertexes - the list is not copied.
+     * */
     List<Vertex> getVertexes() {
-        return new ArrayList<Vertex>(vertexes);
+        return Collections.unmodifiableList(vertexes);
     }
 
+    /**
+     * @return A read-only view of the Edges - the list is not copied.
+     * */
     List<WeightedEdge> getEdges() {
-        return new ArrayList<WeightedEdge>(edges);
+        return Collections.unmodifiableList(edges);
     }
 
 }
@@ -7,16 +7,27 @@ public final class InvalidMazeStartPositionException extends MazePositionExcepti
     private final int mazeCellValue;
 
     public InvalidMazeStartPositionException(final int[][] maze, final Point sourceCoordinates) {
+        this(maze, sourceCoordinates, maze[(int) sourceCoordinates.getY()]
+                [(int) sourceCoordinates.getX()]);
+    }
+
+    /**
+     * For Mazes, which are not held in an int[][] (e.g. a MappedMaze). getMaze() returns null.
+     * */
+    public InvalidMazeStartPositionException(final Point sourceCoordinates, final int mazeCellValue) {
+        this(null, sourceCoordinates, mazeCellValue);
+    }
+
+    private InvalidMazeStartPositionException(final int[][] maze, final Point sourceCoordinates,
+                                              final int mazeCellValue) {
         super(maze, sourceCoordinates,
                 "You cannot traverse this Maze from the start position: " +
                 getFormattedCoordinatesString(sourceCoordinates) + " as that cell " +
-                "has a value of \"" + maze[(int) sourceCoordinates.getY()]
-                        [(int) sourceCoordinates.getX()] + "\"! " +
+                "has a value of \"" + mazeCellValue + "\"! " +
                         "Take note that you may only start on cells which have a positive " +
                         "associated value.");
 
-        this.mazeCellValue = maze[(int) sourceCoordinates.getY()]
-                [(int) sourceCoordinates.getX()];
+        this.mazeCellValue = mazeCellValue;
     }
 
     @SuppressWarnings("unused")
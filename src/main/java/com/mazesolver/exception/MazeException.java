@@ -2,6 +2,14 @@ package com.mazesolver.exception;
 
 public class MazeException extends Exception {
 
+    /**
+     * Whether Maze Exceptions capture a stack trace. Capturing it costs far more than the rest of a failed
+     * solve, so callers, for which failures are routine, may turn it off with
+     * -Dcom.mazesolver.exception.stackTraces=false. See also MazeSolver.solveResult, which throws nothing.
+     * */
+    public static final boolean STACK_TRACES =
+            !"false".equalsIgnoreCase(System.getProperty("com.mazesolver.exception.stackTraces"));
+
     private final int[][] maze;
 
     @SuppressWarnings("unused")
@@ -10,12 +18,12 @@ public class MazeException extends Exception {
                 "It may be malformed. Alternatively, an attempt to traverse it from" +
                 "an invalid starting position may have been made. " +
                 "In addition, please note that if the Maze is inescapable, " +
-                "an Exception will also be thrown.");
+                "an Exception will also be thrown.", null, true, STACK_TRACES);
         this.maze = maze;
     }
 
     MazeException(final int[][] maze, final String message) {
-        super(message);
+        super(message, null, true, STACK_TRACES);
         this.maze = maze;
     }
 
@@ -0,0 +1,228 @@
+package com.mazesolver.graph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *
+ * A Weighted DIRECTIONAL Graph in compressed sparse row form, for graphs, which are not a plain grid -
+ * e.g. a Maze with teleporters or one-way doors. Built with a CsrGraph.Builder.
+ *
+ * - Vertexes are int ids in [0, getVertexCount()).
+ * - The Edges, which leave the Vertex v, are the Edge indexes [offsets[v], offsets[v + 1]). Their targets
+ * and weights are targets[edge] and weights[edge], so the Edges of a Vertex are scanned sequentially,
+ * without an object per Edge.
+ * - Some Vertexes are exits. The cost of a solve is the distance from the source Vertex to the nearest exit.
+ *
+ * Builder.of(maze) gives the same Graph as GridGraph, with explicit Edges: the weight of an Edge is
+ * the value of the cell, which is being left, and one exit Vertex stands for the outside of the Maze,
+ * so the costs are the same as the ones of MazeSolver.solve. More Edges may be added to it before it is built.
+ *
+ * Immutable and thread-safe once built.
+ *
+ * */
+public final class CsrGraph {
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final BitSet exitVertexes;
+    private final int maxWeight;
+
+    private CsrGraph(final int[] offsets, final int[] targets, final int[] weights, final BitSet exitVertexes,
+                     final int maxWeight) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.exitVertexes = exitVertexes;
+        this.maxWeight = maxWeight;
+    }
+
+    public int getVertexCount() {
+        return offsets.length - 1;
+    }
+
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * @return The index of the first Edge, which leaves the given Vertex.
+     * */
+    public int getFirstEdge(final int vertex) {
+        return offsets[vertex];
+    }
+
+    /**
+     * @return The index after the last Edge, which leaves the given Vertex.
+     * */
+    public int getEndEdge(final int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int getTarget(final int edge) {
+        return targets[edge];
+    }
+
+    public int getWeight(final int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * @return The highest weight of any Edge in the Graph. 0 if it has no Edges.
+     * */
+    public int getMaxWeight() {
+        return maxWeight;
+    }
+
+    public boolean isExit(final int vertex) {
+        return exitVertexes.get(vertex);
+    }
+
+    /**
+     * @return The exit Vertexes, in ascending order.
+     * */
+    public int[] getExitVertexes() {
+        return exitVertexes.stream().toArray();
+    }
+
+    /**
+     *
+     * Collects Edges in any order and sorts them by their source Vertex once, in build().
+     * Edges of the same Vertex keep the order, in which they were added.
+     *
+     * NOT thread-safe.
+     *
+     * */
+    public static final class Builder {
+
+        private static final int INITIAL_EDGE_CAPACITY = 16;
+
+        private final int vertexCount;
+        private final BitSet exitVertexes;
+
+        private int[] sources = new int[INITIAL_EDGE_CAPACITY];
+        private int[] targets = new int[INITIAL_EDGE_CAPACITY];
+        private int[] weights = new int[INITIAL_EDGE_CAPACITY];
+        private int edgeCount;
+
+        public Builder(final int vertexCount) {
+            if (vertexCount < 0)
+                throw new IllegalArgumentException("The Vertex count must be non-negative!");
+
+            this.vertexCount = vertexCount;
+            this.exitVertexes = new BitSet(vertexCount);
+        }
+
+        /**
+         * Adds the Edges of a GridGraph of the Maze: the Vertex of the cell (x, y) is y * width + x and the
+         * exit Vertex is width * height.
+         *
+         * @param maze An already validated Maze.
+         * */
+        public static Builder of(final int[][] maze) {
+            final int width = maze[0].length;
+            final int height = maze.length;
+            final int exitVertex = width * height;
+            final Builder builder = new Builder(exitVertex + 1);
+
+            builder.addExit(exitVertex);
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    final int weight = maze[y][x];
+
+                    if (weight <= 0)
+                        continue;
+
+                    final int vertex = y * width + x;
+
+                    if (x == 0 || y == 0 || x == width - 1 || y == height - 1)
+                        builder.addEdge(vertex, exitVertex, weight);
+
+                    if (x + 1 < width && maze[y][x + 1] > 0)
+                        builder.addEdge(vertex, vertex + 1, weight);
+                    if (x > 0 && maze[y][x - 1] > 0)
+                        builder.addEdge(vertex, vertex - 1, weight);
+                    if (y + 1 < height && maze[y + 1][x] > 0)
+                        builder.addEdge(vertex, vertex + width, weight);
+                    if (y > 0 && maze[y - 1][x] > 0)
+                        builder.addEdge(vertex, vertex - width, weight);
+                }
+            }
+
+            return builder;
+        }
+
+        public int getVertexCount() {
+            return vertexCount;
+        }
+
+        /**
+         * Adds an Edge from source to target (e.g. a one-way door or a teleporter).
+         *
+         * @param weight Non-negative.
+         * */
+        public Builder addEdge(final int source, final int target, final int weight) {
+            checkVertex(source);
+            checkVertex(target);
+
+            if (weight < 0)
+                throw new IllegalArgumentException("Edge weights must be non-negative!");
+
+            if (edgeCount == sources.length) {
+                sources = Arrays.copyOf(sources, 2 * edgeCount);
+                targets = Arrays.copyOf(targets, 2 * edgeCount);
+                weights = Arrays.copyOf(weights, 2 * edgeCount);
+            }
+
+            sources[edgeCount] = source;
+            targets[edgeCount] = target;
+            weights[edgeCount] = weight;
+            edgeCount++;
+
+            return this;
+        }
+
+        public Builder addExit(final int vertex) {
+            checkVertex(vertex);
+            exitVertexes.set(vertex);
+
+            return this;
+        }
+
+        private void checkVertex(final int vertex) {
+            if (vertex < 0 || vertex >= vertexCount)
+                throw new IllegalArgumentException("Vertex " + vertex + " is not in [0, " + vertexCount + ")!");
+        }
+
+        /**
+         * Sorts the Edges by their source Vertex with a counting sort - O(V + E).
+         * The Builder may be used further afterwards.
+         * */
+        public CsrGraph build() {
+            final int[] offsets = new int[vertexCount + 1];
+
+            for (int edge = 0; edge < edgeCount; edge++)
+                offsets[sources[edge] + 1]++;
+
+            for (int vertex = 0; vertex < vertexCount; vertex++)
+                offsets[vertex + 1] += offsets[vertex];
+
+            final int[] nextEdges = Arrays.copyOf(offsets, vertexCount); //The next free Edge index of a Vertex
+            final int[] sortedTargets = new int[edgeCount];
+            final int[] sortedWeights = new int[edgeCount];
+            int maxWeight = 0;
+
+            for (int edge = 0; edge < edgeCount; edge++) {
+                final int index = nextEdges[sources[edge]]++;
+
+                sortedTargets[index] = targets[edge];
+                sortedWeights[index] = weights[edge];
+                maxWeight = Math.max(maxWeight, weights[edge]);
+            }
+
+            return new CsrGraph(offsets, sortedTargets, sortedWeights, (BitSet) exitVertexes.clone(), maxWeight);
+        }
+    }
+}
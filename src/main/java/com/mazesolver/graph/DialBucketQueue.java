@@ -0,0 +1,168 @@
+package com.mazesolver.graph;
+
+import java.util.Arrays;
+
+/**
+ *
+ * A bucket-based priority queue for Dijkstra's Algorithm with small non-negative integer Edge weights
+ * (Dial's Algorithm).
+ *
+ * Dijkstra's Algorithm only ever inserts keys in the range [current minimum, current minimum + maximum
+ * Edge weight]. So maxKeyIncrease + 1 buckets (maxKeyIncrease being the maximum Edge weight for
+ * Dijkstra's Algorithm), used as a circular array, are enough to hold every key, where the bucket
+ * of a key is key % bucketCount.
+ *
+ * - Each bucket is a doubly-linked list of ids, kept in the next & previous int arrays.
+ * Inserting, decreasing a key and removing are all O(1).
+ *
+ * - poll() advances a cursor over the buckets until it finds one, which is not empty.
+ * The cursor never moves backwards, so this is O(maxKeyIncrease) amortised per key.
+ *
+ * Keys inserted outside of the above-mentioned range are NOT supported.
+ *
+ * */
+public final class DialBucketQueue implements IntPriorityQueue {
+
+    private static final int NONE = -1;
+    private static final int ABSENT = -2; //previous[id] of an id, which is not in the queue
+
+    private int[] buckets; //buckets[i] - the first id in bucket i, or NONE
+    private int bucketCount; //Only the first bucketCount buckets are used
+    private int[] next;
+    private int[] previous;
+    private int[] keys;
+
+    private int cursor; //No key in the queue is lower than the cursor
+    private int size;
+
+    /**
+     * @param maxKeyIncrease The most, by which an inserted key may exceed the current minimum key.
+     * */
+    public DialBucketQueue(final int capacity, final int maxKeyIncrease) {
+        this.buckets = new int[maxKeyIncrease + 1];
+        this.bucketCount = buckets.length;
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+        this.keys = new int[capacity];
+
+        Arrays.fill(buckets, NONE);
+        Arrays.fill(previous, ABSENT);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(final int id) {
+        return previous[id] != ABSENT;
+    }
+
+    @Override
+    public void insertOrDecrease(final int id, final int key) {
+        if (contains(id)) {
+            if (key >= keys[id])
+                return;
+
+            unlink(id);
+        } else {
+            size++;
+        }
+
+        //All keys in the queue are still within maxKeyIncrease of a new, lower minimum.
+        if (size == 1 || key < cursor)
+            cursor = key;
+
+        keys[id] = key;
+        link(id);
+    }
+
+    @Override
+    public int poll() {
+        int bucket = cursor % bucketCount;
+
+        while (buckets[bucket] == NONE) {
+            cursor++;
+            bucket = bucket + 1 == bucketCount ? 0 : bucket + 1;
+        }
+
+        final int minimum = buckets[bucket];
+
+        unlink(minimum);
+        previous[minimum] = ABSENT;
+        size--;
+
+        return minimum;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0)
+            return;
+
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            for (int id = buckets[bucket]; id != NONE; id = next[id])
+                previous[id] = ABSENT;
+
+            buckets[bucket] = NONE;
+        }
+
+        size = 0;
+    }
+
+    @Override
+    public void grow(final int capacity) {
+        final int oldCapacity = previous.length;
+
+        if (capacity <= oldCapacity)
+            return;
+
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+
+        Arrays.fill(previous, oldCapacity, capacity, ABSENT);
+    }
+
+    /**
+     * Empties the queue and changes maxKeyIncrease. The buckets are only reallocated, if there are too few.
+     * */
+    public void reset(final int maxKeyIncrease) {
+        clear();
+
+        if (buckets.length < maxKeyIncrease + 1) {
+            buckets = new int[maxKeyIncrease + 1];
+            Arrays.fill(buckets, NONE);
+        }
+
+        bucketCount = maxKeyIncrease + 1;
+        cursor = 0;
+    }
+
+    private void link(final int id) {
+        final int bucket = keys[id] % bucketCount;
+        final int first = buckets[bucket];
+
+        next[id] = first;
+        previous[id] = NONE;
+
+        if (first != NONE)
+            previous[first] = id;
+
+        buckets[bucket] = id;
+    }
+
+    private void unlink(final int id) {
+        final int before = previous[id];
+        final int after = next[id];
+
+        if (before == NONE)
+            buckets[keys[id] % bucketCount] = after;
+        else
+            next[before] = after;
+
+        if (after != NONE)
+            previous[after] = before;
+    }
+}
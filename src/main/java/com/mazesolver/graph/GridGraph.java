@@ -0,0 +1,185 @@
+package com.mazesolver.graph;
+
+/**
+ *
+ * An implicit Weighted DIRECTIONAL Graph over the cells of a Maze.
+ * No Vertex or Edge objects are created - neighbors and weights are read straight from the cells.
+ *
+ * - The cells are read either from a MazeGrid (a flat, row-major array of bytes, shorts or ints), or - for
+ * a view (see view) - straight from the rows of the Maze itself. The Vertex id of the cell (x, y) is y * width + x.
+ *
+ * - Every traversable cell (positive value) is a Vertex, with an Edge to each traversable
+ * cell above, below, left and right of it.
+ *
+ * - One additional Vertex - the exit Vertex - stands for the outside of the Maze. Every border
+ * cell has an Edge to it. It plays the same role as the outer layer of cells in an expanded Maze.
+ *
+ * - The weight of an Edge is the value of the cell, which is being left.
+ *
+ * Takes the original Maze and not the Expanded one.
+ *
+ * A view costs nothing to create, so it is meant for a single solve, which may well only touch a few cells.
+ * Packing the Maze into a MazeGrid reads every cell once, so it only pays off for structures, which are
+ * searched many times or in full (e.g. a prepared Maze or an ExitDistanceField).
+ *
+ * */
+public final class GridGraph {
+
+    //Exactly one of these holds the cells, the other is null
+    private final MazeGrid grid;
+    private final int[][] maze;
+
+    private final int width;
+    private final int height;
+    private final int exitVertex;
+    private final int maxValue;
+    private final int minPositiveValue;
+
+    /**
+     * Packs the Maze into a MazeGrid.
+     * */
+    public GridGraph(final int[][] maze) {
+        this(MazeGrid.of(maze));
+    }
+
+    public GridGraph(final MazeGrid grid) {
+        this(grid, null, grid.getWidth(), grid.getHeight(), grid.getMaxValue(), grid.getMinPositiveValue());
+    }
+
+    private GridGraph(final MazeGrid grid, final int[][] maze, final int width, final int height, final int maxValue,
+                      final int minPositiveValue) {
+        this.grid = grid;
+        this.maze = maze;
+        this.width = width;
+        this.height = height;
+        this.exitVertex = width * height;
+        this.maxValue = maxValue;
+        this.minPositiveValue = minPositiveValue;
+    }
+
+    /**
+     * A GridGraph, which reads the cells straight from the given Maze - nothing is copied or scanned.
+     * The Maze must not change, while the GridGraph is in use.
+     *
+     * @param maze An already validated Maze.
+     * @param maxValue The highest cell value of the Maze (e.g. as found by the validation of the Maze).
+     * @param minPositiveValue The lowest positive cell value of the Maze, found in the same way.
+     * */
+    public static GridGraph view(final int[][] maze, final int maxValue, final int minPositiveValue) {
+        return new GridGraph(null, maze, maze[0].length, maze.length, maxValue, minPositiveValue);
+    }
+
+    /**
+     * @return The number of Vertexes, including the exit Vertex. Vertex ids are in [0, count).
+     * */
+    public int getVertexCount() {
+        return exitVertex + 1;
+    }
+
+    public int getExitVertex() {
+        return exitVertex;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getVertex(final int x, final int y) {
+        return y * width + x;
+    }
+
+    /**
+     * @return The X axis coordinate of the given cell Vertex.
+     * */
+    public int getX(final int vertex) {
+        return vertex % width;
+    }
+
+    /**
+     * @return The Y axis coordinate of the given cell Vertex.
+     * */
+    public int getY(final int vertex) {
+        return vertex / width;
+    }
+
+    /**
+     * @return The weight of every Edge, which leaves the given cell Vertex.
+     * */
+    public int getWeight(final int vertex) {
+        if (grid != null)
+            return grid.getCell(vertex);
+
+        return maze[vertex / width][vertex % width];
+    }
+
+    /**
+     * @return The lowest weight of any Edge in the Graph (i.e. the lowest positive cell value).
+     * Integer.MAX_VALUE if the Maze has no traversable cells.
+     * */
+    public int getMinWeight() {
+        return minPositiveValue;
+    }
+
+    /**
+     * @return The highest weight of any Edge in the Graph (i.e. the highest cell value).
+     * */
+    public int getMaxWeight() {
+        return maxValue;
+    }
+
+    /**
+     * Writes the Vertexes, which can be reached in one step from the given cell Vertex,
+     * into neighbors (which must have room for 4).
+     *
+     * @return The number of neighbors written.
+     * */
+    public int getNeighbors(final int vertex, final int[] neighbors) {
+        final int x = vertex % width;
+        final int y = vertex / width;
+
+        int count = 0;
+
+        if (x == 0 || y == 0 || x == width - 1 || y == height - 1)
+            neighbors[count++] = exitVertex;
+
+        if (grid == null)
+            return getViewNeighbors(vertex, x, y, neighbors, count);
+
+        if (x + 1 < width && grid.getCell(vertex + 1) > 0)
+            neighbors[count++] = vertex + 1;
+        if (x > 0 && grid.getCell(vertex - 1) > 0)
+            neighbors[count++] = vertex - 1;
+        if (y + 1 < height && grid.getCell(vertex + width) > 0)
+            neighbors[count++] = vertex + width;
+        if (y > 0 && grid.getCell(vertex - width) > 0)
+            neighbors[count++] = vertex - width;
+
+        return count;
+    }
+
+    /**
+     * getNeighbors for a view: the same bounds checks, with the cells read from the rows of the Maze.
+     *
+     * @param count The number of neighbors written so far (i.e. the exit Vertex or none).
+     *
+     * @return The number of neighbors written in total.
+     * */
+    private int getViewNeighbors(final int vertex, final int x, final int y, final int[] neighbors, int count) {
+        final int[] row = maze[y];
+
+        if (x + 1 < width && row[x + 1] > 0)
+            neighbors[count++] = vertex + 1;
+        if (x > 0 && row[x - 1] > 0)
+            neighbors[count++] = vertex - 1;
+        if (y + 1 < height && maze[y + 1][x] > 0)
+            neighbors[count++] = vertex + width;
+        if (y > 0 && maze[y - 1][x] > 0)
+            neighbors[count++] = vertex - width;
+
+        return count;
+    }
+}
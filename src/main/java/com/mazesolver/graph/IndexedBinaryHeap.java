@@ -0,0 +1,142 @@
+package com.mazesolver.graph;
+
+import java.util.Arrays;
+
+/**
+ *
+ * A binary min-heap of int Vertex ids, ordered by an int key (the tentative distance).
+ *
+ * The heap is "indexed": the position of every id inside the heap array is tracked,
+ * so the key of an id, which is already in the heap, can be decreased in O(log n)
+ * without searching for it.
+ *
+ * Ids must be in the range [0, capacity). Each id may be in the heap at most once.
+ *
+ * */
+public final class IndexedBinaryHeap implements IntPriorityQueue {
+
+    private static final int ABSENT = -1;
+
+    private int[] heap; //heap[i] - the id stored at heap position i
+    private int[] positions; //positions[id] - the heap position of id, or ABSENT
+    private int[] keys; //keys[id] - the key of id, valid only while id is in the heap
+
+    private int size;
+
+    public IndexedBinaryHeap(final int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new int[capacity];
+
+        Arrays.fill(positions, ABSENT);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(final int id) {
+        return positions[id] != ABSENT;
+    }
+
+    @Override
+    public void insertOrDecrease(final int id, final int key) {
+        if (contains(id)) {
+            if (key < keys[id]) {
+                keys[id] = key;
+                siftUp(positions[id]);
+            }
+
+            return;
+        }
+
+        keys[id] = key;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+    }
+
+    @Override
+    public int poll() {
+        final int minimum = heap[0];
+
+        positions[minimum] = ABSENT;
+        size--;
+
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return minimum;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++)
+            positions[heap[i]] = ABSENT;
+
+        size = 0;
+    }
+
+    @Override
+    public void grow(final int capacity) {
+        final int oldCapacity = positions.length;
+
+        if (capacity <= oldCapacity)
+            return;
+
+        heap = Arrays.copyOf(heap, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+
+        Arrays.fill(positions, oldCapacity, capacity, ABSENT);
+    }
+
+    private void siftUp(int position) {
+        final int id = heap[position];
+        final int key = keys[id];
+
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+
+            if (keys[heap[parent]] <= key)
+                break;
+
+            heap[position] = heap[parent];
+            positions[heap[position]] = position;
+            position = parent;
+        }
+
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    private void siftDown(int position) {
+        final int id = heap[position];
+        final int key = keys[id];
+
+        while (true) {
+            int child = 2 * position + 1;
+
+            if (child >= size)
+                break;
+
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]])
+                child++;
+
+            if (keys[heap[child]] >= key)
+                break;
+
+            heap[position] = heap[child];
+            positions[heap[position]] = position;
+            position = child;
+        }
+
+        heap[position] = id;
+        positions[id] = position;
+    }
+}
@@ -0,0 +1,37 @@
+package com.mazesolver.graph;
+
+/**
+ * A min-priority queue of int Vertex ids, ordered by an int key (the tentative distance),
+ * as needed by Dijkstra's Algorithm.
+ *
+ * Ids must be in the range [0, capacity), where the capacity is given on construction.
+ * Each id may be in the queue at most once.
+ * */
+public interface IntPriorityQueue {
+
+    boolean isEmpty();
+
+    boolean contains(final int id);
+
+    /**
+     * Inserts the id with the given key, or lowers its key if it is already in the queue.
+     * A key, which is not lower than the current one, is ignored.
+     * */
+    void insertOrDecrease(final int id, final int key);
+
+    /**
+     * @return The id with the lowest key, which is removed from the queue.
+     * */
+    int poll();
+
+    /**
+     * Removes every id from the queue, in O(ids in the queue) rather than O(capacity),
+     * so the queue can be reused for another search.
+     * */
+    void clear();
+
+    /**
+     * Raises the capacity to at least the given one. The ids in the queue keep their keys.
+     * */
+    void grow(final int capacity);
+}
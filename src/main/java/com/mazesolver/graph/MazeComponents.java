@@ -0,0 +1,194 @@
+package com.mazesolver.graph;
+
+import org.apache.log4j.Logger;
+
+/**
+ *
+ * The connected components of the traversable cells (positive values) of a Maze, labelled once,
+ * so that a start, whose component touches no border cell, can be rejected as inescapable in O(1),
+ * without building a graph or running a search.
+ *
+ * Two-pass labelling with union-find:
+ *
+ * - First pass, in row-major order: every traversable cell is united with the traversable cells left of
+ * and above it. A root is always linked under the smaller of the two roots, so the parent of a cell
+ * never has a larger id than the cell itself.
+ *
+ * - Second pass, in the same order: every root gets the next label and every other cell the label
+ * of its parent, which has already been labelled. The labels overwrite the parents in place.
+ *
+ * The Maze itself is kept, in order to be solved later (see MazeSolver.solve(components, x, y)),
+ * so it must not be modified afterwards.
+ *
+ * Takes the original Maze and not the Expanded one. Immutable and thread-safe once constructed.
+ *
+ * */
+public final class MazeComponents {
+
+    private static final Logger logger = Logger.getLogger(MazeComponents.class);
+
+    /**
+     * The component of a cell, which can not be traversed.
+     * */
+    public static final int NO_COMPONENT = -1;
+
+    private final int[][] maze;
+    private final int width;
+    private final int height;
+    private final int maxCellValue;
+    private final int minCellValue;
+
+    private final int[] components; //components[y * width + x] - the label of the cell, or NO_COMPONENT
+    private final int[] componentSizes;
+    private final boolean[] escapableComponents; //Whether the component has a border cell
+
+    /**
+     * @param maze An already validated Maze.
+     * */
+    public MazeComponents(final int[][] maze) {
+        this.maze = maze;
+        this.width = maze[0].length;
+        this.height = maze.length;
+
+        final int[] parents = new int[width * height];
+        int maxCellValue = 0;
+        int minCellValue = Integer.MAX_VALUE;
+
+        for (int y = 0; y < height; y++) {
+            final int[] row = maze[y];
+            final int[] rowAbove = y > 0 ? maze[y - 1] : null;
+
+            for (int x = 0; x < width; x++) {
+                final int cell = y * width + x;
+
+                if (row[x] > maxCellValue)
+                    maxCellValue = row[x];
+
+                if (row[x] <= 0) {
+                    parents[cell] = NO_COMPONENT;
+                    continue;
+                }
+
+                if (row[x] < minCellValue)
+                    minCellValue = row[x];
+
+                parents[cell] = cell;
+
+                if (x > 0 && row[x - 1] > 0)
+                    union(parents, cell, cell - 1);
+
+                if (rowAbove != null && rowAbove[x] > 0)
+                    union(parents, cell, cell - width);
+            }
+        }
+
+        int componentCount = 0;
+
+        for (int cell = 0; cell < parents.length; cell++) {
+            if (parents[cell] == cell)
+                parents[cell] = componentCount++;
+            else if (parents[cell] != NO_COMPONENT)
+                parents[cell] = parents[parents[cell]]; //The parent is already labelled
+        }
+
+        this.components = parents;
+        this.componentSizes = new int[componentCount];
+        this.escapableComponents = new boolean[componentCount];
+        this.maxCellValue = maxCellValue;
+        this.minCellValue = minCellValue;
+
+        for (int cell = 0; cell < components.length; cell++) {
+            final int component = components[cell];
+
+            if (component == NO_COMPONENT)
+                continue;
+
+            componentSizes[component]++;
+
+            final int x = cell % width;
+            final int y = cell / width;
+
+            if (x == 0 || y == 0 || x == width - 1 || y == height - 1)
+                escapableComponents[component] = true;
+        }
+
+        logger.debug("Labelled " + componentCount + " connected components of the Maze with dimensions: X(" +
+                width + "), Y(" + height + ").");
+    }
+
+    /**
+     * Links the larger of the two roots under the smaller one.
+     * */
+    private static void union(final int[] parents, final int first, final int second) {
+        final int firstRoot = find(parents, first);
+        final int secondRoot = find(parents, second);
+
+        if (firstRoot < secondRoot)
+            parents[secondRoot] = firstRoot;
+        else if (secondRoot < firstRoot)
+            parents[firstRoot] = secondRoot;
+    }
+
+    /**
+     * Finds the root of a cell, halving the path to it on the way.
+     * */
+    private static int find(final int[] parents, int cell) {
+        while (parents[cell] != cell) {
+            parents[cell] = parents[parents[cell]];
+            cell = parents[cell];
+        }
+
+        return cell;
+    }
+
+    public int[][] getMaze() {
+        return maze;
+    }
+
+    /**
+     * @return The highest cell value of the Maze, found in the same pass as the components.
+     * */
+    public int getMaxCellValue() {
+        return maxCellValue;
+    }
+
+    /**
+     * @return The lowest positive cell value of the Maze, found in the same pass as the components.
+     * Integer.MAX_VALUE if no cell is traversable.
+     * */
+    public int getMinCellValue() {
+        return minCellValue;
+    }
+
+    public int getComponentCount() {
+        return componentSizes.length;
+    }
+
+    /**
+     * @return The label of the component of the cell, in [0, getComponentCount()),
+     * or NO_COMPONENT if the cell can not be traversed. The coordinates must be within the Maze.
+     * */
+    public int getComponent(final int x, final int y) {
+        return components[y * width + x];
+    }
+
+    /**
+     * @return The number of cells in the component of the cell (0 if the cell can not be traversed),
+     * i.e. the most cells, which a search from the cell may reach.
+     * */
+    public int getComponentSize(final int x, final int y) {
+        final int component = getComponent(x, y);
+
+        return component == NO_COMPONENT ? 0 : componentSizes[component];
+    }
+
+    /**
+     * @return Whether there is a path to a Maze exit from the cell, i.e. whether its component
+     * has a border cell. False if the cell can not be traversed.
+     * */
+    public boolean isEscapable(final int x, final int y) {
+        final int component = getComponent(x, y);
+
+        return component != NO_COMPONENT && escapableComponents[component];
+    }
+}
@@ -0,0 +1,164 @@
+package com.mazesolver.graph;
+
+/**
+ *
+ * Compact storage for the cells of a Maze: one flat, row-major array (the cell (x, y) is cell
+ * number y * width + x), of the narrowest type, which holds the highest cell value:
+ *
+ * - byte[] (unsigned) for values up to 255,
+ * - short[] (unsigned) for values up to 65535,
+ * - int[] for all others.
+ *
+ * Compared to an int[][] (4 bytes per cell, plus an array header per row), a Maze of small values
+ * takes a quarter of the memory, and neighboring rows are next to each other in memory.
+ *
+ * Takes a validated Maze (rectangular, non-empty and without negative values).
+ *
+ * */
+public final class MazeGrid {
+
+    private final int width;
+    private final int height;
+    private final int maxValue;
+    private final int minPositiveValue;
+
+    //Exactly one of these holds the cells, the others are null
+    private final byte[] bytes;
+    private final short[] shorts;
+    private final int[] ints;
+
+    /**
+     * Packs a Maze, whose highest cell value is not known yet.
+     * */
+    public static MazeGrid of(final int[][] maze) {
+        return of(maze, findMaxValue(maze));
+    }
+
+    /**
+     * @param maxValue The highest cell value of the Maze (e.g. as found by the validation of the Maze).
+     * */
+    public static MazeGrid of(final int[][] maze, final int maxValue) {
+        return new MazeGrid(maze, maxValue);
+    }
+
+    private MazeGrid(final int[][] maze, final int maxValue) {
+        this.width = maze[0].length;
+        this.height = maze.length;
+        this.maxValue = maxValue;
+
+        final int cellCount = width * height;
+        int minPositiveValue = Integer.MAX_VALUE;
+
+        if (maxValue <= 0xFF) {
+            this.bytes = new byte[cellCount];
+            this.shorts = null;
+            this.ints = null;
+
+            for (int y = 0, cell = 0; y < height; y++) {
+                for (int value : maze[y]) {
+                    bytes[cell++] = (byte) value;
+
+                    if (value > 0 && value < minPositiveValue)
+                        minPositiveValue = value;
+                }
+            }
+        } else if (maxValue <= 0xFFFF) {
+            this.bytes = null;
+            this.shorts = new short[cellCount];
+            this.ints = null;
+
+            for (int y = 0, cell = 0; y < height; y++) {
+                for (int value : maze[y]) {
+                    shorts[cell++] = (short) value;
+
+                    if (value > 0 && value < minPositiveValue)
+                        minPositiveValue = value;
+                }
+            }
+        } else {
+            this.bytes = null;
+            this.shorts = null;
+            this.ints = new int[cellCount];
+
+            for (int y = 0; y < height; y++) {
+                System.arraycopy(maze[y], 0, ints, y * width, width);
+
+                for (int value : maze[y])
+                    if (value > 0 && value < minPositiveValue)
+                        minPositiveValue = value;
+            }
+        }
+
+        this.minPositiveValue = minPositiveValue;
+    }
+
+    /**
+     * @return The highest cell value of the Maze.
+     * */
+    public static int findMaxValue(final int[][] maze) {
+        int maxValue = 0;
+
+        for (int[] row : maze)
+            for (int cell : row)
+                maxValue = Math.max(maxValue, cell);
+
+        return maxValue;
+    }
+
+    /**
+     * @return The lowest positive cell value of the Maze, or Integer.MAX_VALUE if no cell is positive.
+     * */
+    public static int findMinPositiveValue(final int[][] maze) {
+        int minPositiveValue = Integer.MAX_VALUE;
+
+        for (int[] row : maze)
+            for (int cell : row)
+                if (cell > 0 && cell < minPositiveValue)
+                    minPositiveValue = cell;
+
+        return minPositiveValue;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return The size of a cell, in bytes: 1, 2 or 4.
+     * */
+    public int getCellWidth() {
+        return bytes != null ? Byte.BYTES : shorts != null ? Short.BYTES : Integer.BYTES;
+    }
+
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * @return The lowest positive cell value, or Integer.MAX_VALUE if no cell is positive.
+     * */
+    public int getMinPositiveValue() {
+        return minPositiveValue;
+    }
+
+    public int getCell(final int x, final int y) {
+        return getCell(y * width + x);
+    }
+
+    /**
+     * @return The value of the cell number y * width + x.
+     * */
+    public int getCell(final int cell) {
+        if (bytes != null)
+            return Byte.toUnsignedInt(bytes[cell]);
+
+        if (shorts != null)
+            return Short.toUnsignedInt(shorts[cell]);
+
+        return ints[cell];
+    }
+}
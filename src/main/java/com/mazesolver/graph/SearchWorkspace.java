@@ -0,0 +1,301 @@
+package com.mazesolver.graph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *
+ * Reusable scratch memory for one search on a GridGraph at a time: distances, predecessors, settled Vertexes
+ * and the priority queues. The cells themselves are read from the Maze (see GridGraph.view).
+ *
+ * NOT thread-safe. Solvers keep one workspace per thread (in a ThreadLocal), so that, once the
+ * workspace has grown to the largest Maze seen, a solve allocates (close to) nothing.
+ *
+ * Usage: begin(vertexCount) -> search -> end(). Only the Vertexes, which were touched by the
+ * search, are reset by end(), so a search, which stops early, is also cheap to clean up after.
+ *
+ * Shrink policy: a search on more than maxRetainedVertexes Vertexes does not use (or keep) arrays of the
+ * size of the graph. Instead, every Vertex it touches is given a slot (see VertexSlots) and all state is kept
+ * per slot, in arrays, which grow with the number of slots and are dropped by end(). So one huge Maze does
+ * not pin memory forever, and a search on it, which stops early, costs as much as it touches - not O(vertexCount).
+ * Searches, which are known to touch every Vertex, use beginFull instead, which never uses slots.
+ *
+ * */
+public final class SearchWorkspace {
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private static final int INITIAL_SLOT_CAPACITY = 64;
+
+    private final int maxRetainedVertexes;
+
+    private int capacity;
+    private int[] distances; //Indexed by Vertex, or by slot if slots is not null
+    private int[] touchedVertexes; //Every Vertex, whose distance is set, in the order it was first set
+    private int[] predecessors; //Only valid for Vertexes, whose distance is set by the current search
+    private int touchedVertexCount;
+    private BitSet settledVertexes;
+    private IndexedBinaryHeap heap;
+    private DialBucketQueue bucketQueue;
+    private VertexSlots slots; //Only for a search on more than maxRetainedVertexes Vertexes
+    private final int[] neighbors = new int[4];
+
+    private int vertexCount;
+
+    /**
+     * @param maxRetainedVertexes The largest search (in Vertexes), whose arrays are kept for reuse.
+     * */
+    public SearchWorkspace(final int maxRetainedVertexes) {
+        if (maxRetainedVertexes < 0)
+            throw new IllegalArgumentException("The maximum retained Vertexes must be non-negative!");
+
+        this.maxRetainedVertexes = maxRetainedVertexes;
+    }
+
+    /**
+     * Prepares the workspace for a search on a graph with the given number of Vertexes.
+     * All distances are Integer.MAX_VALUE and nothing is settled.
+     *
+     * Up to maxRetainedVertexes Vertexes, the arrays are grown to the graph, if necessary, and kept. Above,
+     * the state is kept per touched Vertex (see the shrink policy).
+     * */
+    public void begin(final int vertexCount) {
+        if (vertexCount <= maxRetainedVertexes) {
+            beginFull(vertexCount);
+            return;
+        }
+
+        drop();
+
+        slots = new VertexSlots(INITIAL_SLOT_CAPACITY);
+        distances = new int[INITIAL_SLOT_CAPACITY];
+        predecessors = new int[INITIAL_SLOT_CAPACITY];
+        settledVertexes = new BitSet(INITIAL_SLOT_CAPACITY);
+
+        this.vertexCount = vertexCount;
+    }
+
+    /**
+     * Like begin, for a search, which touches (nearly) every Vertex - e.g. one from all exits at once.
+     * Its state is always kept in arrays of the size of the graph, which are only dropped by end(), if there
+     * are more than maxRetainedVertexes Vertexes.
+     * */
+    public void beginFull(final int vertexCount) {
+        if (vertexCount > capacity) {
+            capacity = vertexCount;
+            distances = new int[capacity];
+            touchedVertexes = new int[capacity];
+            predecessors = new int[capacity];
+            settledVertexes = new BitSet(capacity);
+            heap = null;
+            bucketQueue = null;
+
+            Arrays.fill(distances, UNREACHED);
+        }
+
+        this.vertexCount = vertexCount;
+    }
+
+    /**
+     * Resets everything the search touched, or drops all arrays, if the search was larger
+     * than maxRetainedVertexes.
+     * */
+    public void end() {
+        if (vertexCount > maxRetainedVertexes) {
+            drop();
+        } else {
+            for (int i = 0; i < touchedVertexCount; i++) {
+                distances[touchedVertexes[i]] = UNREACHED;
+                settledVertexes.clear(touchedVertexes[i]);
+            }
+
+            if (heap != null)
+                heap.clear();
+
+            if (bucketQueue != null)
+                bucketQueue.clear();
+        }
+
+        touchedVertexCount = 0;
+        vertexCount = 0;
+    }
+
+    private void drop() {
+        capacity = 0;
+        distances = null;
+        touchedVertexes = null;
+        predecessors = null;
+        settledVertexes = null;
+        heap = null;
+        bucketQueue = null;
+        slots = null;
+    }
+
+    /**
+     * @return The distance of the Vertex, or Integer.MAX_VALUE if it has not been set.
+     * */
+    public int getDistance(final int vertex) {
+        if (slots != null) {
+            final int slot = slots.get(vertex);
+
+            return slot < 0 ? UNREACHED : distances[slot];
+        }
+
+        return distances[vertex];
+    }
+
+    public void setDistance(final int vertex, final int distance) {
+        if (slots != null) {
+            final int slot = addSlot(vertex); //May replace the arrays
+
+            distances[slot] = distance;
+            return;
+        }
+
+        if (distances[vertex] == UNREACHED)
+            touchedVertexes[touchedVertexCount++] = vertex;
+
+        distances[vertex] = distance;
+    }
+
+    /**
+     * @return The Vertex, from which the distance of the given Vertex was last set.
+     * Undefined for the source Vertex and for Vertexes, whose distance has not been set.
+     * */
+    public int getPredecessor(final int vertex) {
+        return predecessors[slots != null ? slots.get(vertex) : vertex];
+    }
+
+    /**
+     * Not reset by end() - a predecessor is only read for Vertexes, whose distance is set.
+     * */
+    public void setPredecessor(final int vertex, final int predecessor) {
+        final int index = slots != null ? addSlot(vertex) : vertex; //May replace the arrays
+
+        predecessors[index] = predecessor;
+    }
+
+    public boolean isSettled(final int vertex) {
+        if (slots != null) {
+            final int slot = slots.get(vertex);
+
+            return slot >= 0 && settledVertexes.get(slot);
+        }
+
+        return settledVertexes.get(vertex);
+    }
+
+    public void setSettled(final int vertex) {
+        settledVertexes.set(slots != null ? addSlot(vertex) : vertex);
+    }
+
+    /**
+     * @return The slot of the Vertex, which is added with an unreached distance, if it has none yet.
+     * */
+    private int addSlot(final int vertex) {
+        final int slotCount = slots.size();
+        final int slot = slots.add(vertex);
+
+        if (slot == slotCount) {
+            if (slot == distances.length) {
+                distances = Arrays.copyOf(distances, 2 * slot);
+                predecessors = Arrays.copyOf(predecessors, 2 * slot);
+            }
+
+            distances[slot] = UNREACHED;
+        }
+
+        return slot;
+    }
+
+    /**
+     * @return An empty IndexedBinaryHeap for the current search.
+     * */
+    public IntPriorityQueue getHeap() {
+        if (slots != null)
+            return new SlotQueue(new IndexedBinaryHeap(distances.length));
+
+        if (heap == null)
+            heap = new IndexedBinaryHeap(capacity);
+
+        return heap;
+    }
+
+    /**
+     * @return An empty DialBucketQueue for the current search.
+     * */
+    public IntPriorityQueue getBucketQueue(final int maxKeyIncrease) {
+        if (slots != null)
+            return new SlotQueue(new DialBucketQueue(distances.length, maxKeyIncrease));
+
+        if (bucketQueue == null)
+            bucketQueue = new DialBucketQueue(capacity, maxKeyIncrease);
+        else
+            bucketQueue.reset(maxKeyIncrease);
+
+        return bucketQueue;
+    }
+
+    /**
+     * @return A buffer for GridGraph.getNeighbors.
+     * */
+    public int[] getNeighborBuffer() {
+        return neighbors;
+    }
+
+    /**
+     * The queue of a search on more than maxRetainedVertexes Vertexes: holds every Vertex under its slot,
+     * in a queue, which grows with the slots. Lives no longer than the search, same as the slots.
+     * */
+    private final class SlotQueue implements IntPriorityQueue {
+
+        private final IntPriorityQueue queue;
+        private int capacity;
+
+        private SlotQueue(final IntPriorityQueue queue) {
+            this.queue = queue;
+            this.capacity = distances.length;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public boolean contains(final int id) {
+            final int slot = slots.get(id);
+
+            return slot >= 0 && slot < capacity && queue.contains(slot);
+        }
+
+        @Override
+        public void insertOrDecrease(final int id, final int key) {
+            final int slot = addSlot(id);
+
+            if (slot >= capacity) {
+                capacity = distances.length;
+                queue.grow(capacity);
+            }
+
+            queue.insertOrDecrease(slot, key);
+        }
+
+        @Override
+        public int poll() {
+            return slots.getVertex(queue.poll());
+        }
+
+        @Override
+        public void clear() {
+            queue.clear();
+        }
+
+        /**
+         * Grows by itself, with the slots.
+         * */
+        @Override
+        public void grow(final int capacity) {
+        }
+    }
+}
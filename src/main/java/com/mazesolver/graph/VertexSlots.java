@@ -0,0 +1,123 @@
+package com.mazesolver.graph;
+
+import java.util.Arrays;
+
+/**
+ *
+ * Numbers the Vertexes, which a search touches, in the order they are first added: the first one gets
+ * slot 0, the next one slot 1 and so on. State, which is kept per slot instead of per Vertex id, takes memory
+ * in proportion to the number of Vertexes touched, rather than to the size of the graph.
+ *
+ * An open-addressing hash table of int Vertex ids (linear probing, at most half full), so nothing is boxed.
+ *
+ * */
+final class VertexSlots {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys; //keys[i] - the Vertex stored at table index i, or EMPTY
+    private int[] values; //values[i] - the slot of keys[i]
+    private int[] vertexes; //vertexes[slot] - the Vertex of the slot
+    private int size;
+
+    /**
+     * @param initialCapacity The number of Vertexes, which can be added before the table grows. Positive.
+     * */
+    VertexSlots(final int initialCapacity) {
+        final int tableSize = Integer.highestOneBit(Math.max(1, initialCapacity)) << 2;
+
+        this.keys = new int[tableSize];
+        this.values = new int[tableSize];
+        this.vertexes = new int[tableSize >>> 1];
+
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * @return The slot of the Vertex, or -1 if it has not been added.
+     * */
+    int get(final int vertex) {
+        final int mask = keys.length - 1;
+
+        for (int index = hash(vertex) & mask; ; index = index + 1 & mask) {
+            final int key = keys[index];
+
+            if (key == vertex)
+                return values[index];
+
+            if (key == EMPTY)
+                return -1;
+        }
+    }
+
+    /**
+     * @return The slot of the Vertex, which is the next free one (i.e. size() before the call)
+     * if it has not been added yet.
+     * */
+    int add(final int vertex) {
+        final int mask = keys.length - 1;
+
+        for (int index = hash(vertex) & mask; ; index = index + 1 & mask) {
+            final int key = keys[index];
+
+            if (key == vertex)
+                return values[index];
+
+            if (key == EMPTY) {
+                if (size == vertexes.length) {
+                    grow();
+                    return add(vertex);
+                }
+
+                keys[index] = vertex;
+                values[index] = size;
+                vertexes[size] = vertex;
+
+                return size++;
+            }
+        }
+    }
+
+    int getVertex(final int slot) {
+        return vertexes[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+
+        keys = new int[2 * oldKeys.length];
+        values = new int[2 * oldValues.length];
+        vertexes = Arrays.copyOf(vertexes, 2 * vertexes.length);
+
+        Arrays.fill(keys, EMPTY);
+
+        final int mask = keys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY)
+                continue;
+
+            int index = hash(oldKeys[i]) & mask;
+
+            while (keys[index] != EMPTY)
+                index = index + 1 & mask;
+
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+
+    /**
+     * Fibonacci hashing: neighboring Vertex ids (e.g. the cells of a row) land far apart.
+     * */
+    private static int hash(final int vertex) {
+        final int mixed = vertex * 0x9E3779B9;
+
+        return mixed ^ mixed >>> 16;
+    }
+}
@@ -0,0 +1,124 @@
+package com.mazesolver.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ *
+ * The off-heap counterpart of the IndexedBinaryHeap, for Mazes with 4 byte cells.
+ *
+ * Per Vertex, next to each other in one MappedIntArray (12 bytes):
+ * the distance (+ 1, 0 - unreached), the Vertex stored in heap slot number "vertex" and the heap
+ * position of the Vertex (+ 1, 0 - not queued).
+ *
+ * */
+final class MappedBinaryHeap implements MappedDistanceQueue {
+
+    private static final int DISTANCE = 0;
+    private static final int HEAP = 1;
+    private static final int POSITION = 2;
+    private static final int FIELDS = 3;
+
+    private final MappedIntArray vertexes;
+
+    private int size;
+
+    MappedBinaryHeap(final Path directory, final int capacity) throws IOException {
+        this.vertexes = new MappedIntArray(directory, (long) capacity * FIELDS);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int getDistance(final int vertex) {
+        //0 - 1 = -1, which the mask turns into UNREACHED
+        return (vertexes.get((long) vertex * FIELDS + DISTANCE) - 1) & UNREACHED;
+    }
+
+    @Override
+    public void decrease(final int vertex, final int distance) {
+        if (distance >= getDistance(vertex))
+            return;
+
+        vertexes.set((long) vertex * FIELDS + DISTANCE, distance + 1);
+
+        final int position = vertexes.get((long) vertex * FIELDS + POSITION) - 1;
+
+        siftUp(position >= 0 ? position : size++, vertex, distance);
+    }
+
+    @Override
+    public int poll() {
+        final int minimum = getHeap(0);
+
+        vertexes.set((long) minimum * FIELDS + POSITION, 0);
+        size--;
+
+        if (size > 0) {
+            final int last = getHeap(size);
+            siftDown(0, last, getDistance(last));
+        }
+
+        return minimum;
+    }
+
+    private void siftUp(int position, final int vertex, final int distance) {
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            final int parentVertex = getHeap(parent);
+
+            if (getDistance(parentVertex) <= distance)
+                break;
+
+            place(position, parentVertex);
+            position = parent;
+        }
+
+        place(position, vertex);
+    }
+
+    private void siftDown(int position, final int vertex, final int distance) {
+        while (true) {
+            int child = 2 * position + 1;
+
+            if (child >= size)
+                break;
+
+            int childVertex = getHeap(child);
+
+            if (child + 1 < size) {
+                final int rightVertex = getHeap(child + 1);
+
+                if (getDistance(rightVertex) < getDistance(childVertex)) {
+                    child++;
+                    childVertex = rightVertex;
+                }
+            }
+
+            if (getDistance(childVertex) >= distance)
+                break;
+
+            place(position, childVertex);
+            position = child;
+        }
+
+        place(position, vertex);
+    }
+
+    private int getHeap(final int position) {
+        return vertexes.get((long) position * FIELDS + HEAP);
+    }
+
+    private void place(final int position, final int vertex) {
+        vertexes.set((long) position * FIELDS + HEAP, vertex);
+        vertexes.set((long) vertex * FIELDS + POSITION, position + 1);
+    }
+
+    @Override
+    public void close() throws IOException {
+        vertexes.close();
+    }
+}
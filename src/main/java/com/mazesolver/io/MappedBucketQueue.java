@@ -0,0 +1,118 @@
+package com.mazesolver.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ *
+ * The off-heap counterpart of the DialBucketQueue, for Mazes with 1 and 2 byte cells
+ * (the highest Edge weight is at most 65535, so the buckets themselves stay small and on the heap).
+ *
+ * Per Vertex, next to each other in one MappedIntArray (12 bytes):
+ * the distance (+ 1, 0 - unreached), the next Vertex in its bucket and the previous Vertex in its bucket
+ * (+ 2, 0 - not queued, 1 - first in its bucket).
+ *
+ * */
+final class MappedBucketQueue implements MappedDistanceQueue {
+
+    private static final int NONE = -1;
+
+    private static final int DISTANCE = 0;
+    private static final int NEXT = 1;
+    private static final int PREVIOUS = 2;
+    private static final int FIELDS = 3;
+
+    private final int[] buckets; //buckets[i] - the first Vertex in bucket i, or NONE
+    private final MappedIntArray vertexes;
+
+    private int cursor; //No distance in the queue is lower than the cursor
+    private int size;
+
+    /**
+     * @param maxKeyIncrease The highest Edge weight.
+     * */
+    MappedBucketQueue(final Path directory, final int capacity, final int maxKeyIncrease) throws IOException {
+        this.buckets = new int[maxKeyIncrease + 1];
+        this.vertexes = new MappedIntArray(directory, (long) capacity * FIELDS);
+
+        Arrays.fill(buckets, NONE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int getDistance(final int vertex) {
+        //0 - 1 = -1, which the mask turns into UNREACHED
+        return (vertexes.get((long) vertex * FIELDS + DISTANCE) - 1) & UNREACHED;
+    }
+
+    @Override
+    public void decrease(final int vertex, final int distance) {
+        if (distance >= getDistance(vertex))
+            return;
+
+        if (vertexes.get((long) vertex * FIELDS + PREVIOUS) != 0)
+            unlink(vertex);
+        else
+            size++;
+
+        if (size == 1 || distance < cursor)
+            cursor = distance;
+
+        vertexes.set((long) vertex * FIELDS + DISTANCE, distance + 1);
+        link(vertex);
+    }
+
+    @Override
+    public int poll() {
+        int bucket = cursor % buckets.length;
+
+        while (buckets[bucket] == NONE) {
+            cursor++;
+            bucket = bucket + 1 == buckets.length ? 0 : bucket + 1;
+        }
+
+        final int minimum = buckets[bucket];
+
+        unlink(minimum);
+        vertexes.set((long) minimum * FIELDS + PREVIOUS, 0);
+        size--;
+
+        return minimum;
+    }
+
+    private void link(final int vertex) {
+        final int bucket = getDistance(vertex) % buckets.length;
+        final int first = buckets[bucket];
+
+        vertexes.set((long) vertex * FIELDS + NEXT, first);
+        vertexes.set((long) vertex * FIELDS + PREVIOUS, NONE + 2);
+
+        if (first != NONE)
+            vertexes.set((long) first * FIELDS + PREVIOUS, vertex + 2);
+
+        buckets[bucket] = vertex;
+    }
+
+    private void unlink(final int vertex) {
+        final int before = vertexes.get((long) vertex * FIELDS + PREVIOUS) - 2;
+        final int after = vertexes.get((long) vertex * FIELDS + NEXT);
+
+        if (before == NONE)
+            buckets[getDistance(vertex) % buckets.length] = after;
+        else
+            vertexes.set((long) before * FIELDS + NEXT, after);
+
+        if (after != NONE)
+            vertexes.set((long) after * FIELDS + PREVIOUS, before + 2);
+    }
+
+    @Override
+    public void close() throws IOException {
+        vertexes.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.mazesolver.io;
+
+import java.io.IOException;
+
+/**
+ * A min-priority queue of int Vertex ids for Dijkstra's Algorithm, which also holds the tentative
+ * distance of every Vertex - the key of a Vertex is its distance. All per-Vertex state is kept
+ * in MappedIntArrays, outside of the heap.
+ *
+ * As every Vertex starts out unreached, an element of 0 in a MappedIntArray stands for
+ * "unreached" / "not queued", so the arrays never have to be filled up front.
+ * */
+interface MappedDistanceQueue extends AutoCloseable {
+
+    int UNREACHED = Integer.MAX_VALUE;
+
+    boolean isEmpty();
+
+    /**
+     * @return The tentative distance of the Vertex (final, once it has been polled), or UNREACHED.
+     * */
+    int getDistance(final int vertex);
+
+    /**
+     * Lowers the distance of the Vertex and (re-)queues it. A distance, which is not lower
+     * than the current one, is ignored.
+     * */
+    void decrease(final int vertex, final int distance);
+
+    /**
+     * @return The queued Vertex with the lowest distance, which is removed from the queue.
+     * */
+    int poll();
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,68 @@
+package com.mazesolver.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ *
+ * An int array outside of the heap, in a memory-mapped temporary file, which is deleted when closed.
+ *
+ * Every element starts at 0. The file is sparse, so elements, which are never written,
+ * take up neither disk space nor memory.
+ *
+ * NOT thread-safe.
+ *
+ * */
+final class MappedIntArray implements AutoCloseable {
+
+    private static final int CHUNK_SHIFT = 28; //2^28 ints (1 GiB) per MappedByteBuffer
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] chunks;
+
+    MappedIntArray(final Path directory, final long length) throws IOException {
+        final Path file = Files.createTempFile(directory, "maze-", ".ints");
+
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+
+        try {
+            this.chunks = new ByteBuffer[(int) ((length + CHUNK_MASK) >>> CHUNK_SHIFT)];
+
+            for (int i = 0; i < chunks.length; i++) {
+                final long first = (long) i << CHUNK_SHIFT;
+
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, first * Integer.BYTES,
+                        Math.min(1L << CHUNK_SHIFT, length - first) * Integer.BYTES)
+                        .order(ByteOrder.nativeOrder());
+            }
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    int get(final long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].getInt((int) (index & CHUNK_MASK) << 2);
+    }
+
+    void set(final long index, final int value) {
+        chunks[(int) (index >>> CHUNK_SHIFT)].putInt((int) (index & CHUNK_MASK) << 2, value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,167 @@
+package com.mazesolver.io;
+
+import com.mazesolver.exception.EmptyMazeException;
+import com.mazesolver.exception.InvalidMazeValuesException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ *
+ * A Maze in the binary Maze file format (see MazeFile), mapped read-only into memory with FileChannel.map.
+ * The cells are read straight from the mapping - nothing of the size of the Maze is copied onto the heap,
+ * so the size of the Maze is limited by the disk and the address space rather than by -Xmx.
+ *
+ * The cells are mapped in chunks of 1 GiB, as a single MappedByteBuffer can not exceed 2 GiB.
+ * A Maze may have up to Integer.MAX_VALUE - 1 cells (e.g. 46340 x 46340), so that every cell,
+ * plus the exit Vertex, has an int Vertex id.
+ *
+ * Immutable and safe to share between threads. Closing it closes the file; the mapping itself
+ * is released once it is garbage collected.
+ *
+ * */
+public final class MappedMaze implements AutoCloseable {
+
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] chunks;
+    private final int width;
+    private final int height;
+    private final int cellWidth;
+
+    private MappedMaze(final FileChannel channel, final int width, final int height, final int cellWidth)
+            throws IOException {
+        this.channel = channel;
+        this.width = width;
+        this.height = height;
+        this.cellWidth = cellWidth;
+
+        final long size = (long) width * height * cellWidth;
+        this.chunks = new ByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT)];
+
+        for (int i = 0; i < chunks.length; i++) {
+            final long offset = (long) i << CHUNK_SHIFT;
+
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, MazeFile.HEADER_SIZE + offset,
+                    Math.min(1L << CHUNK_SHIFT, size - offset)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Maps a Maze file. The header and the file size are checked. Mazes with 4 byte cells are also
+     * scanned once for negative values - 1 and 2 byte cells can not be negative.
+     *
+     * @throws IOException If the file can not be read, or is not a valid Maze file.
+     * */
+    public static MappedMaze open(final Path file) throws IOException, EmptyMazeException,
+            InvalidMazeValuesException {
+
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(MazeFile.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+            while (header.hasRemaining())
+                if (channel.read(header) < 0)
+                    throw new IOException("Not a Maze file (the header is truncated): " + file);
+
+            header.flip();
+
+            if (header.getInt() != MazeFile.MAGIC)
+                throw new IOException("Not a Maze file (bad magic): " + file);
+
+            final byte version = header.get();
+
+            if (version != MazeFile.VERSION)
+                throw new IOException("Unsupported Maze file version: " + version + " in: " + file);
+
+            final int cellWidth = header.get();
+
+            if (cellWidth != Byte.BYTES && cellWidth != Short.BYTES && cellWidth != Integer.BYTES)
+                throw new IOException("Unsupported cell width: " + cellWidth + " in: " + file);
+
+            header.getShort();
+
+            final int width = header.getInt();
+            final int height = header.getInt();
+
+            if (width <= 0 || height <= 0)
+                throw new EmptyMazeException(null);
+
+            if ((long) width * height > Integer.MAX_VALUE - 1)
+                throw new IOException("The Maze has more than " + (Integer.MAX_VALUE - 1) + " cells: " + file);
+
+            if (channel.size() != MazeFile.HEADER_SIZE + (long) width * height * cellWidth)
+                throw new IOException("The size of the file does not match the Maze dimensions: " + file);
+
+            final MappedMaze maze = new MappedMaze(channel, width, height, cellWidth);
+
+            if (cellWidth == Integer.BYTES)
+                for (int cell = 0; cell < width * height; cell++)
+                    if (maze.getCell(cell) < 0)
+                        throw new InvalidMazeValuesException(null);
+
+            return maze;
+        } catch (IOException | EmptyMazeException | InvalidMazeValuesException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return The size of a cell in the file, in bytes: 1, 2 or 4.
+     * */
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * @return The highest value, which a cell of this width can hold.
+     * */
+    public int getMaxCellValue() {
+        return cellWidth == Byte.BYTES ? 0xFF : cellWidth == Short.BYTES ? 0xFFFF : Integer.MAX_VALUE;
+    }
+
+    public int getCell(final int x, final int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height)
+            throw new IndexOutOfBoundsException("(" + x + ", " + y + ") is not within the Maze.");
+
+        return getCell(y * width + x);
+    }
+
+    /**
+     * @return The value of the cell number y * width + x.
+     * */
+    int getCell(final int cell) {
+        final long offset = (long) cell * cellWidth;
+        final ByteBuffer chunk = chunks[(int) (offset >>> CHUNK_SHIFT)];
+        final int chunkOffset = (int) (offset & CHUNK_MASK);
+
+        if (cellWidth == Byte.BYTES)
+            return Byte.toUnsignedInt(chunk.get(chunkOffset));
+
+        if (cellWidth == Short.BYTES)
+            return Short.toUnsignedInt(chunk.getShort(chunkOffset));
+
+        return chunk.getInt(chunkOffset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,144 @@
+package com.mazesolver.io;
+
+import com.mazesolver.exception.*;
+import org.apache.log4j.Logger;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+/**
+ *
+ * Solves Mazes, which are larger than the heap: the Maze is a MappedMaze (read straight from a
+ * memory-mapped Maze file) and all per-cell search state lives in memory-mapped temporary files.
+ * Heap usage does not depend on the size of the Maze, so it is limited by the disk and the address space.
+ *
+ * Runs the same search as the IMPLICIT_GRID Engine of DijkstraMazeSolver with the FIRST_EXIT SearchMode:
+ * Dijkstra's Algorithm over the cells, plus one exit Vertex, which every border cell has an Edge to,
+ * stopping as soon as the exit Vertex is settled. There is no separate set of settled Vertexes: once a
+ * Vertex is settled, no later (higher or equal) candidate distance can lower it anyway.
+ *
+ * Uses a MappedBucketQueue for 1 and 2 byte cells, and a MappedBinaryHeap for 4 byte cells.
+ * Either takes 12 bytes of the temporary files per cell, which the search reaches.
+ *
+ * Thread-safe - every solve has its own temporary files.
+ *
+ * */
+public final class MappedMazeSolver {
+
+    private static final Logger logger = Logger.getLogger(MappedMazeSolver.class);
+
+    private final Path temporaryDirectory;
+
+    /**
+     * Keeps the search state in the default temporary-file directory (java.io.tmpdir).
+     * */
+    public MappedMazeSolver() {
+        this(Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param temporaryDirectory The directory for the temporary files, which hold the search state.
+     * */
+    public MappedMazeSolver(final Path temporaryDirectory) {
+        this.temporaryDirectory = Objects.requireNonNull(temporaryDirectory);
+    }
+
+    /**
+     *
+     * Opens (maps) a Maze file, solves it and closes it again.
+     * See solve(maze, x, y).
+     * */
+    public int solve(final Path mazeFile, final int x, final int y) throws IOException, EmptyMazeException,
+            InvalidMazeValuesException, InvalidMazeCoordinatesException, InvalidMazeStartPositionException,
+            InescapableMazeException {
+
+        try (MappedMaze maze = MappedMaze.open(mazeFile)) {
+            return solve(maze, x, y);
+        }
+    }
+
+    /**
+     *
+     * Finds the lowest cost path to a Maze exit (a border cell). Same cost as DijkstraMazeSolver:
+     * the sum of the values of all cells on the path, including the start and the exit cell.
+     *
+     * NOTE: The Exceptions thrown for the Maze hold no int[][] Maze (getMaze() returns null).
+     *
+     * @param x - X axis coordinate for the Maze. Must be positive and within the Maze.
+     * @param y - Y axis coordinate for the Maze. Must be positive and within the Maze.
+     *
+     * @return The value of the lowest cost path to a Maze exit.
+     *
+     * @throws IOException If the temporary files for the search state can not be created.
+     * */
+    public int solve(final MappedMaze maze, final int x, final int y) throws IOException,
+            InvalidMazeCoordinatesException, InvalidMazeStartPositionException, InescapableMazeException {
+
+        final Point sourceCoordinates = new Point(x, y);
+        final int width = maze.getWidth();
+        final int height = maze.getHeight();
+
+        if (x < 0 || y < 0 || x >= width || y >= height)
+            throw new InvalidMazeCoordinatesException(null, sourceCoordinates);
+
+        if (maze.getCell(x, y) <= 0)
+            throw new InvalidMazeStartPositionException(sourceCoordinates, maze.getCell(x, y));
+
+        logger.debug("Solve mapped Maze with dimensions: X(" + width + "), Y(" + height + ") and " +
+                maze.getCellWidth() + " byte cells from start position: (" + x + ", " + y + ").");
+
+        final int exitVertex = width * height;
+
+        try (MappedDistanceQueue unSettledVertexes = createQueue(maze, exitVertex + 1)) {
+            unSettledVertexes.decrease(y * width + x, 0);
+
+            while (!unSettledVertexes.isEmpty()) {
+                final int vertex = unSettledVertexes.poll();
+
+                if (vertex == exitVertex) {
+                    final int shortestDistanceToExit = unSettledVertexes.getDistance(exitVertex);
+
+                    logger.info(shortestDistanceToExit + " is the absolute shortest distance " +
+                            "to the exit Vertex (i.e. out of a border cell). " +
+                            "Returning as a result of the Mapped Maze Solver.");
+
+                    return shortestDistanceToExit;
+                }
+
+                final int vertexX = vertex % width;
+                final int vertexY = vertex / width;
+                final int candidateDistance = unSettledVertexes.getDistance(vertex) + maze.getCell(vertex);
+
+                if (vertexX == 0 || vertexY == 0 || vertexX == width - 1 || vertexY == height - 1)
+                    unSettledVertexes.decrease(exitVertex, candidateDistance);
+
+                if (vertexX + 1 < width && maze.getCell(vertex + 1) > 0)
+                    unSettledVertexes.decrease(vertex + 1, candidateDistance);
+                if (vertexX > 0 && maze.getCell(vertex - 1) > 0)
+                    unSettledVertexes.decrease(vertex - 1, candidateDistance);
+                if (vertexY + 1 < height && maze.getCell(vertex + width) > 0)
+                    unSettledVertexes.decrease(vertex + width, candidateDistance);
+                if (vertexY > 0 && maze.getCell(vertex - width) > 0)
+                    unSettledVertexes.decrease(vertex - width, candidateDistance);
+            }
+        }
+
+        logger.fatal("The input Maze does not have any exits from the given " +
+                "start point. Unable to proceed further. Terminating Mapped Maze Solver.");
+        throw new InescapableMazeException(null, sourceCoordinates);
+    }
+
+    /**
+     * Unlike DijkstraMazeSolver, 2 byte cells also use the bucket queue, as its per-Vertex state is off
+     * the heap and its buckets take up at most 256 KiB.
+     * */
+    private MappedDistanceQueue createQueue(final MappedMaze maze, final int vertexCount) throws IOException {
+        if (maze.getCellWidth() < Integer.BYTES)
+            return new MappedBucketQueue(temporaryDirectory, vertexCount, maze.getMaxCellValue());
+
+        return new MappedBinaryHeap(temporaryDirectory, vertexCount);
+    }
+}
@@ -0,0 +1,184 @@
+package com.mazesolver.io;
+
+import com.mazesolver.exception.EmptyMazeException;
+import com.mazesolver.exception.InvalidMazeValuesException;
+import com.mazesolver.exception.MalformedMazeException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ *
+ * The binary Maze file format, which is read by MappedMaze. All numbers are little-endian.
+ *
+ *      Offset  Size  Field
+ *      0       4     Magic: the ASCII bytes "MAZE"
+ *      4       1     Version: 1
+ *      5       1     Cell width in bytes: 1, 2 or 4
+ *      6       2     Reserved: 0
+ *      8       4     Width (X axis size) of the Maze
+ *      12      4     Height (Y axis size) of the Maze
+ *      16      ...   Width * height cells, row-major (the cell (x, y) is cell number y * width + x).
+ *                    1 and 2 byte cells are unsigned, 4 byte cells are signed and must be non-negative.
+ *
+ * */
+public final class MazeFile {
+
+    static final int MAGIC = 'M' | 'A' << 8 | 'Z' << 16 | 'E' << 24; //"MAZE", read as a little-endian int
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    private MazeFile() {
+    }
+
+    /**
+     * Writes a Maze in the binary Maze file format, using the smallest cell width,
+     * which fits its highest cell value.
+     *
+     * @param maze - A <b>rectangular</b> 2D Maze of non-negative Integers.
+     * */
+    public static void write(final Path file, final int[][] maze) throws IOException, MalformedMazeException,
+            EmptyMazeException, InvalidMazeValuesException {
+
+        final int cellWidth = getCellWidth(maze);
+        final int width = maze[0].length;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            putHeader(header, cellWidth, width, maze.length);
+            header.flip();
+            writeFully(channel, header);
+
+            final ByteBuffer row = ByteBuffer.allocate(width * cellWidth).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (int[] cells : maze) {
+                row.clear();
+                putRow(row, cells, cellWidth);
+                row.flip();
+                writeFully(channel, row);
+            }
+        }
+    }
+
+    /**
+     * Same as write, but into memory (e.g. for the body of a request to a MazeSolverServer).
+     * */
+    public static byte[] encode(final int[][] maze) throws MalformedMazeException, EmptyMazeException,
+            InvalidMazeValuesException {
+
+        final int cellWidth = getCellWidth(maze);
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + maze.length * maze[0].length * cellWidth)
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        putHeader(buffer, cellWidth, maze[0].length, maze.length);
+
+        for (int[] cells : maze)
+            putRow(buffer, cells, cellWidth);
+
+        return buffer.array();
+    }
+
+    /**
+     * Reads a whole Maze in the binary Maze file format from memory (e.g. from the body of a request).
+     * The cells are not validated - that is left to the MazeSolver.
+     *
+     * @throws IOException If the buffer does not hold a valid Maze file.
+     * */
+    public static int[][] decode(final ByteBuffer buffer) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.remaining() < HEADER_SIZE)
+            throw new IOException("Not a Maze file (the header is truncated).");
+
+        if (buffer.getInt() != MAGIC)
+            throw new IOException("Not a Maze file (bad magic).");
+
+        final byte version = buffer.get();
+
+        if (version != VERSION)
+            throw new IOException("Unsupported Maze file version: " + version + ".");
+
+        final int cellWidth = buffer.get();
+
+        if (cellWidth != Byte.BYTES && cellWidth != Short.BYTES && cellWidth != Integer.BYTES)
+            throw new IOException("Unsupported cell width: " + cellWidth + ".");
+
+        buffer.getShort();
+
+        final int width = buffer.getInt();
+        final int height = buffer.getInt();
+
+        if (width < 0 || height < 0 || (long) width * height * cellWidth != buffer.remaining())
+            throw new IOException("The size of the Maze file does not match the Maze dimensions.");
+
+        final int[][] maze = new int[height][width];
+
+        for (int[] row : maze) {
+            for (int x = 0; x < width; x++) {
+                if (cellWidth == Byte.BYTES)
+                    row[x] = Byte.toUnsignedInt(buffer.get());
+                else if (cellWidth == Short.BYTES)
+                    row[x] = Short.toUnsignedInt(buffer.getShort());
+                else
+                    row[x] = buffer.getInt();
+            }
+        }
+
+        return maze;
+    }
+
+    /**
+     * Validates the Maze.
+     *
+     * @return The smallest cell width in bytes, which fits the highest cell value of the Maze.
+     * */
+    private static int getCellWidth(final int[][] maze) throws MalformedMazeException, EmptyMazeException,
+            InvalidMazeValuesException {
+
+        if (maze == null || maze.length == 0 || maze[0] == null || maze[0].length == 0)
+            throw new EmptyMazeException(maze);
+
+        final int width = maze[0].length;
+        int maxCellValue = 0;
+
+        for (int[] row : maze) {
+            if (row == null || row.length != width)
+                throw new MalformedMazeException(maze);
+
+            for (int cell : row) {
+                if (cell < 0)
+                    throw new InvalidMazeValuesException(maze);
+
+                maxCellValue = Math.max(maxCellValue, cell);
+            }
+        }
+
+        return maxCellValue <= 0xFF ? Byte.BYTES : maxCellValue <= 0xFFFF ? Short.BYTES : Integer.BYTES;
+    }
+
+    private static void putHeader(final ByteBuffer buffer, final int cellWidth, final int width, final int height) {
+        buffer.putInt(MAGIC).put(VERSION).put((byte) cellWidth).putShort((short) 0).putInt(width).putInt(height);
+    }
+
+    private static void putRow(final ByteBuffer buffer, final int[] cells, final int cellWidth) {
+        for (int cell : cells) {
+            if (cellWidth == Byte.BYTES)
+                buffer.put((byte) cell);
+            else if (cellWidth == Short.BYTES)
+                buffer.putShort((short) cell);
+            else
+                buffer.putInt(cell);
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+}
@@ -0,0 +1,198 @@
+package com.mazesolver.io;
+
+import com.mazesolver.exception.EmptyMazeException;
+import com.mazesolver.exception.InvalidMazeValuesException;
+import com.mazesolver.exception.MalformedMazeException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ *
+ * Parses a Maze from text: one row per line, the cells separated by spaces, tabs and / or commas, e.g.
+ *
+ *      0, 11, 0, 0
+ *      0 15 0 2
+ *
+ * The bytes are read straight from the buffer (e.g. a MappedByteBuffer) and the digits are decoded on the way,
+ * so no String is created per line or per cell. Lines may end with \n or \r\n, blank lines are skipped and
+ * repeated separators count as one.
+ *
+ * The checks of InputValidator are made during the parse, so a parsed Maze is always rectangular, non-empty
+ * and non-negative:
+ *
+ * - Every row is allocated with the width of the first one, so a ragged row is rejected as soon as it has
+ * one cell too many, or at its end if it has too few.
+ * - A minus sign is rejected as an invalid value.
+ *
+ * Anything else (other characters, values above Integer.MAX_VALUE) is rejected with an IOException, which
+ * names the line.
+ *
+ * Not thread-safe - each parse uses its own instance.
+ *
+ * */
+public final class MazeTextParser {
+
+    /**
+     * Files are mapped in chunks, as a single MappedByteBuffer can not exceed 2 GiB. A cell, which crosses
+     * the end of a chunk, is carried over to the next one.
+     * */
+    private static final long CHUNK_SIZE = 1L << 30;
+
+    private static final int INITIAL_ROW_CAPACITY = 16;
+
+    private int[][] rows = new int[INITIAL_ROW_CAPACITY][];
+    private int rowCount;
+    private int width = -1; //Unknown, until the first row ends
+
+    private int[] row = new int[INITIAL_ROW_CAPACITY];
+    private int column;
+    private long lineNumber = 1;
+
+    private long value;
+    private boolean inValue;
+
+    private MazeTextParser() {
+    }
+
+    /**
+     * Parses the remaining bytes of the buffer (ASCII). The position of the buffer is not changed.
+     *
+     * @throws IOException If the text is not a grid of non-negative Integers.
+     * */
+    public static int[][] parse(final ByteBuffer buffer) throws IOException, EmptyMazeException,
+            MalformedMazeException, InvalidMazeValuesException {
+
+        final MazeTextParser parser = new MazeTextParser();
+
+        parser.feed(buffer);
+
+        return parser.finish();
+    }
+
+    /**
+     * Maps the file read-only, a chunk at a time, and parses it. Only the Maze itself is kept on the heap.
+     *
+     * @throws IOException If the file can not be read, or is not a grid of non-negative Integers.
+     * */
+    public static int[][] read(final Path file) throws IOException, EmptyMazeException, MalformedMazeException,
+            InvalidMazeValuesException {
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final MazeTextParser parser = new MazeTextParser();
+            final long size = channel.size();
+
+            for (long offset = 0; offset < size; offset += CHUNK_SIZE)
+                parser.feed(channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(CHUNK_SIZE, size - offset)));
+
+            return parser.finish();
+        }
+    }
+
+    /**
+     * Parses the next bytes of the text. The value and row, which the bytes end in, are carried over.
+     * */
+    private void feed(final ByteBuffer buffer) throws IOException, MalformedMazeException,
+            InvalidMazeValuesException {
+
+        long value = this.value;
+        boolean inValue = this.inValue;
+
+        for (int i = buffer.position(), limit = buffer.limit(); i < limit; i++) {
+            final byte character = buffer.get(i);
+            final int digit = character - '0';
+
+            if (digit >= 0 && digit <= 9) {
+                value = value * 10 + digit;
+                inValue = true;
+
+                if (value > Integer.MAX_VALUE)
+                    throw new IOException("A value on line " + lineNumber + " exceeds " + Integer.MAX_VALUE + ".");
+
+                continue;
+            }
+
+            if (inValue) {
+                addCell((int) value);
+                value = 0;
+                inValue = false;
+            }
+
+            switch (character) {
+                case '\n':
+                    endRow();
+                    break;
+                case ' ':
+                case ',':
+                case '\t':
+                case '\r':
+                    break;
+                case '-':
+                    throw new InvalidMazeValuesException(getRows());
+                default:
+                    throw new IOException("Unexpected character (code " + (character & 0xFF) + ") on line " +
+                            lineNumber + ".");
+            }
+        }
+
+        this.value = value;
+        this.inValue = inValue;
+    }
+
+    private void addCell(final int cell) throws MalformedMazeException {
+        if (column == row.length) {
+            if (width >= 0)
+                throw new MalformedMazeException(getRows());
+
+            row = Arrays.copyOf(row, 2 * row.length); //Only the first row grows
+        }
+
+        row[column++] = cell;
+    }
+
+    private void endRow() throws MalformedMazeException {
+        lineNumber++;
+
+        if (column == 0) //Blank line
+            return;
+
+        if (width < 0) {
+            width = column;
+            row = Arrays.copyOf(row, width);
+        } else if (column != width) {
+            throw new MalformedMazeException(getRows());
+        }
+
+        if (rowCount == rows.length)
+            rows = Arrays.copyOf(rows, 2 * rows.length);
+
+        rows[rowCount++] = row;
+        row = new int[width];
+        column = 0;
+    }
+
+    private int[][] finish() throws MalformedMazeException, EmptyMazeException {
+        if (inValue) {
+            addCell((int) value);
+            inValue = false;
+        }
+
+        endRow(); //The last line may have no line break
+
+        if (rowCount == 0)
+            throw new EmptyMazeException(getRows());
+
+        return getRows();
+    }
+
+    /**
+     * @return The rows parsed so far.
+     * */
+    private int[][] getRows() {
+        return rowCount == rows.length ? rows : Arrays.copyOf(rows, rowCount);
+    }
+}
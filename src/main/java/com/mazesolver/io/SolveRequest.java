@@ -0,0 +1,270 @@
+package com.mazesolver.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ *
+ * A request to solve a Maze from one set of start coordinates, as parsed from the body of a request
+ * to a MazeSolverServer or from a line of a file for a SolvePipeline. Either:
+ *
+ * - JSON: {"maze": [[0, 1, 0], [1, 2, 1], [0, 1, 0]], "x": 1, "y": 1}
+ *
+ * - Binary: the Maze in the binary Maze file format (see MazeFile), with the start coordinates
+ * in the query string: ?x=1&y=1
+ *
+ * The Maze itself is not validated here - that is left to the MazeSolver, which reports problems
+ * by their SolveStatus. Only a body, which can not be parsed, is rejected.
+ *
+ * */
+public final class SolveRequest {
+
+    private final int[][] maze;
+    private final int x;
+    private final int y;
+
+    private SolveRequest(final int[][] maze, final int x, final int y) {
+        this.maze = maze;
+        this.x = x;
+        this.y = y;
+    }
+
+    public int[][] getMaze() {
+        return maze;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * @throws IOException If the body is not a valid binary Maze file, or the query has no x and y.
+     * */
+    public static SolveRequest parseBinary(final byte[] body, final String query) throws IOException {
+        final int[][] maze = MazeFile.decode(ByteBuffer.wrap(body));
+        Integer x = null;
+        Integer y = null;
+
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                final int separator = parameter.indexOf('=');
+
+                if (separator < 0)
+                    continue;
+
+                final String name = parameter.substring(0, separator);
+
+                try {
+                    if (name.equals("x"))
+                        x = Integer.parseInt(parameter.substring(separator + 1));
+                    else if (name.equals("y"))
+                        y = Integer.parseInt(parameter.substring(separator + 1));
+                } catch (NumberFormatException ex) {
+                    throw new IOException("Invalid start coordinate: " + parameter + ".");
+                }
+            }
+        }
+
+        if (x == null || y == null)
+            throw new IOException("The query must have the start coordinates x and y.");
+
+        return new SolveRequest(maze, x, y);
+    }
+
+    /**
+     * @throws IOException If the body is not a JSON object with exactly the fields maze, x and y.
+     * */
+    public static SolveRequest parseJson(final byte[] body) throws IOException {
+        return parseJson(new String(body, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IOException If the JSON is not an object with exactly the fields maze, x and y.
+     * */
+    public static SolveRequest parseJson(final String json) throws IOException {
+        return new JsonParser(json).parseRequest();
+    }
+
+    /**
+     * A recursive descent parser for the small subset of JSON, which a SolveRequest is made of:
+     * one object, whose values are integers or (nested) arrays of integers.
+     * */
+    /**
+     * For the error messages of a failed parse, which may repeat any part of the request (e.g. a field name),
+     * when they are written into a JSON string.
+     *
+     * @return The text with the characters, which JSON strings do not allow, escaped. "" for null.
+     * */
+    public static String escapeJson(final String text) {
+        if (text == null)
+            return "";
+
+        final StringBuilder escaped = new StringBuilder(text.length());
+
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+
+            if (c == '"' || c == '\\')
+                escaped.append('\\').append(c);
+            else if (c < 0x20)
+                escaped.append(String.format("\\u%04x", (int) c));
+            else
+                escaped.append(c);
+        }
+
+        return escaped.toString();
+    }
+
+    private static final class JsonParser {
+
+        private final String json;
+        private int position;
+
+        private JsonParser(final String json) {
+            this.json = json;
+        }
+
+        private SolveRequest parseRequest() throws IOException {
+            int[][] maze = null;
+            Integer x = null;
+            Integer y = null;
+
+            expect('{');
+
+            do {
+                final String name = parseString();
+                expect(':');
+
+                switch (name) {
+                    case "maze":
+                        maze = parseMaze();
+                        break;
+                    case "x":
+                        x = parseInt();
+                        break;
+                    case "y":
+                        y = parseInt();
+                        break;
+                    default:
+                        throw new IOException("Unknown field: \"" + name + "\".");
+                }
+            } while (accept(','));
+
+            expect('}');
+
+            if (hasNext())
+                throw new IOException("Unexpected content after the request at: " + position + ".");
+
+            if (maze == null || x == null || y == null)
+                throw new IOException("The request must have the fields maze, x and y.");
+
+            return new SolveRequest(maze, x, y);
+        }
+
+        private int[][] parseMaze() throws IOException {
+            final List<int[]> rows = new ArrayList<int[]>();
+
+            expect('[');
+
+            if (!accept(']')) {
+                do {
+                    rows.add(parseRow());
+                } while (accept(','));
+
+                expect(']');
+            }
+
+            return rows.toArray(new int[0][]);
+        }
+
+        private int[] parseRow() throws IOException {
+            int[] row = new int[16];
+            int length = 0;
+
+            expect('[');
+
+            if (!accept(']')) {
+                do {
+                    if (length == row.length)
+                        row = Arrays.copyOf(row, length * 2);
+
+                    row[length++] = parseInt();
+                } while (accept(','));
+
+                expect(']');
+            }
+
+            return Arrays.copyOf(row, length);
+        }
+
+        private int parseInt() throws IOException {
+            skipWhitespace();
+
+            final int start = position;
+
+            if (position < json.length() && json.charAt(position) == '-')
+                position++;
+
+            while (position < json.length() && json.charAt(position) >= '0' && json.charAt(position) <= '9')
+                position++;
+
+            try {
+                return Integer.parseInt(json.substring(start, position));
+            } catch (NumberFormatException ex) {
+                throw new IOException("Expected an integer at: " + start + ".");
+            }
+        }
+
+        /**
+         * Field names only, so escapes are not supported.
+         * */
+        private String parseString() throws IOException {
+            expect('"');
+
+            final int end = json.indexOf('"', position);
+
+            if (end < 0)
+                throw new IOException("Unterminated string at: " + position + ".");
+
+            final String string = json.substring(position, end);
+            position = end + 1;
+
+            return string;
+        }
+
+        private void expect(final char expected) throws IOException {
+            if (!accept(expected))
+                throw new IOException("Expected '" + expected + "' at: " + position + ".");
+        }
+
+        private boolean accept(final char expected) {
+            skipWhitespace();
+
+            if (position < json.length() && json.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean hasNext() {
+            skipWhitespace();
+
+            return position < json.length();
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position)))
+                position++;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.mazesolver.server;
+
+import java.util.Arrays;
+
+/**
+ *
+ * Records the latencies of the most recent requests (a ring of SAMPLE_COUNT samples), for their percentiles.
+ * Recording is a single array store under a lock. The percentiles sort a copy of the ring, which is
+ * only done for the (rare) stats requests.
+ *
+ * Thread-safe.
+ *
+ * */
+public final class LatencyRecorder {
+
+    public static final int SAMPLE_COUNT = 1 << 14;
+
+    private final long[] samples = new long[SAMPLE_COUNT];
+    private long recordedCount;
+
+    public synchronized void record(final long nanos) {
+        samples[(int) (recordedCount++ & (SAMPLE_COUNT - 1))] = nanos;
+    }
+
+    /**
+     * @return The number of latencies recorded since the start, including the ones, which are no longer sampled.
+     * */
+    public synchronized long getRecordedCount() {
+        return recordedCount;
+    }
+
+    /**
+     * @param percentile In (0, 100].
+     *
+     * @return The latency, which the given percentage of the sampled latencies do not exceed, in nanoseconds.
+     * 0 if nothing has been recorded yet.
+     * */
+    public long getPercentile(final double percentile) {
+        if (!(percentile > 0 && percentile <= 100))
+            throw new IllegalArgumentException("The percentile must be in (0, 100]!");
+
+        final long[] sorted;
+
+        synchronized (this) {
+            sorted = Arrays.copyOf(samples, (int) Math.min(recordedCount, SAMPLE_COUNT));
+        }
+
+        if (sorted.length == 0)
+            return 0;
+
+        Arrays.sort(sorted);
+
+        return sorted[(int) Math.ceil(percentile / 100 * sorted.length) - 1];
+    }
+}
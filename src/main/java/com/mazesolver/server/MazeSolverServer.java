@@ -0,0 +1,443 @@
+package com.mazesolver.server;
+
+import com.mazesolver.BatchSolveResult;
+import com.mazesolver.MazeSolver;
+import com.mazesolver.SolveResult;
+import com.mazesolver.SolveStatus;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.EmptyMazeException;
+import com.mazesolver.exception.InvalidMazeValuesException;
+import com.mazesolver.exception.MalformedMazeException;
+import com.mazesolver.io.SolveRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * A small, local HTTP service for solving Mazes, on the JDK HttpServer.
+ *
+ * - POST /solve - solves a Maze from one set of start coordinates. The body is JSON
+ * (Content-Type: application/json) or a binary Maze file (Content-Type: application/octet-stream),
+ * see SolveRequest. The response is JSON: {"status": "SOLVED", "cost": 15}, where status is a SolveStatus
+ * and cost is -1 for every status but SOLVED. Invalid and inescapable Mazes are answered with 200,
+ * a body, which can not be parsed, with 400.
+ *
+ * - GET /stats - the request counts and the p50 / p99 latencies (see LatencyRecorder) as JSON.
+ *
+ * Requests are handled on virtual threads, if the JDK has them (Java 21+), else on a cached thread pool.
+ * A handler only parses the request and waits for its result, so blocking it is cheap.
+ *
+ * Backpressure: parsed requests wait in a bounded admission queue. If it is full, the request is rejected
+ * at once with 503, instead of waiting.
+ *
+ * Micro-batching: each solver thread takes every request, which is waiting in the queue (up to maxBatchSize),
+ * groups them by Maze (equal contents) and solves each group in one pass - a single MazeSolver.solveAll
+ * for all starts of the same Maze, so the Maze is validated and prepared once. Nothing waits for a batch
+ * to fill up: the busier the service, the more requests wait, while a batch is solved, and the larger
+ * the next batch.
+ *
+ * */
+public final class MazeSolverServer {
+
+    private static final Logger logger = Logger.getLogger(MazeSolverServer.class);
+
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_MAX_QUEUED_REQUESTS = 1024;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    private final MazeSolver solver;
+    private final HttpServer httpServer;
+    private final ExecutorService handlerExecutor;
+    private final BlockingQueue<PendingSolve> admissionQueue;
+    private final int maxBatchSize;
+    private final Thread[] solverThreads;
+
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder badRequestCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder solvePassCount = new LongAdder();
+
+    private volatile boolean running;
+
+    /**
+     * Uses the DEFAULT_MAX_QUEUED_REQUESTS and DEFAULT_MAX_BATCH_SIZE and one solver thread per processor.
+     * */
+    public MazeSolverServer(final MazeSolver solver, final InetSocketAddress address) throws IOException {
+        this(solver, address, DEFAULT_MAX_QUEUED_REQUESTS, DEFAULT_MAX_BATCH_SIZE,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param address The address to listen on. Port 0 picks a free port (see getAddress).
+     * @param maxQueuedRequests The capacity of the admission queue. Positive.
+     * @param maxBatchSize The most requests, which a solver thread takes from the queue at once. Positive.
+     * @param solverThreadCount The number of threads, which take batches from the queue. Positive.
+     * */
+    public MazeSolverServer(final MazeSolver solver, final InetSocketAddress address, final int maxQueuedRequests,
+                            final int maxBatchSize, final int solverThreadCount) throws IOException {
+
+        if (maxQueuedRequests < 1)
+            throw new IllegalArgumentException("The maximum queued requests must be positive!");
+
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException("The maximum batch size must be positive!");
+
+        if (solverThreadCount < 1)
+            throw new IllegalArgumentException("The solver thread count must be positive!");
+
+        this.solver = Objects.requireNonNull(solver);
+        this.admissionQueue = new ArrayBlockingQueue<PendingSolve>(maxQueuedRequests);
+        this.maxBatchSize = maxBatchSize;
+        this.handlerExecutor = newHandlerExecutor();
+
+        this.httpServer = HttpServer.create(address, 0);
+        this.httpServer.setExecutor(handlerExecutor);
+        this.httpServer.createContext("/solve", this::handleSolve);
+        this.httpServer.createContext("/stats", this::handleStats);
+
+        this.solverThreads = new Thread[solverThreadCount];
+
+        for (int i = 0; i < solverThreadCount; i++) {
+            solverThreads[i] = new Thread(this::solveBatches, "maze-solver-" + i);
+            solverThreads[i].setDaemon(true);
+        }
+    }
+
+    /**
+     * Starts a server with the DijkstraMazeSolver on localhost.
+     *
+     * Turns off Nagle's algorithm for the HttpServer (unless set otherwise): it writes the headers and the body
+     * of a response separately, so the body would wait for the delayed ACK of the headers (about 40 ms).
+     *
+     * @param args [port] - DEFAULT_PORT, if not given.
+     * */
+    public static void main(final String[] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        if (System.getProperty("sun.net.httpserver.nodelay") == null)
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+
+        new MazeSolverServer(new DijkstraMazeSolver(), new InetSocketAddress("localhost", port)).start();
+    }
+
+    /**
+     * @return An executor with a virtual thread per task, if the JDK has them, else a cached thread pool.
+     * Looked up reflectively, so that the service also runs on JDKs before 21.
+     * */
+    private static ExecutorService newHandlerExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            logger.debug("Virtual threads are not available. Handling requests on a cached thread pool.");
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public void start() {
+        running = true;
+
+        for (Thread solverThread : solverThreads)
+            solverThread.start();
+
+        httpServer.start();
+
+        logger.info("Maze Solver Server listening on: " + getAddress() + ".");
+    }
+
+    /**
+     * Stops accepting requests, waits up to the given delay for the ones in progress and stops the threads.
+     * Requests, which are still queued, are answered with 503.
+     * */
+    public void stop(final int delaySeconds) {
+        httpServer.stop(delaySeconds);
+        running = false;
+
+        for (Thread solverThread : solverThreads)
+            solverThread.interrupt();
+
+        for (PendingSolve pendingSolve; (pendingSolve = admissionQueue.poll()) != null; )
+            pendingSolve.result.complete(null);
+
+        handlerExecutor.shutdown();
+
+        logger.info("Maze Solver Server stopped.");
+    }
+
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    public LatencyRecorder getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return The number of requests, which were rejected with 503, as the admission queue was full.
+     * */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * @return The number of solve passes, each for one or more requests, which share a Maze.
+     * */
+    public long getSolvePassCount() {
+        return solvePassCount.sum();
+    }
+
+    /**
+     * @return The number of requests, which were answered with 500, as their solve has thrown.
+     * */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public int getQueuedRequestCount() {
+        return admissionQueue.size();
+    }
+
+    private void handleSolve(final HttpExchange exchange) throws IOException {
+        final long startNanos = System.nanoTime();
+
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                respond(exchange, 405, "{\"error\": \"Use POST.\"}");
+                return;
+            }
+
+            final SolveRequest request;
+
+            try (InputStream body = exchange.getRequestBody()) {
+                final byte[] bytes = body.readAllBytes();
+                final String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+
+                request = contentType != null && contentType.startsWith("application/octet-stream") ?
+                        SolveRequest.parseBinary(bytes, exchange.getRequestURI().getRawQuery()) :
+                        SolveRequest.parseJson(bytes);
+            } catch (IOException ex) {
+                badRequestCount.increment();
+                respond(exchange, 400, "{\"error\": \"" + SolveRequest.escapeJson(ex.getMessage()) + "\"}");
+                return;
+            }
+
+            final PendingSolve pendingSolve = new PendingSolve(request);
+
+            if (!running || !admissionQueue.offer(pendingSolve)) {
+                rejectedCount.increment();
+                respond(exchange, 503, "{\"error\": \"Too many queued requests.\"}");
+                return;
+            }
+
+            //stop() may have drained the queue between the check and the offer - then nobody would take it.
+            if (!running && admissionQueue.remove(pendingSolve))
+                pendingSolve.result.complete(null);
+
+            final SolveResult result;
+
+            try {
+                result = await(pendingSolve.result);
+            } catch (ExecutionException ex) {
+                failedCount.increment();
+                respond(exchange, 500, "{\"error\": \"The solve has failed: " +
+                        SolveRequest.escapeJson(String.valueOf(ex.getCause())) + "\"}");
+                return;
+            }
+
+            if (result == null) {
+                respond(exchange, 503, "{\"error\": \"The server is stopping.\"}");
+                return;
+            }
+
+            respond(exchange, 200, "{\"status\": \"" + result.getStatus() + "\", \"cost\": " + result.getCost() + "}");
+        } finally {
+            latencies.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    private void handleStats(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            respond(exchange, 200, "{\"requests\": " + latencies.getRecordedCount() +
+                    ", \"rejected\": " + getRejectedCount() +
+                    ", \"badRequests\": " + badRequestCount.sum() +
+                    ", \"failed\": " + getFailedCount() +
+                    ", \"solvePasses\": " + getSolvePassCount() +
+                    ", \"queued\": " + getQueuedRequestCount() +
+                    ", \"p50Micros\": " + latencies.getPercentile(50) / 1_000 +
+                    ", \"p99Micros\": " + latencies.getPercentile(99) / 1_000 + "}");
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final int statusCode, final String json)
+            throws IOException {
+        final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, body.length);
+
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    private static SolveResult await(final CompletableFuture<SolveResult> result)
+            throws IOException, ExecutionException {
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the solve.", ex);
+        }
+    }
+
+    /**
+     * The loop of a solver thread: takes every queued request (at least one), groups them by Maze and
+     * solves each group in one pass.
+     * */
+    private void solveBatches() {
+        final List<PendingSolve> batch = new ArrayList<PendingSolve>(maxBatchSize);
+
+        while (running) {
+            try {
+                final PendingSolve first = admissionQueue.poll(100, TimeUnit.MILLISECONDS);
+
+                if (first == null)
+                    continue;
+
+                batch.add(first);
+                admissionQueue.drainTo(batch, maxBatchSize - 1);
+
+                final Map<MazeKey, List<PendingSolve>> groups = new LinkedHashMap<MazeKey, List<PendingSolve>>();
+
+                for (PendingSolve pendingSolve : batch)
+                    groups.computeIfAbsent(new MazeKey(pendingSolve.request.getMaze()),
+                            key -> new ArrayList<PendingSolve>()).add(pendingSolve);
+
+                logger.debug("Solving a batch of " + batch.size() + " requests for " + groups.size() + " Mazes.");
+
+                for (List<PendingSolve> group : groups.values())
+                    solveGroup(group);
+            } catch (InterruptedException ex) {
+                break;
+            } catch (RuntimeException | Error ex) {
+                //Only grouping gets here - solveGroup completes its own requests - so fail whatever is left.
+                logger.error("A batch of solves has failed.", ex);
+
+                for (PendingSolve pendingSolve : batch)
+                    pendingSolve.result.completeExceptionally(ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Solves all requests for the same Maze: a single request with solveResult, several with one solveAll.
+     * A failing solve completes only the requests of its group exceptionally, the rest of the batch is
+     * still solved.
+     * */
+    private void solveGroup(final List<PendingSolve> group) {
+        solvePassCount.increment();
+
+        try {
+            solveGroupOrThrow(group);
+        } catch (RuntimeException | Error ex) {
+            logger.error("The solve of " + group.size() + " requests for the same Maze has failed.", ex);
+
+            for (PendingSolve pendingSolve : group)
+                pendingSolve.result.completeExceptionally(ex);
+        }
+    }
+
+    private void solveGroupOrThrow(final List<PendingSolve> group) {
+        final int[][] maze = group.get(0).request.getMaze();
+
+        if (group.size() == 1) {
+            final SolveRequest request = group.get(0).request;
+
+            group.get(0).result.complete(solver.solveResult(maze, request.getX(), request.getY()));
+            return;
+        }
+
+        final int[] xs = new int[group.size()];
+        final int[] ys = new int[group.size()];
+
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = group.get(i).request.getX();
+            ys[i] = group.get(i).request.getY();
+        }
+
+        final BatchSolveResult results;
+
+        try {
+            results = solver.solveAll(maze, xs, ys);
+        } catch (EmptyMazeException | MalformedMazeException | InvalidMazeValuesException ex) {
+            //A problem with the Maze itself is the same for every start, so ask for it once.
+            final SolveResult result = solver.solveResult(maze, xs[0], ys[0]);
+
+            for (PendingSolve pendingSolve : group)
+                pendingSolve.result.complete(result);
+
+            return;
+        }
+
+        for (int i = 0; i < xs.length; i++)
+            group.get(i).result.complete(SolveResult.of(results, i));
+    }
+
+    private static final class PendingSolve {
+
+        private final SolveRequest request;
+        private final CompletableFuture<SolveResult> result = new CompletableFuture<SolveResult>();
+
+        private PendingSolve(final SolveRequest request) {
+            this.request = request;
+        }
+    }
+
+    /**
+     * Groups requests by the contents of their Mazes.
+     * */
+    private static final class MazeKey {
+
+        private final int[][] maze;
+        private final int hashCode;
+
+        private MazeKey(final int[][] maze) {
+            this.maze = maze;
+            this.hashCode = Arrays.deepHashCode(maze);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof MazeKey && ((MazeKey) obj).hashCode == hashCode &&
+                    Arrays.deepEquals(((MazeKey) obj).maze, maze);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+import com.mazesolver.astar.AStarMazeSolver;
+import com.mazesolver.astar.AStarSolution;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.MazeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests for the costs and the expanded cell count of the AStarMazeSolver.
+ *
+ * */
+public class AStarMazeSolverTest {
+
+    private static final int SIZE = 101;
+    private static final int CENTER = SIZE / 2;
+
+    /**
+     * A loop around a wall, with a closed cell (2, 5).
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 4},
+            {0, 0, 0, 0, 0, 0},
+            {0, 0, 3, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    /**
+     * With a binary heap and a bucket queue, and with a workspace, which is kept or dropped after every solve.
+     * */
+    @Test
+    public void agreesWithTheOracle() {
+        for (int bucketQueueThreshold : new int[] {0, DijkstraMazeSolver.DEFAULT_BUCKET_QUEUE_THRESHOLD}) {
+            MazeOracle.assertEveryCell(new AStarMazeSolver(bucketQueueThreshold), LOOP_MAZE);
+            MazeOracle.assertEveryCell(new AStarMazeSolver(bucketQueueThreshold, 0), LOOP_MAZE);
+        }
+    }
+
+    /**
+     * A Maze of 1s, started from its center: every cell costs 1, so the exit Vertex is at a distance of
+     * CENTER + 1 and Dijkstra's Algorithm settles every cell closer than that - all cells within
+     * CENTER steps, a diamond of 2 * CENTER * (CENTER + 1) + 1 cells. A* only expands the cells on the
+     * straight lines to the borders, where distance + heuristic stays CENTER + 1.
+     * */
+    @Test
+    public void expandsFewerCellsThanDijkstraSettlesFromADeepStart() throws MazeException {
+        final int[][] maze = new int[SIZE][SIZE];
+
+        for (int[] row : maze)
+            Arrays.fill(row, 1);
+
+        final int dijkstraSettledCount = 2 * CENTER * (CENTER + 1) + 1;
+
+        for (int bucketQueueThreshold : new int[] {0, DijkstraMazeSolver.DEFAULT_BUCKET_QUEUE_THRESHOLD}) {
+            final AStarSolution solution = new AStarMazeSolver(bucketQueueThreshold)
+                    .solveWithExpandedCount(maze, CENTER, CENTER);
+
+            Assert.assertEquals(CENTER + 1, solution.getCost());
+            Assert.assertEquals(CENTER + 1, new DijkstraMazeSolver().solve(maze, CENTER, CENTER));
+            Assert.assertTrue(solution.getExpandedNodeCount() + " cells",
+                    solution.getExpandedNodeCount() >= CENTER && solution.getExpandedNodeCount() <= 4 * CENTER + 1);
+            Assert.assertTrue(solution.getExpandedNodeCount() < dijkstraSettledCount);
+        }
+    }
+
+    /**
+     * A border cell is left at once: only the start is expanded.
+     * */
+    @Test
+    public void expandsOnlyTheStartOfABorderCell() throws MazeException {
+        final AStarSolution solution = new AStarMazeSolver().solveWithExpandedCount(new int[][] {{0, 3, 0}}, 1, 0);
+
+        Assert.assertEquals(3, solution.getCost());
+        Assert.assertEquals(1, solution.getExpandedNodeCount());
+    }
+
+    @Test
+    public void expandedCountComesWithTheCost() throws MazeException {
+        final AStarSolution solution = new AStarMazeSolver().solveWithExpandedCount(LOOP_MAZE, 1, 1);
+
+        Assert.assertEquals(10, solution.getCost());
+        Assert.assertTrue(solution.getExpandedNodeCount() >= 6);
+    }
+
+    @Test(expected = InescapableMazeException.class)
+    public void rejectsInescapableMazes() throws MazeException {
+        new AStarMazeSolver().solveWithExpandedCount(LOOP_MAZE, 2, 5);
+    }
+}
@@ -0,0 +1,101 @@
+import com.mazesolver.BatchSolveResult;
+import com.mazesolver.MazeSolver;
+import com.mazesolver.SolveResult;
+import com.mazesolver.SolveStatus;
+import com.mazesolver.astar.AStarMazeSolver;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.MazeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for MazeSolver.solveAll: one status and cost per start, in the order of the starts.
+ *
+ * */
+public class BatchSolveTest {
+
+    /**
+     * A loop around a wall, with a closed cell (2, 5).
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 4},
+            {0, 0, 0, 0, 0, 0},
+            {0, 0, 3, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    private static final int WIDTH = LOOP_MAZE[0].length;
+    private static final int CELL_COUNT = WIDTH * LOOP_MAZE.length;
+
+    /**
+     * @return The x of every cell, plus one start outside of the Maze.
+     * */
+    private static int[] getXs() {
+        final int[] xs = new int[CELL_COUNT + 1];
+
+        for (int i = 0; i < CELL_COUNT; i++)
+            xs[i] = i % WIDTH;
+
+        xs[CELL_COUNT] = -1;
+
+        return xs;
+    }
+
+    private static int[] getYs() {
+        final int[] ys = new int[CELL_COUNT + 1];
+
+        for (int i = 0; i < CELL_COUNT; i++)
+            ys[i] = i / WIDTH;
+
+        return ys;
+    }
+
+    private static void assertResults(final BatchSolveResult results) {
+        final long[][] expected = MazeOracle.costs(LOOP_MAZE);
+
+        Assert.assertEquals(CELL_COUNT + 1, results.size());
+
+        for (int i = 0; i < CELL_COUNT; i++) {
+            final int x = i % WIDTH, y = i / WIDTH;
+            final String message = "(" + x + ", " + y + ")";
+
+            if (LOOP_MAZE[y][x] <= 0) {
+                Assert.assertEquals(message, SolveStatus.BAD_START, results.getStatus(i));
+            } else if (expected[y][x] == MazeOracle.INESCAPABLE) {
+                Assert.assertEquals(message, SolveStatus.INESCAPABLE, results.getStatus(i));
+            } else {
+                Assert.assertEquals(message, SolveStatus.SOLVED, results.getStatus(i));
+                Assert.assertEquals(message, expected[y][x], results.getCost(i));
+            }
+
+            Assert.assertEquals(message, results.isSolved(i) ? results.getCost(i) : -1, results.getCosts()[i]);
+        }
+
+        Assert.assertEquals(SolveStatus.BAD_COORDINATES, results.getStatus(CELL_COUNT));
+        Assert.assertEquals(SolveStatus.INESCAPABLE, SolveResult.of(results, 5 * WIDTH + 2).getStatus());
+        Assert.assertEquals(10, SolveResult.of(results, WIDTH + 1).getCost());
+    }
+
+    @Test
+    public void solvesEveryStart() throws MazeException {
+        for (MazeSolver solver : new MazeSolver[] {new DijkstraMazeSolver(), new AStarMazeSolver()})
+            assertResults(solver.solveAll(LOOP_MAZE, getXs(), getYs()));
+    }
+
+    @Test
+    public void solvesEveryStartOnAGivenPool() throws MazeException {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (MazeSolver solver : new MazeSolver[] {new DijkstraMazeSolver(), new AStarMazeSolver()})
+                assertResults(solver.solveAll(LOOP_MAZE, getXs(), getYs(), pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
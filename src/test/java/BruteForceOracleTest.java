@@ -0,0 +1,42 @@
+import com.mazesolver.MazeSolver;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.*;
+
+/**
+ * Checks the IMPLICIT_GRID Dijkstra Maze Solver against the brute force of the MazeOracle
+ * (Bellman-Ford over every 4-neighbour step), on small random Mazes with many loops.
+ *
+ * */
+@SuppressWarnings("Convert2Diamond")
+@RunWith(Parameterized.class)
+public class BruteForceOracleTest {
+
+    private static final int MAZE_COUNT = 300;
+
+    @Parameterized.Parameters(name = "seed:{0}")
+    public static Collection<Object[]> data() {
+        final List<Object[]> result = new ArrayList<Object[]>();
+
+        for (int seed = 0; seed < MAZE_COUNT; seed++)
+            result.add(new Object[] {seed});
+
+        return result;
+    }
+
+    @Parameterized.Parameter
+    public int seed;
+
+    @Test
+    public void implicitGridMatchesBellmanFordForEveryCell() {
+        final int[][] maze = MazeOracle.generate(new Random(seed), 8, 9);
+
+        for (MazeSolver solver : new MazeSolver[] {new DijkstraMazeSolver(),
+                new DijkstraMazeSolver(DijkstraMazeSolver.Engine.IMPLICIT_GRID,
+                        DijkstraMazeSolver.SearchMode.FULL_COMPONENT, 0)})
+            MazeOracle.assertEveryCell(solver, maze);
+    }
+}
@@ -0,0 +1,180 @@
+import com.mazesolver.BatchSolveResult;
+import com.mazesolver.CachingMazeSolver;
+import com.mazesolver.MazeSolver;
+import com.mazesolver.SolveStatus;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the hits, misses, evictions and single-flight solves of the CachingMazeSolver.
+ *
+ * */
+@SuppressWarnings("Convert2Diamond")
+public class CachingMazeSolverTest {
+
+    private static final int[][] MAZE = {
+            {0, 11, 0, 0, 0, 2},
+            {0, 15, 0, 0, 0, 5},
+            {0, 1, 0, 0, 0, 5},
+            {0, 9, 1, 4, 1, 0},
+            {0, 2, 0, 9, 0, 0},
+            {0, 3, 0, 7, 0, 0}
+    };
+
+    private static final int[][] INESCAPABLE_MAZE = {
+            {0, 0, 0},
+            {0, 1, 0},
+            {0, 0, 0}
+    };
+
+    @Test
+    public void repeatedSolvesHitTheCache() throws MazeException {
+        final CachingMazeSolver solver = new CachingMazeSolver(new DijkstraMazeSolver(), 1 << 20);
+
+        Assert.assertEquals(15, solver.solve(MAZE, 2, 3));
+        Assert.assertEquals(15, solver.solve(copy(MAZE), 2, 3));
+        Assert.assertEquals(1, solver.getMissCount());
+        Assert.assertEquals(1, solver.getHitCount());
+
+        //A modified Maze is a different key.
+        final int[][] modifiedMaze = copy(MAZE);
+        modifiedMaze[3][2] = 2;
+
+        Assert.assertEquals(16, solver.solve(modifiedMaze, 2, 3));
+        Assert.assertEquals(2, solver.getMissCount());
+    }
+
+    @Test
+    public void inescapableResultsAreReplayed() throws MazeException {
+        final CachingMazeSolver solver = new CachingMazeSolver(new DijkstraMazeSolver(), 1 << 20);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                solver.solve(INESCAPABLE_MAZE, 1, 1);
+                Assert.fail();
+            } catch (InescapableMazeException e) {
+                Assert.assertEquals(1, (int) e.getSourceCoordinates().getX());
+            }
+        }
+
+        Assert.assertEquals(1, solver.getMissCount());
+        Assert.assertEquals(1, solver.getHitCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted() throws MazeException {
+        final CachingMazeSolver solver = new CachingMazeSolver(new DijkstraMazeSolver(),
+                2 * CachingMazeSolver.ESTIMATED_ENTRY_BYTES);
+
+        solver.solve(MAZE, 2, 3);
+        solver.solve(MAZE, 1, 0);
+        solver.solve(MAZE, 2, 3); //(1, 0) is now the least recently used
+        solver.solve(MAZE, 5, 0);
+
+        Assert.assertEquals(1, solver.getEvictionCount());
+        Assert.assertEquals(2, solver.getEntryCount());
+
+        solver.solve(MAZE, 2, 3);
+        Assert.assertEquals(3, solver.getMissCount());
+
+        solver.solve(MAZE, 1, 0);
+        Assert.assertEquals(4, solver.getMissCount());
+    }
+
+    @Test
+    public void batchSolvesUseTheCache() throws MazeException {
+        final CachingMazeSolver solver = new CachingMazeSolver(new DijkstraMazeSolver(), 1 << 20);
+        final int[] xs = {2, 2, 0, 1};
+        final int[] ys = {3, 3, 0, 0};
+
+        final BatchSolveResult result = solver.solveAll(MAZE, xs, ys);
+
+        Assert.assertEquals(15, result.getCost(0));
+        Assert.assertEquals(15, result.getCost(1));
+        Assert.assertEquals(SolveStatus.BAD_START, result.getStatus(2));
+        Assert.assertEquals(11, result.getCost(3));
+        Assert.assertEquals(3, solver.getHitCount() + solver.getMissCount() + solver.getCoalescedCount());
+        Assert.assertEquals(2, solver.getMissCount());
+    }
+
+    @Test
+    public void concurrentIdenticalSolvesRunOnce() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountingMazeSolver countingSolver = new CountingMazeSolver(started, release);
+        final CachingMazeSolver solver = new CachingMazeSolver(countingSolver, 1 << 20);
+
+        final int threadCount = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        try {
+            final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+
+            results.add(executor.submit(() -> solver.solve(MAZE, 2, 3)));
+            started.await();
+
+            for (int i = 1; i < threadCount; i++)
+                results.add(executor.submit(() -> solver.solve(MAZE, 2, 3)));
+
+            //Give the other solves time to join the one in flight.
+            while (solver.getCoalescedCount() < threadCount - 1)
+                Thread.sleep(1);
+
+            release.countDown();
+
+            for (Future<Integer> result : results)
+                Assert.assertEquals(15, (int) result.get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(1, countingSolver.solveCount.get());
+        Assert.assertEquals(1, solver.getMissCount());
+    }
+
+    /**
+     * Blocks its first solve until released, so that identical solves pile up behind it.
+     * */
+    private static final class CountingMazeSolver extends MazeSolver {
+
+        private final AtomicInteger solveCount = new AtomicInteger();
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+        private final MazeSolver solver = new DijkstraMazeSolver();
+
+        private CountingMazeSolver(final CountDownLatch started, final CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        protected int solve(final int[][] maze, final Point sourceCoordinates)
+                throws InescapableMazeException {
+            solveCount.incrementAndGet();
+            started.countDown();
+
+            try {
+                release.await();
+                return solver.solve(maze, (int) sourceCoordinates.getX(), (int) sourceCoordinates.getY());
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            } catch (InescapableMazeException e) {
+                throw e;
+            } catch (MazeException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    private static int[][] copy(final int[][] maze) {
+        return Arrays.stream(maze).map(int[]::clone).toArray(int[][]::new);
+    }
+}
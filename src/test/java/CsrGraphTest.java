@@ -0,0 +1,166 @@
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.graph.CsrGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests for DijkstraMazeSolver.solveGraph on CsrGraphs of Mazes, with teleporters and one-way doors,
+ * and on hand-built CsrGraphs.
+ *
+ * */
+public class CsrGraphTest {
+
+    /**
+     * A loop around a wall (the cheap way is down & right) and a cell, which no border cell can be reached from.
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 4},
+            {0, 0, 0, 0, 0, 0},
+            {0, 0, 3, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    /**
+     * A closed chamber (1, 1) next to a corridor to the border (3, 1) - (4, 1).
+     * */
+    private static final int[][] CHAMBER_MAZE = {
+            {0, 0, 0, 0, 0},
+            {0, 2, 0, 1, 1},
+            {0, 0, 0, 0, 0}
+    };
+
+    private final DijkstraMazeSolver solver = new DijkstraMazeSolver();
+
+    private static int getVertex(final int[][] maze, final int x, final int y) {
+        return y * maze[0].length + x;
+    }
+
+    @Test
+    public void theGraphOfAMazeCostsTheSameAsTheMaze() {
+        final CsrGraph graph = CsrGraph.Builder.of(LOOP_MAZE).build();
+        final int width = LOOP_MAZE[0].length;
+
+        Assert.assertEquals(width * LOOP_MAZE.length + 1, graph.getVertexCount());
+        Assert.assertArrayEquals(new int[] {width * LOOP_MAZE.length}, graph.getExitVertexes());
+
+        for (DijkstraMazeSolver graphSolver : new DijkstraMazeSolver[] {solver,
+                new DijkstraMazeSolver(DijkstraMazeSolver.Engine.IMPLICIT_GRID,
+                        DijkstraMazeSolver.SearchMode.FULL_COMPONENT, 0)}) {
+            MazeOracle.assertEveryCell("", LOOP_MAZE, (x, y) -> {
+                final int cost = graphSolver.solveGraph(graph, getVertex(LOOP_MAZE, x, y));
+
+                return cost < 0 ? MazeOracle.INESCAPABLE : cost;
+            });
+        }
+    }
+
+    /**
+     * Every traversable cell has an Edge to each traversable neighbor and border cells one to the exit.
+     * */
+    @Test
+    public void theGraphOfAMazeHasAnEdgePerStep() {
+        final CsrGraph graph = CsrGraph.Builder.of(new int[][] {{1, 5}, {0, 1}}).build();
+
+        Assert.assertEquals(5, graph.getVertexCount());
+        Assert.assertEquals(2 + 3 + 2, graph.getEdgeCount());
+        Assert.assertEquals(5, graph.getMaxWeight());
+        Assert.assertEquals(0, graph.getEndEdge(2) - graph.getFirstEdge(2));
+    }
+
+    /**
+     * A Maze of 9s with a 1 in a corner: the center is 3 cells from the border, unless it may teleport
+     * to the corner.
+     * */
+    @Test
+    public void takesATeleporter() {
+        final int[][] maze = new int[5][5];
+
+        for (int[] row : maze)
+            Arrays.fill(row, 9);
+
+        maze[0][0] = 1;
+
+        final CsrGraph.Builder builder = CsrGraph.Builder.of(maze);
+
+        Assert.assertEquals(27, solver.solveGraph(builder.build(), getVertex(maze, 2, 2)));
+
+        //The Edge of a teleporter costs the value of the cell, which is being left, same as a step.
+        final CsrGraph graph = builder.addEdge(getVertex(maze, 2, 2), getVertex(maze, 0, 0), 9).build();
+
+        Assert.assertEquals(9 + 1, solver.solveGraph(graph, getVertex(maze, 2, 2)));
+        //One way only: the teleporter is not worth the step to the center from (2, 1).
+        Assert.assertEquals(18, solver.solveGraph(graph, getVertex(maze, 2, 1)));
+    }
+
+    @Test
+    public void oneWayDoorsOnlyLeadOneWay() {
+        final int chamber = getVertex(CHAMBER_MAZE, 1, 1);
+        final int corridor = getVertex(CHAMBER_MAZE, 3, 1);
+
+        final CsrGraph doorIn = CsrGraph.Builder.of(CHAMBER_MAZE).addEdge(corridor, chamber, 1).build();
+
+        Assert.assertEquals(-1, solver.solveGraph(doorIn, chamber));
+        Assert.assertEquals(2, solver.solveGraph(doorIn, corridor));
+
+        final CsrGraph doorOut = CsrGraph.Builder.of(CHAMBER_MAZE).addEdge(chamber, corridor, 2).build();
+
+        Assert.assertEquals(2 + 1 + 1, solver.solveGraph(doorOut, chamber));
+        Assert.assertEquals(2, solver.solveGraph(doorOut, corridor));
+    }
+
+    @Test
+    public void anyVertexMayBeAnExit() {
+        final CsrGraph graph = CsrGraph.Builder.of(CHAMBER_MAZE).addExit(getVertex(CHAMBER_MAZE, 1, 1)).build();
+
+        Assert.assertEquals(0, solver.solveGraph(graph, getVertex(CHAMBER_MAZE, 1, 1)));
+        Assert.assertEquals(2, graph.getExitVertexes().length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsASourceOutsideOfTheGraph() {
+        solver.solveGraph(CsrGraph.Builder.of(CHAMBER_MAZE).build(), -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeWeights() {
+        new CsrGraph.Builder(2).addEdge(0, 1, -1);
+    }
+
+    @Test
+    public void aGraphWithoutAReachableExitHasNoPath() {
+        final CsrGraph graph = new CsrGraph.Builder(3).addEdge(0, 1, 1).addEdge(2, 0, 1).addExit(2).build();
+
+        Assert.assertEquals(-1, solver.solveGraph(graph, 0));
+    }
+
+    @Test
+    public void weightsUpToIntegerMaxValueAreAddedExactly() {
+        final CsrGraph graph = new CsrGraph.Builder(3)
+                .addEdge(0, 1, Integer.MAX_VALUE - 10).addEdge(1, 2, 8).addExit(2).build();
+
+        Assert.assertEquals(Integer.MAX_VALUE - 2, solver.solveGraph(graph, 0));
+    }
+
+    @Test
+    public void aCheapExitWinsOverAPathBeyondIntegerMaxValue() {
+        final CsrGraph graph = new CsrGraph.Builder(4)
+                .addEdge(0, 1, Integer.MAX_VALUE).addEdge(1, 2, Integer.MAX_VALUE).addExit(2)
+                .addEdge(0, 3, 1).addEdge(3, 2, 6)
+                .build();
+
+        Assert.assertEquals(7, solver.solveGraph(graph, 0));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void aCostBeyondIntegerMaxValueIsRejected() {
+        final CsrGraph graph = new CsrGraph.Builder(3)
+                .addEdge(0, 1, Integer.MAX_VALUE).addEdge(1, 2, Integer.MAX_VALUE).addExit(2).build();
+
+        solver.solveGraph(graph, 0);
+    }
+}
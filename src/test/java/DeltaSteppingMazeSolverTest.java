@@ -0,0 +1,85 @@
+import com.mazesolver.deltastepping.DeltaSteppingMazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.MazeException;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests the DeltaSteppingMazeSolver with buckets narrower than, as wide as and wider than the cell values,
+ * on Mazes with light (1) and heavy (1000) cells.
+ *
+ * */
+public class DeltaSteppingMazeSolverTest {
+
+    /**
+     * From (3, 3), the cheap way (18) winds around the heavy cells to (5, 6), while the border is only
+     * 3 cells away over a heavy one (1003).
+     * */
+    private static final int[][] HEAVY_MAZE = {
+            {1000, 1000, 1000, 1000, 1000, 1000, 1000},
+            {1000, 1, 1, 1, 1, 1, 1000},
+            {1000, 1, 1000, 1000, 1000, 1, 1000},
+            {1000, 1, 1000, 1, 1000, 1, 1000},
+            {1000, 1, 1000, 1, 1000, 1, 1000},
+            {1000, 1, 1, 1, 1000, 1, 1000},
+            {1000, 1000, 1000, 1000, 1000, 1, 1000}
+    };
+
+    /**
+     * A loop around a wall, with a closed cell (2, 5).
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 4},
+            {0, 0, 0, 0, 0, 0},
+            {0, 0, 3, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    private static final int[] DELTAS = {DeltaSteppingMazeSolver.HIGHEST_CELL_VALUE_DELTA, 1, 4, 1000, 5000};
+
+    //Splits every frontier of 2 or more Vertexes, so that even small Mazes are relaxed concurrently
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void tearDown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void windsAroundHeavyCellsForEveryDelta() throws MazeException {
+        for (int delta : DELTAS) {
+            final DeltaSteppingMazeSolver solver = new DeltaSteppingMazeSolver(delta, POOL, 2);
+
+            Assert.assertEquals("delta: " + delta, 18, solver.solve(HEAVY_MAZE, 3, 3));
+            MazeOracle.assertEveryCell("delta: " + delta, HEAVY_MAZE, (x, y) -> solver.solve(HEAVY_MAZE, x, y));
+        }
+    }
+
+    @Test
+    public void takesTheCheapWayAroundALoopForEveryDelta() {
+        for (int delta : DELTAS) {
+            final DeltaSteppingMazeSolver solver = new DeltaSteppingMazeSolver(delta, POOL, 2);
+
+            MazeOracle.assertEveryCell("delta: " + delta, LOOP_MAZE, (x, y) -> solver.solve(LOOP_MAZE, x, y));
+        }
+    }
+
+    /**
+     * Frontiers are only split above the default minimum, so this runs on the calling thread.
+     * */
+    @Test
+    public void agreesOnTheCommonPool() throws MazeException {
+        Assert.assertEquals(18, new DeltaSteppingMazeSolver().solve(HEAVY_MAZE, 3, 3));
+    }
+
+    @Test(expected = InescapableMazeException.class)
+    public void rejectsAClosedCell() throws MazeException {
+        new DeltaSteppingMazeSolver(1, POOL, 2).solve(LOOP_MAZE, 2, 5);
+    }
+}
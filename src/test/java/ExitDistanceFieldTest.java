@@ -0,0 +1,72 @@
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.dijkstra.ExitDistanceField;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.InvalidMazeCoordinatesException;
+import com.mazesolver.exception.InvalidMazeStartPositionException;
+import com.mazesolver.exception.MazeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the ExitDistanceField, which is built from all exits at once.
+ *
+ * */
+public class ExitDistanceFieldTest {
+
+    /**
+     * The cheapest exit of (1, 1) is the far one on the right, not one of its close, expensive border
+     * neighbors. (1, 2) is cheapest out through (1, 1).
+     * */
+    private static final int[][] MAZE = {
+            {9, 9, 9, 9, 9},
+            {9, 1, 1, 1, 1},
+            {9, 5, 0, 0, 9},
+            {9, 9, 9, 9, 9}
+    };
+
+    /**
+     * A loop around a wall, with a closed cell (2, 5).
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 4},
+            {0, 0, 0, 0, 0, 0},
+            {0, 0, 3, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    @Test
+    public void picksTheCheapestExitOfEveryCell() throws MazeException {
+        for (int bucketQueueThreshold : new int[] {0, DijkstraMazeSolver.DEFAULT_BUCKET_QUEUE_THRESHOLD}) {
+            final DijkstraMazeSolver solver = new DijkstraMazeSolver(DijkstraMazeSolver.Engine.IMPLICIT_GRID,
+                    DijkstraMazeSolver.SearchMode.FIRST_EXIT, bucketQueueThreshold);
+            final ExitDistanceField field = solver.computeExitDistanceField(MAZE);
+
+            Assert.assertEquals(5, field.getWidth());
+            Assert.assertEquals(4, field.getHeight());
+            Assert.assertEquals(4, field.getCost(1, 1));
+            Assert.assertEquals(5 + 4, field.getCost(1, 2));
+            Assert.assertEquals(9, field.getCost(0, 0));
+
+            MazeOracle.assertEveryCell("", MAZE, field::getCost);
+            MazeOracle.assertEveryCell("", LOOP_MAZE, solver.computeExitDistanceField(LOOP_MAZE)::getCost);
+        }
+    }
+
+    @Test(expected = InescapableMazeException.class)
+    public void rejectsAClosedCell() throws MazeException {
+        new DijkstraMazeSolver().computeExitDistanceField(LOOP_MAZE).getCost(2, 5);
+    }
+
+    @Test(expected = InvalidMazeStartPositionException.class)
+    public void rejectsWalls() throws MazeException {
+        new DijkstraMazeSolver().computeExitDistanceField(new int[][] {{1, 0}}).getCost(1, 0);
+    }
+
+    @Test(expected = InvalidMazeCoordinatesException.class)
+    public void rejectsCoordinatesOutsideOfTheMaze() throws MazeException {
+        new DijkstraMazeSolver().computeExitDistanceField(MAZE).getCost(0, -1);
+    }
+}
@@ -0,0 +1,107 @@
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.dijkstra.IncrementalMazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.InvalidMazeCoordinatesException;
+import com.mazesolver.exception.InvalidMazeStartPositionException;
+import com.mazesolver.exception.InvalidMazeValuesException;
+import com.mazesolver.exception.MazeException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests, that the IncrementalMazeSolver keeps the cost of a loop Maze up to date, while walls are
+ * added and removed and cell values change - checked against the MazeOracle after every update.
+ *
+ * */
+public class IncrementalMazeSolverTest {
+
+    /**
+     * From (1, 1), the cheap way is down & right (7), the other one over the 9 (15).
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 1},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    private int[][] maze;
+    private IncrementalMazeSolver solver;
+
+    @Before
+    public void setUp() throws MazeException {
+        maze = Arrays.stream(LOOP_MAZE).map(int[]::clone).toArray(int[][]::new);
+        solver = new DijkstraMazeSolver().createIncrementalSolver(maze, 1, 1);
+    }
+
+    /**
+     * Updates the cell of both the solver and the copy of the Maze, and checks the new cost.
+     * */
+    private void update(final int x, final int y, final int value, final long expectedCost) throws MazeException {
+        maze[y][x] = value;
+        solver.updateCell(x, y, value);
+
+        long cost;
+
+        try {
+            cost = solver.currentCost();
+        } catch (InescapableMazeException e) {
+            cost = MazeOracle.INESCAPABLE;
+        }
+
+        Assert.assertEquals(MazeOracle.costs(maze)[1][1], cost);
+        Assert.assertEquals(expectedCost, cost);
+    }
+
+    @Test
+    public void followsWallsAndValues() throws MazeException {
+        Assert.assertEquals(7, solver.currentCost());
+
+        update(1, 2, 0, 15); //Closes the cheap way
+        update(4, 2, 1, 7); //Makes the other one cheap
+        update(5, 3, 0, MazeOracle.INESCAPABLE); //Closes the only exit
+        update(0, 1, 2, 1 + 2); //Opens an exit next to the start
+        update(0, 1, 0, MazeOracle.INESCAPABLE);
+        update(5, 3, 1, 7);
+        update(1, 1, 5, 5 + 6); //The value of the start itself
+    }
+
+    @Test
+    public void aRepeatedQueryTouchesNothing() throws MazeException {
+        update(1, 2, 0, 15);
+
+        Assert.assertTrue(solver.getLastTouchedCellCount() > 0);
+        Assert.assertEquals(15, solver.currentCost());
+        Assert.assertEquals(0, solver.getLastTouchedCellCount());
+    }
+
+    /**
+     * The Maze is copied: changes to the original one are not seen.
+     * */
+    @Test
+    public void keepsItsOwnCopyOfTheMaze() throws MazeException {
+        maze[1][2] = 0;
+
+        Assert.assertEquals(7, solver.currentCost());
+    }
+
+    @Test(expected = InvalidMazeStartPositionException.class)
+    public void rejectsAStartTurnedIntoAWall() throws MazeException {
+        solver.updateCell(1, 1, 0);
+        solver.currentCost();
+    }
+
+    @Test(expected = InvalidMazeValuesException.class)
+    public void rejectsNegativeValues() throws MazeException {
+        solver.updateCell(2, 2, -1);
+    }
+
+    @Test(expected = InvalidMazeCoordinatesException.class)
+    public void rejectsCoordinatesOutsideOfTheMaze() throws MazeException {
+        solver.updateCell(6, 0, 1);
+    }
+}
@@ -0,0 +1,80 @@
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.MazeException;
+import com.mazesolver.io.MappedMazeSolver;
+import com.mazesolver.io.MazeFile;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Tests for the MappedMazeSolver on Maze files of every cell width.
+ *
+ * */
+public class MappedMazeSolverTest {
+
+    /**
+     * A loop around a wall, with a closed cell (2, 5).
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 4},
+            {0, 0, 0, 0, 0, 0},
+            {0, 0, 3, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    /**
+     * Written with 1, 2 and 4 byte cells.
+     * */
+    private static final int[] SCALES = {1, 300, 70000};
+
+    private Path mazeFile;
+
+    @Before
+    public void setUp() throws IOException {
+        mazeFile = Files.createTempFile("maze-", ".maze");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.delete(mazeFile);
+    }
+
+    private int solve(final int x, final int y) throws MazeException {
+        try {
+            return new MappedMazeSolver().solve(mazeFile, x, y);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    public void solvesEveryCellWidth() throws MazeException, IOException {
+        for (int scale : SCALES) {
+            final int[][] maze = Arrays.stream(LOOP_MAZE).map(row ->
+                    Arrays.stream(row).map(cell -> cell * scale).toArray()).toArray(int[][]::new);
+
+            MazeFile.write(mazeFile, maze);
+
+            Assert.assertEquals(10L * scale, new MappedMazeSolver().solve(mazeFile, 1, 1));
+            MazeOracle.assertEveryCell("scale: " + scale, maze,
+                    (x, y) -> solve(x, y));
+        }
+    }
+
+    @Test(expected = InescapableMazeException.class)
+    public void rejectsAClosedCell() throws MazeException, IOException {
+        MazeFile.write(mazeFile, LOOP_MAZE);
+
+        new MappedMazeSolver().solve(mazeFile, 2, 5);
+    }
+}
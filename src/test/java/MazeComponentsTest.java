@@ -0,0 +1,98 @@
+import com.mazesolver.MazeSolver;
+import com.mazesolver.astar.AStarMazeSolver;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.InvalidMazeStartPositionException;
+import com.mazesolver.exception.MazeException;
+import com.mazesolver.graph.MazeComponents;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.Point;
+
+/**
+ * Tests for the labelling of MazeComponents and for MazeSolver.solve(components, x, y),
+ * on a Maze with closed components.
+ *
+ * */
+public class MazeComponentsTest {
+
+    /**
+     * Four components, labelled in the row-major order of their first cells:
+     *
+     * 0 - (0, 0) & (1, 0): on the border.
+     * 1 - a closed U from (3, 1) to (5, 1). Its arms are only joined in row 3, so they are labelled
+     *     separately first and united later.
+     * 2 - (1, 2): a single closed cell.
+     * 3 - the column from (7, 2) down to (7, 5) & (8, 5): on the border.
+     * */
+    private static final int[][] MAZE = {
+            {1, 1, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 1, 0, 1, 0, 0, 0},
+            {0, 2, 0, 1, 0, 1, 0, 4, 0},
+            {0, 0, 0, 1, 1, 1, 0, 4, 0},
+            {0, 0, 0, 0, 0, 0, 0, 4, 0},
+            {0, 0, 0, 0, 0, 0, 0, 4, 3}
+    };
+
+    private static final Point[] FIRST_CELLS = {new Point(0, 0), new Point(3, 1), new Point(1, 2), new Point(7, 2)};
+    private static final int[] SIZES = {2, 7, 1, 5};
+    private static final boolean[] ESCAPABLE = {true, false, false, true};
+
+    @Test
+    public void labelsEveryComponent() throws MazeException {
+        final MazeComponents components = MazeSolver.labelComponents(MAZE);
+
+        Assert.assertEquals(4, components.getComponentCount());
+        Assert.assertEquals(4, components.getMaxCellValue());
+        Assert.assertEquals(1, components.getMinCellValue());
+
+        for (int component = 0; component < FIRST_CELLS.length; component++) {
+            final Point cell = FIRST_CELLS[component];
+
+            Assert.assertEquals(component, components.getComponent(cell.x, cell.y));
+            Assert.assertEquals(SIZES[component], components.getComponentSize(cell.x, cell.y));
+            Assert.assertEquals(ESCAPABLE[component], components.isEscapable(cell.x, cell.y));
+        }
+
+        //Both arms and the bottom of the U
+        Assert.assertEquals(1, components.getComponent(5, 1));
+        Assert.assertEquals(1, components.getComponent(4, 3));
+        Assert.assertEquals(3, components.getComponent(8, 5));
+
+        Assert.assertEquals(MazeComponents.NO_COMPONENT, components.getComponent(4, 1));
+        Assert.assertEquals(0, components.getComponentSize(4, 1));
+        Assert.assertFalse(components.isEscapable(4, 1));
+    }
+
+    @Test
+    public void solvesEveryCellOfTheComponents() throws MazeException {
+        final MazeComponents components = MazeSolver.labelComponents(MAZE);
+
+        for (MazeSolver solver : new MazeSolver[] {new DijkstraMazeSolver(), new AStarMazeSolver()})
+            MazeOracle.assertEveryCell(solver.getClass().getSimpleName(), MAZE,
+                    (x, y) -> solver.solve(components, x, y));
+
+        Assert.assertEquals(4 * 4, new DijkstraMazeSolver().solve(components, 7, 2));
+    }
+
+    /**
+     * A start in a closed component is rejected by its label, without a search.
+     * */
+    @Test(expected = InescapableMazeException.class)
+    public void rejectsAClosedComponentWithoutASearch() throws MazeException {
+        final MazeSolver solver = new MazeSolver() {
+            @Override
+            protected int solve(final int[][] maze, final Point sourceCoordinates) {
+                throw new AssertionError("Searched from " + sourceCoordinates + ".");
+            }
+        };
+
+        solver.solve(MazeSolver.labelComponents(MAZE), 4, 3);
+    }
+
+    @Test(expected = InvalidMazeStartPositionException.class)
+    public void rejectsWalls() throws MazeException {
+        new DijkstraMazeSolver().solve(MazeSolver.labelComponents(MAZE), 4, 1);
+    }
+}
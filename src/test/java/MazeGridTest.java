@@ -0,0 +1,123 @@
+import com.mazesolver.BatchSolveResult;
+import com.mazesolver.MazeSolver;
+import com.mazesolver.astar.AStarMazeSolver;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.MazeException;
+import com.mazesolver.graph.GridGraph;
+import com.mazesolver.graph.MazeGrid;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests for the cell widths of the MazeGrid, and that a GridGraph packed into a MazeGrid is the same graph
+ * as a view of the Maze.
+ *
+ * */
+public class MazeGridTest {
+
+    /**
+     * A loop around a wall, with a closed cell (2, 5).
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 4},
+            {0, 0, 0, 0, 0, 0},
+            {0, 0, 3, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    /**
+     * Scaled by 1, 100 and 100000, so that it is packed into 1, 2 and 4 byte cells.
+     * */
+    private static final int[] SCALES = {1, 100, 100000};
+
+    private static int[][] scale(final int[][] maze, final int scale) {
+        return Arrays.stream(maze).map(row ->
+                Arrays.stream(row).map(cell -> cell * scale).toArray()).toArray(int[][]::new);
+    }
+
+    @Test
+    public void picksTheNarrowestCellWidth() {
+        Assert.assertEquals(1, MazeGrid.of(new int[][] {{0, 255}}).getCellWidth());
+        Assert.assertEquals(2, MazeGrid.of(new int[][] {{0, 256}}).getCellWidth());
+        Assert.assertEquals(2, MazeGrid.of(new int[][] {{0, 65535}}).getCellWidth());
+        Assert.assertEquals(4, MazeGrid.of(new int[][] {{0, 65536}}).getCellWidth());
+        Assert.assertEquals(4, MazeGrid.of(new int[][] {{0, Integer.MAX_VALUE}}).getCellWidth());
+    }
+
+    /**
+     * Values above the highest signed byte or short are read back unsigned.
+     * */
+    @Test
+    public void readsBackEveryCell() {
+        for (int[][] maze : new int[][][] {{{255, 128, 0}, {1, 127, 3}}, {{65535, 32768, 0}, {256, 32767, 1}},
+                {{Integer.MAX_VALUE, 65536, 0}, {1, 2, 3}}}) {
+            final MazeGrid grid = MazeGrid.of(maze);
+
+            Assert.assertEquals(3, grid.getWidth());
+            Assert.assertEquals(2, grid.getHeight());
+            Assert.assertEquals(maze[0][0], grid.getMaxValue());
+            Assert.assertEquals(1, grid.getMinPositiveValue());
+
+            for (int y = 0; y < maze.length; y++)
+                for (int x = 0; x < maze[0].length; x++)
+                    Assert.assertEquals(maze[y][x], grid.getCell(x, y));
+        }
+    }
+
+    @Test
+    public void aViewIsTheSameGraphAsThePackedGrid() {
+        for (int scale : SCALES) {
+            final int[][] maze = scale(LOOP_MAZE, scale);
+            final MazeGrid grid = MazeGrid.of(maze);
+            final GridGraph packedGraph = new GridGraph(grid);
+            final GridGraph view = GridGraph.view(maze, MazeGrid.findMaxValue(maze), MazeGrid.findMinPositiveValue(maze));
+            final int[] packedNeighbors = new int[4];
+            final int[] viewNeighbors = new int[4];
+
+            Assert.assertEquals(packedGraph.getVertexCount(), view.getVertexCount());
+            Assert.assertEquals(scale, view.getMinWeight());
+            Assert.assertEquals(packedGraph.getMinWeight(), view.getMinWeight());
+            Assert.assertEquals(9 * scale, view.getMaxWeight());
+            Assert.assertEquals(packedGraph.getMaxWeight(), view.getMaxWeight());
+
+            for (int vertex = 0; vertex < packedGraph.getExitVertex(); vertex++) {
+                Assert.assertEquals(maze[view.getY(vertex)][view.getX(vertex)], view.getWeight(vertex));
+                Assert.assertEquals(packedGraph.getWeight(vertex), view.getWeight(vertex));
+                Assert.assertEquals(packedGraph.getNeighbors(vertex, packedNeighbors),
+                        view.getNeighbors(vertex, viewNeighbors));
+                Assert.assertArrayEquals(packedNeighbors, viewNeighbors);
+            }
+        }
+    }
+
+    /**
+     * solve reads the cells from a view, solveAll from the packed MazeGrid.
+     * */
+    @Test
+    public void solvesEveryCellWidth() throws MazeException {
+        for (int scale : SCALES) {
+            final int[][] maze = scale(LOOP_MAZE, scale);
+            final int width = maze[0].length;
+            final int[] xs = new int[width * maze.length];
+            final int[] ys = new int[width * maze.length];
+
+            for (int i = 0; i < xs.length; i++) {
+                xs[i] = i % width;
+                ys[i] = i / width;
+            }
+
+            for (MazeSolver solver : new MazeSolver[] {new DijkstraMazeSolver(), new AStarMazeSolver()}) {
+                final BatchSolveResult results = solver.solveAll(maze, xs, ys);
+
+                MazeOracle.assertEveryCell(solver, maze);
+                MazeOracle.assertEveryCell("solveAll", maze, (x, y) -> results.isSolved(y * width + x) ?
+                        results.getCost(y * width + x) : MazeOracle.INESCAPABLE);
+            }
+        }
+    }
+}
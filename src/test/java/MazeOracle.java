@@ -0,0 +1,130 @@
+import com.mazesolver.MazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.MazeException;
+import org.junit.Assert;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The expected costs of a Maze for the tests of every solver, by brute force: Bellman-Ford over
+ * every 4-neighbour step, which shares no code with any solver.
+ *
+ * The cost of a path is the sum of the values of all its cells: the start cell, ..., the border cell,
+ * from which the Maze is left.
+ *
+ * */
+final class MazeOracle {
+
+    /**
+     * The cost of a cell, from which no border cell can be reached.
+     * */
+    static final long INESCAPABLE = Long.MAX_VALUE;
+
+    /**
+     * A cost of a cell (x, y), as found by the solver under test.
+     * An InescapableMazeException stands for INESCAPABLE.
+     * */
+    interface Cost {
+        long of(int x, int y) throws MazeException;
+    }
+
+    private MazeOracle() {
+    }
+
+    /**
+     * @return The cheapest cost from every cell to the outside of the Maze, or INESCAPABLE (also for walls).
+     * Relaxes every 4-neighbour step of every traversable cell, until nothing changes.
+     * */
+    static long[][] costs(final int[][] maze) {
+        final int height = maze.length, width = maze[0].length;
+        final long[][] costs = new long[height][width];
+        final int[][] steps = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+        for (long[] row : costs)
+            Arrays.fill(row, INESCAPABLE);
+
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (maze[y][x] <= 0)
+                        continue;
+
+                    long cost = costs[y][x];
+
+                    if (x == 0 || y == 0 || x == width - 1 || y == height - 1)
+                        cost = Math.min(cost, maze[y][x]);
+
+                    for (int[] step : steps) {
+                        final int nextX = x + step[0], nextY = y + step[1];
+
+                        if (nextX >= 0 && nextY >= 0 && nextX < width && nextY < height &&
+                                maze[nextY][nextX] > 0 && costs[nextY][nextX] != INESCAPABLE)
+                            cost = Math.min(cost, maze[y][x] + costs[nextY][nextX]);
+                    }
+
+                    if (cost < costs[y][x]) {
+                        costs[y][x] = cost;
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        return costs;
+    }
+
+    /**
+     * @return The cost, which the solver finds from (x, y), or INESCAPABLE.
+     * */
+    static long solve(final MazeSolver solver, final int[][] maze, final int x, final int y) {
+        return of((cellX, cellY) -> solver.solve(maze, cellX, cellY), x, y);
+    }
+
+    private static long of(final Cost cost, final int x, final int y) {
+        try {
+            return cost.of(x, y);
+        } catch (InescapableMazeException e) {
+            return INESCAPABLE;
+        } catch (MazeException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Asserts, that the cost of every traversable cell of the Maze is the one of Bellman-Ford.
+     * */
+    static void assertEveryCell(final String message, final int[][] maze, final Cost cost) {
+        final long[][] expected = costs(maze);
+
+        for (int y = 0; y < maze.length; y++)
+            for (int x = 0; x < maze[0].length; x++)
+                if (maze[y][x] > 0)
+                    Assert.assertEquals(message + " (" + x + ", " + y + ")", expected[y][x], of(cost, x, y));
+    }
+
+    static void assertEveryCell(final MazeSolver solver, final int[][] maze) {
+        assertEveryCell(solver.getClass().getSimpleName(), maze, (x, y) -> solver.solve(maze, x, y));
+    }
+
+    /**
+     * @return A Maze of 1 to maxSide cells per side, where 0 to 50% of the cells are walls,
+     * with cell values up to maxCellValue.
+     * */
+    static int[][] generate(final Random random, final int maxSide, final int maxCellValue) {
+        final int width = 1 + random.nextInt(maxSide);
+        final int height = 1 + random.nextInt(maxSide);
+        final double wallRatio = random.nextDouble() * 0.5;
+        final int[][] maze = new int[height][width];
+
+        for (int[] row : maze)
+            for (int x = 0; x < width; x++)
+                row[x] = random.nextDouble() < wallRatio ? 0 : 1 + random.nextInt(maxCellValue);
+
+        return maze;
+    }
+}
@@ -0,0 +1,295 @@
+import com.mazesolver.MazeSolver;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.io.MazeFile;
+import com.mazesolver.server.MazeSolverServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the requests, backpressure and batching of the MazeSolverServer, over localhost.
+ *
+ * */
+@SuppressWarnings("Convert2Diamond")
+public class MazeSolverServerTest {
+
+    private static final int[][] MAZE = {
+            {0, 11, 0, 0, 0, 2},
+            {0, 15, 0, 0, 0, 5},
+            {0, 1, 0, 0, 0, 5},
+            {0, 9, 1, 4, 1, 0},
+            {0, 2, 0, 9, 0, 0},
+            {0, 3, 0, 7, 0, 0}
+    };
+
+    private static final String MAZE_JSON = "[[0, 11, 0, 0, 0, 2], [0, 15, 0, 0, 0, 5], [0, 1, 0, 0, 0, 5], " +
+            "[0, 9, 1, 4, 1, 0], [0, 2, 0, 9, 0, 0], [0, 3, 0, 7, 0, 0]]";
+
+    private MazeSolverServer server;
+
+    @After
+    public void tearDown() {
+        if (server != null)
+            server.stop(0);
+    }
+
+    private void start(final MazeSolver solver, final int maxQueuedRequests) throws IOException {
+        server = new MazeSolverServer(solver, new InetSocketAddress("localhost", 0), maxQueuedRequests,
+                MazeSolverServer.DEFAULT_MAX_BATCH_SIZE, 1);
+        server.start();
+    }
+
+    private static final class Response {
+
+        private final int statusCode;
+        private final String body;
+
+        private Response(final int statusCode, final String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+    }
+
+    private Response post(final String path, final String contentType, final byte[] body) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" +
+                server.getAddress().getPort() + path).openConnection();
+
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", contentType);
+        connection.setDoOutput(true);
+
+        try (OutputStream requestBody = connection.getOutputStream()) {
+            requestBody.write(body);
+        }
+
+        final int statusCode = connection.getResponseCode();
+
+        try (InputStream responseBody = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return new Response(statusCode, new String(responseBody.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private Response postJson(final String json) throws IOException {
+        return post("/solve", "application/json", json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void solvesJsonAndBinaryRequests() throws Exception {
+        start(new DijkstraMazeSolver(), MazeSolverServer.DEFAULT_MAX_QUEUED_REQUESTS);
+
+        Response response = postJson("{\"maze\": " + MAZE_JSON + ", \"x\": 2, \"y\": 3}");
+        Assert.assertEquals(200, response.statusCode);
+        Assert.assertEquals("{\"status\": \"SOLVED\", \"cost\": 15}", response.body);
+
+        response = post("/solve?x=2&y=3", "application/octet-stream", MazeFile.encode(MAZE));
+        Assert.assertEquals(200, response.statusCode);
+        Assert.assertEquals("{\"status\": \"SOLVED\", \"cost\": 15}", response.body);
+    }
+
+    @Test
+    public void reportsInvalidMazesAndRejectsBadRequests() throws Exception {
+        start(new DijkstraMazeSolver(), MazeSolverServer.DEFAULT_MAX_QUEUED_REQUESTS);
+
+        Assert.assertEquals("{\"status\": \"BAD_START\", \"cost\": -1}",
+                postJson("{\"maze\": " + MAZE_JSON + ", \"x\": 0, \"y\": 0}").body);
+        Assert.assertEquals("{\"status\": \"MALFORMED\", \"cost\": -1}",
+                postJson("{\"maze\": [[1, 1], [1]], \"x\": 0, \"y\": 0}").body);
+        Assert.assertEquals("{\"status\": \"INVALID_VALUES\", \"cost\": -1}",
+                postJson("{\"maze\": [[1, -1]], \"x\": 0, \"y\": 0}").body);
+        Assert.assertEquals("{\"status\": \"INESCAPABLE\", \"cost\": -1}",
+                postJson("{\"maze\": [[0, 0, 0], [0, 1, 0], [0, 0, 0]], \"x\": 1, \"y\": 1}").body);
+
+        Assert.assertEquals(400, postJson("{\"maze\": [[1]], \"x\": 0}").statusCode);
+        Assert.assertEquals(400, postJson("not json").statusCode);
+        Assert.assertEquals(400, post("/solve", "application/octet-stream", new byte[] {1, 2, 3}).statusCode);
+
+        final Response unknownField = postJson("{\"bogus\": 1}");
+
+        Assert.assertEquals(400, unknownField.statusCode);
+        Assert.assertEquals("{\"error\": \"Unknown field: \\\"bogus\\\".\"}", unknownField.body);
+    }
+
+    /**
+     * The only solver thread is held by the first request, the second one fills the queue,
+     * so the third one is rejected.
+     * */
+    @Test
+    public void rejectsRequestsWhenTheQueueIsFull() throws Exception {
+        final CountDownLatch solveStarted = new CountDownLatch(1);
+        final CountDownLatch releaseSolve = new CountDownLatch(1);
+
+        start(new MazeSolver() {
+            @Override
+            protected int solve(final int[][] maze, final Point sourceCoordinates) throws InescapableMazeException {
+                solveStarted.countDown();
+
+                try {
+                    releaseSolve.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return 1;
+            }
+        }, 1);
+
+        final String request = "{\"maze\": [[1]], \"x\": 0, \"y\": 0}";
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            final Future<Response> first = executor.submit(() -> postJson(request));
+            Assert.assertTrue(solveStarted.await(10, TimeUnit.SECONDS));
+
+            final Future<Response> second = executor.submit(() -> postJson(request));
+
+            while (server.getQueuedRequestCount() == 0)
+                Thread.sleep(1);
+
+            Assert.assertEquals(503, postJson(request).statusCode);
+            Assert.assertEquals(1, server.getRejectedCount());
+
+            releaseSolve.countDown();
+
+            Assert.assertEquals(200, first.get().statusCode);
+            Assert.assertEquals(200, second.get().statusCode);
+        } finally {
+            releaseSolve.countDown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Requests, which wait in the queue together, are solved in one pass per Maze.
+     * */
+    @Test
+    public void batchesRequestsForTheSameMaze() throws Exception {
+        final CountDownLatch solveStarted = new CountDownLatch(1);
+        final CountDownLatch releaseSolve = new CountDownLatch(1);
+        final DijkstraMazeSolver dijkstraMazeSolver = new DijkstraMazeSolver();
+
+        start(new MazeSolver() {
+            @Override
+            protected int solve(final int[][] maze, final Point sourceCoordinates) throws InescapableMazeException {
+                solveStarted.countDown();
+
+                try {
+                    releaseSolve.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return dijkstraMazeSolver.solveResult(maze, sourceCoordinates.x, sourceCoordinates.y).getCost();
+            }
+        }, MazeSolverServer.DEFAULT_MAX_QUEUED_REQUESTS);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        try {
+            final Future<Response> blocker = executor.submit(() -> postJson("{\"maze\": [[1]], \"x\": 0, \"y\": 0}"));
+            Assert.assertTrue(solveStarted.await(10, TimeUnit.SECONDS));
+
+            final int[][] starts = {{2, 3}, {1, 0}, {5, 0}, {3, 5}};
+            final int[] expectedCosts = {15, 11, 2, 7};
+            final List<Future<Response>> responses = new ArrayList<Future<Response>>();
+
+            for (int[] start : starts)
+                responses.add(executor.submit(() -> postJson("{\"maze\": " + MAZE_JSON + ", \"x\": " + start[0] +
+                        ", \"y\": " + start[1] + "}")));
+
+            while (server.getQueuedRequestCount() < starts.length)
+                Thread.sleep(1);
+
+            releaseSolve.countDown();
+
+            Assert.assertEquals(200, blocker.get().statusCode);
+
+            for (int i = 0; i < starts.length; i++)
+                Assert.assertEquals("{\"status\": \"SOLVED\", \"cost\": " + expectedCosts[i] + "}",
+                        responses.get(i).get().body);
+
+            Assert.assertEquals(2, server.getSolvePassCount());
+        } finally {
+            releaseSolve.countDown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * A solve, which throws, is answered with 500 and fails only its own group: the next Maze of the
+     * same batch is still solved.
+     * */
+    @Test
+    public void answersFailedSolvesWithoutFailingTheBatch() throws Exception {
+        final CountDownLatch solveStarted = new CountDownLatch(1);
+        final CountDownLatch releaseSolve = new CountDownLatch(1);
+
+        start(new MazeSolver() {
+            @Override
+            protected int solve(final int[][] maze, final Point sourceCoordinates) throws InescapableMazeException {
+                if (maze[0][0] == 7)
+                    throw new IllegalStateException("Broken\tsolver");
+
+                solveStarted.countDown();
+
+                try {
+                    releaseSolve.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return maze[0][0];
+            }
+        }, MazeSolverServer.DEFAULT_MAX_QUEUED_REQUESTS);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            final Future<Response> blocker = executor.submit(() -> postJson("{\"maze\": [[1]], \"x\": 0, \"y\": 0}"));
+            Assert.assertTrue(solveStarted.await(10, TimeUnit.SECONDS));
+
+            final Future<Response> failing = executor.submit(() -> postJson("{\"maze\": [[7]], \"x\": 0, \"y\": 0}"));
+
+            while (server.getQueuedRequestCount() < 1)
+                Thread.sleep(1);
+
+            final Future<Response> solved = executor.submit(() -> postJson("{\"maze\": [[3]], \"x\": 0, \"y\": 0}"));
+
+            while (server.getQueuedRequestCount() < 2)
+                Thread.sleep(1);
+
+            releaseSolve.countDown();
+
+            Assert.assertEquals(200, blocker.get().statusCode);
+
+            final Response failure = failing.get();
+
+            Assert.assertEquals(500, failure.statusCode);
+            Assert.assertEquals("{\"error\": \"The solve has failed: " +
+                    "java.lang.IllegalStateException: Broken\\u0009solver\"}", failure.body);
+
+            Assert.assertEquals("{\"status\": \"SOLVED\", \"cost\": 3}", solved.get().body);
+            Assert.assertEquals(1, server.getFailedCount());
+            Assert.assertEquals(3, server.getSolvePassCount());
+        } finally {
+            releaseSolve.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import com.mazesolver.exception.EmptyMazeException;
+import com.mazesolver.exception.InvalidMazeValuesException;
+import com.mazesolver.exception.MalformedMazeException;
+import com.mazesolver.io.MazeTextParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Tests for the MazeTextParser - that it reads what it is given, and rejects the Mazes, which
+ * the InputValidator would.
+ *
+ * */
+public class MazeTextParserTest {
+
+    private static final int[][] MAZE = {
+            {0, 11, 0, 0, 0, 2},
+            {0, 15, 0, 0, 0, 5},
+            {0, 1, 0, 0, 0, 5},
+            {0, 9, 1, 4, 1, 0},
+            {0, 2, 0, 9, 0, 0},
+            {0, 3, 0, 7, 0, 0}
+    };
+
+    private static int[][] parse(final String text) throws Exception {
+        return MazeTextParser.parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    public void parsesEverySeparatorAndLineEnding() throws Exception {
+        Assert.assertArrayEquals(MAZE, parse(
+                "0, 11, 0, 0, 0, 2\n" +
+                "0 15 0 0 0 5\r\n" +
+                "\n" +
+                "0,1,0,0,0,5\n" +
+                "0\t9\t1\t4\t1\t0\n" +
+                "  0,  2 , 0 ,9,0,  0  \n" +
+                "0 3 0 7 0 0"));
+
+        Assert.assertArrayEquals(new int[][] {{2147483647}}, parse("2147483647\n\n"));
+    }
+
+    @Test
+    public void parsesDirectBuffersAndFiles() throws Exception {
+        final Random random = new Random(7);
+        final int[][] maze = new int[300][200];
+        final StringBuilder text = new StringBuilder();
+
+        for (int[] row : maze) {
+            for (int x = 0; x < row.length; x++) {
+                row[x] = random.nextInt(100000);
+                text.append(row[x]).append(x + 1 < row.length ? ", " : "\r\n");
+            }
+        }
+
+        final byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 3);
+
+        direct.put("9 9".getBytes(StandardCharsets.US_ASCII)).put(bytes).flip().position(3);
+
+        Assert.assertArrayEquals(maze, MazeTextParser.parse(direct));
+        Assert.assertEquals(3, direct.position());
+
+        final Path file = Files.createTempFile("maze", ".txt");
+
+        try {
+            Files.write(file, bytes);
+            Assert.assertArrayEquals(maze, MazeTextParser.read(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = MalformedMazeException.class)
+    public void rejectsALongerRow() throws Exception {
+        parse("1 2 3\n1 2 3 4\n1 2 3\n");
+    }
+
+    @Test(expected = MalformedMazeException.class)
+    public void rejectsAShorterRow() throws Exception {
+        parse("1 2 3\n1 2 3\n1 2");
+    }
+
+    @Test(expected = InvalidMazeValuesException.class)
+    public void rejectsNegativeValues() throws Exception {
+        parse("1 2 3\n1 -2 3\n");
+    }
+
+    @Test(expected = EmptyMazeException.class)
+    public void rejectsEmptyText() throws Exception {
+        parse(" \r\n\n");
+    }
+
+    @Test
+    public void rejectsWhatIsNotAGrid() throws Exception {
+        for (String text : new String[] {"1 2\n1 x\n", "1 2\n3 2147483648\n", "[1, 2]"}) {
+            try {
+                parse(text);
+                Assert.fail(text);
+            } catch (IOException ex) {
+                Assert.assertTrue(ex.getMessage(), ex.getMessage().contains("line"));
+            }
+        }
+    }
+}
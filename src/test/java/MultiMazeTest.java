@@ -26,6 +26,9 @@ public class MultiMazeTest {
      *      Integer[0] - X Coordinate
      *      Integer[1] - Y Coordinate
      *      Integer[2] - expectedResult
+     *      Integer[3] - expectedResult of the LINEAR_SCAN & BINARY_HEAP Engines (optional, if it differs).
+     *                   They only search the tree of Edges, which the flood selection walks, so
+     *                   they may miss a cheaper way around a loop.
      * */
     private static final Map<Integer[][], Integer[]> mazes =
             new LinkedHashMap<Integer[][], Integer[]>() {{
@@ -78,10 +81,20 @@ public class MultiMazeTest {
                                 {0, 0, 0, 0, 0, 0}
                         }, new Integer[] {3, 3, 4}
                 );
+
+                //A loop: the cheapest way is down & right (7), the flood selection only keeps the way over the 9 (15)
+                put(new Integer[][] {
+                                {0, 0, 0, 0, 0, 0},
+                                {0, 1, 1, 1, 1, 0},
+                                {0, 1, 0, 0, 9, 0},
+                                {0, 1, 1, 1, 1, 1},
+                                {0, 0, 0, 0, 0, 0}
+                        }, new Integer[] {1, 1, 7, 15}
+                );
             }};
 
     @SuppressWarnings("unchecked")
-    @Parameterized.Parameters(name = "maze:{0} | x:{1} | y:{2}, expectedResult:{3}")
+    @Parameterized.Parameters(name = "maze:{0} | x:{1} | y:{2}, expectedResult:{3}, engine:{4}, searchMode:{5}, bucketQueueThreshold:{6}")
     public static Collection<Object[]> data() {
         var result = new ArrayList();
         for (int i = 0; i < mazes.size(); i++) {
@@ -91,14 +104,22 @@ public class MultiMazeTest {
 
             final int x = mazeAssociatedValues[0],
                     y = mazeAssociatedValues[1],
-                    expectedResult = mazeAssociatedValues[2];
+                    expectedResult = mazeAssociatedValues[2],
+                    floodSelectionExpectedResult = mazeAssociatedValues.length > 3 ?
+                            mazeAssociatedValues[3] : expectedResult;
 
             final int[][] int_maze = new int[maze.length][];
 
             IntStream.range(0, maze.length).forEach(index ->
                     int_maze[index] = ArrayUtils.toPrimitive(maze[index]));
 
-            result.add(new Object[] {int_maze, x, y, expectedResult});
+            for (DijkstraMazeSolver.Engine engine : DijkstraMazeSolver.Engine.values())
+                for (DijkstraMazeSolver.SearchMode searchMode : DijkstraMazeSolver.SearchMode.values())
+                    for (int bucketQueueThreshold : new int[] {0, DijkstraMazeSolver.DEFAULT_BUCKET_QUEUE_THRESHOLD})
+                        result.add(new Object[] {int_maze, x, y,
+                                engine == DijkstraMazeSolver.Engine.IMPLICIT_GRID ?
+                                        expectedResult : floodSelectionExpectedResult,
+                                engine, searchMode, bucketQueueThreshold});
         }
 
         return result;
@@ -113,10 +134,16 @@ public class MultiMazeTest {
     public int y;
     @Parameterized.Parameter(3)
     public int expectedResult;
+    @Parameterized.Parameter(4)
+    public DijkstraMazeSolver.Engine engine;
+    @Parameterized.Parameter(5)
+    public DijkstraMazeSolver.SearchMode searchMode;
+    @Parameterized.Parameter(6)
+    public int bucketQueueThreshold;
 
     @Test
     public void MultiTest() {
-        MazeSolver solver = new DijkstraMazeSolver();
+        MazeSolver solver = new DijkstraMazeSolver(engine, searchMode, bucketQueueThreshold);
 
         int result = -1;
 
@@ -0,0 +1,116 @@
+import com.mazesolver.BatchSolveResult;
+import com.mazesolver.CachingMazeSolver;
+import com.mazesolver.MazeSolver;
+import com.mazesolver.SolveResult;
+import com.mazesolver.SolveStatus;
+import com.mazesolver.astar.AStarMazeSolver;
+import com.mazesolver.deltastepping.DeltaSteppingMazeSolver;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.dijkstra.ExitDistanceField;
+import com.mazesolver.dijkstra.TiledExitIndex;
+import com.mazesolver.exception.MazeException;
+import com.mazesolver.graph.CsrGraph;
+import com.mazesolver.graph.MazeComponents;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Cross-checks every Maze Solver and every precomputed index against the MazeOracle on small random Mazes,
+ * from every traversable cell. Each feature has its own tests with targeted fixtures - this only catches
+ * what those fixtures miss.
+ *
+ * The Mazes are generated from fixed seeds, so every run checks the same Mazes. Every 4th Maze has
+ * cell values up to 1000 (above the bucket queue threshold), all others up to 9.
+ *
+ * The solvers are shared by every Maze, so their per-thread workspaces are reused across Mazes of
+ * different sizes - both while kept (up to 100 Vertexes) and after being dropped (larger Mazes).
+ *
+ * */
+@SuppressWarnings("Convert2Diamond")
+public class RandomMazeConsistencyTest {
+
+    private static final int MAZE_COUNT = 100;
+
+    @Test
+    public void everySolverAgreesWithTheOracle() throws MazeException {
+        final List<MazeSolver> solvers = new ArrayList<MazeSolver>();
+
+        for (int bucketQueueThreshold : new int[] {0, DijkstraMazeSolver.DEFAULT_BUCKET_QUEUE_THRESHOLD}) {
+            for (int maxRetainedWorkspaceVertexes : new int[] {0, 100}) {
+                for (DijkstraMazeSolver.SearchMode searchMode : DijkstraMazeSolver.SearchMode.values())
+                    solvers.add(new DijkstraMazeSolver(DijkstraMazeSolver.Engine.IMPLICIT_GRID, searchMode,
+                            bucketQueueThreshold, maxRetainedWorkspaceVertexes));
+
+                solvers.add(new AStarMazeSolver(bucketQueueThreshold, maxRetainedWorkspaceVertexes));
+            }
+        }
+
+        //Splits every frontier of 2 or more Vertexes, so that even small Mazes are relaxed concurrently
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        for (int delta : new int[] {DeltaSteppingMazeSolver.HIGHEST_CELL_VALUE_DELTA, 1, 4})
+            solvers.add(new DeltaSteppingMazeSolver(delta, pool, 2));
+
+        solvers.add(new CachingMazeSolver(new DijkstraMazeSolver(), 1 << 20));
+
+        final DijkstraMazeSolver dijkstra = new DijkstraMazeSolver();
+        final AStarMazeSolver aStar = new AStarMazeSolver();
+
+        try {
+            for (int seed = 0; seed < MAZE_COUNT; seed++) {
+                final Random random = new Random(seed);
+                final int[][] maze = MazeOracle.generate(random, 12, random.nextInt(4) == 0 ? 1000 : 9);
+                final int width = maze[0].length;
+                final String message = "seed: " + seed;
+
+                for (MazeSolver solver : solvers) {
+                    MazeOracle.assertEveryCell(message, maze, (x, y) -> solver.solve(maze, x, y));
+                    MazeOracle.assertEveryCell(message, maze, (x, y) -> cost(solver.solveResult(maze, x, y)));
+                }
+
+                final int cellCount = width * maze.length;
+                final int[] xs = new int[cellCount];
+                final int[] ys = new int[cellCount];
+
+                for (int i = 0; i < cellCount; i++) {
+                    xs[i] = i % width;
+                    ys[i] = i / width;
+                }
+
+                final BatchSolveResult batch = dijkstra.solveAll(maze, xs, ys);
+                final BatchSolveResult aStarBatch = aStar.solveAll(maze, xs, ys);
+                final ExitDistanceField field = dijkstra.computeExitDistanceField(maze);
+                final TiledExitIndex index = dijkstra.buildTiledExitIndex(maze, 1 + random.nextInt(5));
+                final MazeComponents components = MazeSolver.labelComponents(maze);
+                final CsrGraph graph = CsrGraph.Builder.of(maze).build();
+
+                MazeOracle.assertEveryCell(message, maze, (x, y) -> cost(SolveResult.of(batch, y * width + x)));
+                MazeOracle.assertEveryCell(message, maze,
+                        (x, y) -> cost(SolveResult.of(aStarBatch, y * width + x)));
+                MazeOracle.assertEveryCell(message, maze, field::getCost);
+                MazeOracle.assertEveryCell(message, maze, index::getCost);
+                MazeOracle.assertEveryCell(message, maze, (x, y) -> dijkstra.solve(components, x, y));
+                MazeOracle.assertEveryCell(message, maze, (x, y) -> dijkstra.solveWithPath(maze, x, y).getCost());
+                MazeOracle.assertEveryCell(message, maze, (x, y) -> {
+                    final int cost = dijkstra.solveGraph(graph, y * width + x);
+
+                    return cost < 0 ? MazeOracle.INESCAPABLE : cost;
+                });
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long cost(final SolveResult result) {
+        if (result.getStatus() == SolveStatus.INESCAPABLE)
+            return MazeOracle.INESCAPABLE;
+
+        if (!result.isSolved())
+            throw new AssertionError(result);
+
+        return result.getCost();
+    }
+}
@@ -0,0 +1,118 @@
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.MazeException;
+import com.mazesolver.graph.IntPriorityQueue;
+import com.mazesolver.graph.SearchWorkspace;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests for the SearchWorkspace of a search on more Vertexes than it retains, whose state is kept
+ * per touched Vertex rather than per Vertex of the graph, and for a workspace reused across Maze sizes.
+ *
+ * */
+public class SearchWorkspaceTest {
+
+    /**
+     * Arrays of Integer.MAX_VALUE - 1 Vertexes would take several GiB each, so this only passes,
+     * if the workspace takes memory in proportion to the Vertexes, which are touched.
+     * */
+    @Test
+    public void aHugeGraphOnlyTakesMemoryForTheTouchedVertexes() {
+        final SearchWorkspace workspace = new SearchWorkspace(1 << 20);
+        final int vertexCount = Integer.MAX_VALUE - 1;
+        final int touchedVertexCount = 1000; //Well above the initial slot capacity, so everything grows
+
+        for (int search = 0; search < 2; search++) {
+            workspace.begin(vertexCount);
+
+            Assert.assertEquals(Integer.MAX_VALUE, workspace.getDistance(vertexCount - 1));
+            Assert.assertFalse(workspace.isSettled(vertexCount - 1));
+
+            final IntPriorityQueue queue = search == 0 ? workspace.getHeap() : workspace.getBucketQueue(10);
+
+            for (int i = 0; i < touchedVertexCount; i++) {
+                final int vertex = getVertex(i, vertexCount);
+
+                workspace.setDistance(vertex, i % 10);
+                workspace.setPredecessor(vertex, i);
+                queue.insertOrDecrease(vertex, i % 10);
+            }
+
+            for (int i = 0; i < touchedVertexCount; i++) {
+                final int vertex = getVertex(i, vertexCount);
+
+                Assert.assertEquals(i % 10, workspace.getDistance(vertex));
+                Assert.assertEquals(i, workspace.getPredecessor(vertex));
+                Assert.assertTrue(queue.contains(vertex));
+            }
+
+            int lastDistance = 0;
+
+            for (int i = 0; i < touchedVertexCount; i++) {
+                final int vertex = queue.poll();
+                final int distance = workspace.getDistance(vertex);
+
+                Assert.assertTrue(distance >= lastDistance);
+                Assert.assertFalse(workspace.isSettled(vertex));
+
+                workspace.setSettled(vertex);
+                lastDistance = distance;
+            }
+
+            Assert.assertTrue(queue.isEmpty());
+            Assert.assertTrue(workspace.isSettled(getVertex(touchedVertexCount - 1, vertexCount)));
+
+            workspace.end();
+        }
+    }
+
+    /**
+     * The Vertexes are spread over the whole graph.
+     * */
+    private static int getVertex(final int i, final int vertexCount) {
+        return (int) ((long) i * 2147483 % vertexCount);
+    }
+
+    @Test
+    public void aNearExitSolveAboveTheRetentionLimitIsExact() throws MazeException {
+        final int[][] maze = new int[1100][1000]; //More cells than the default maxRetainedWorkspaceVertexes
+
+        for (int[] row : maze)
+            Arrays.fill(row, 3);
+
+        maze[1][1] = 1;
+        maze[1][0] = 2;
+
+        final DijkstraMazeSolver solver = new DijkstraMazeSolver();
+
+        Assert.assertEquals(3, solver.solve(maze, 1, 1));
+        Assert.assertEquals(3, solver.solveWithPath(maze, 1, 1).getCost());
+        Assert.assertEquals(2, solver.solve(maze, 0, 1));
+        Assert.assertEquals(3, solver.solve(maze, 999, 1));
+    }
+
+    /**
+     * The 40x40 Maze is above the retention limit, so the workspace of the small Maze is dropped by it
+     * and grown again for the small Maze afterwards.
+     * */
+    @Test
+    public void aWorkspaceIsReusedAcrossMazeSizes() {
+        final int[][] smallMaze = {{0, 2, 0}, {1, 5, 1}, {0, 3, 0}};
+        final int[][] largeMaze = new int[40][40];
+
+        for (int y = 0; y < largeMaze.length; y++)
+            for (int x = 0; x < largeMaze[0].length; x++)
+                largeMaze[y][x] = (x * 7 + y * 13) % 5 == 0 ? 0 : 1 + (x + y) % 9;
+
+        for (DijkstraMazeSolver.SearchMode searchMode : DijkstraMazeSolver.SearchMode.values()) {
+            final DijkstraMazeSolver solver = new DijkstraMazeSolver(DijkstraMazeSolver.Engine.IMPLICIT_GRID,
+                    searchMode, DijkstraMazeSolver.DEFAULT_BUCKET_QUEUE_THRESHOLD, 1000);
+
+            MazeOracle.assertEveryCell(solver, smallMaze);
+            MazeOracle.assertEveryCell(solver, largeMaze);
+            MazeOracle.assertEveryCell(solver, smallMaze);
+        }
+    }
+}
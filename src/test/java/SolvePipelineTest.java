@@ -0,0 +1,186 @@
+import com.mazesolver.MazeSolver;
+import com.mazesolver.SolvePipeline;
+import com.mazesolver.SolveResult;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Tests, that the SolvePipeline writes the same results as MazeSolver.solveResult, in and out of order.
+ *
+ * */
+@SuppressWarnings("Convert2Diamond")
+public class SolvePipelineTest {
+
+    private static final int LINE_COUNT = 2000;
+
+    /**
+     * @return Random small Mazes and start coordinates, with some blank, invalid and unparsable lines.
+     * */
+    private static List<String> generateLines(final Random random) {
+        final List<String> lines = new ArrayList<String>();
+
+        for (int i = 0; i < LINE_COUNT; i++) {
+            switch (random.nextInt(20)) {
+                case 0:
+                    lines.add("");
+                    continue;
+                case 1:
+                    lines.add("{\"maze\": [[1, 2], [3");
+                    continue;
+                case 2:
+                    lines.add("{\"maze\": [[1, 2], [3]], \"x\": 0, \"y\": 0}");
+                    continue;
+                default:
+                    break;
+            }
+
+            final int width = 1 + random.nextInt(8);
+            final int height = 1 + random.nextInt(8);
+            final int[][] maze = new int[height][width];
+
+            for (int[] row : maze)
+                for (int x = 0; x < width; x++)
+                    row[x] = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(9);
+
+            lines.add("{\"maze\": " + Arrays.deepToString(maze) + ", \"x\": " + random.nextInt(width) +
+                    ", \"y\": " + random.nextInt(height) + "}");
+        }
+
+        return lines;
+    }
+
+    /**
+     * @return The expected output line for an input line, with solveResult.
+     * */
+    private static String expectedResult(final MazeSolver solver, final String line, final int lineNumber) {
+        if (line.endsWith("[3"))
+            return "{\"line\": " + lineNumber + ", \"error\": ";
+
+        final String[] parts = line.split(", \"[xy]\": ");
+        final String rows = parts[0].substring("{\"maze\": [[".length(), parts[0].length() - 2);
+        final String[] rowStrings = rows.split("], \\[");
+        final int[][] maze = new int[rowStrings.length][];
+
+        for (int y = 0; y < maze.length; y++)
+            maze[y] = Arrays.stream(rowStrings[y].split(", ")).mapToInt(Integer::parseInt).toArray();
+
+        final SolveResult result = solver.solveResult(maze, Integer.parseInt(parts[1]),
+                Integer.parseInt(parts[2].substring(0, parts[2].length() - 1)));
+
+        return "{\"line\": " + lineNumber + ", \"status\": \"" + result.getStatus() + "\", \"cost\": " +
+                result.getCost() + "}";
+    }
+
+    private static List<String> runPipeline(final List<String> lines, final boolean preserveOrder,
+                                            final int queueCapacity) throws Exception {
+        final StringWriter output = new StringWriter();
+
+        new SolvePipeline(new DijkstraMazeSolver(), 3, queueCapacity, preserveOrder)
+                .run(new BufferedReader(new StringReader(String.join("\n", lines))), output);
+
+        return output.toString().isEmpty() ? new ArrayList<String>() :
+                Arrays.asList(output.toString().split("\n"));
+    }
+
+    private static List<String> expectedResults(final List<String> lines) {
+        final MazeSolver solver = new DijkstraMazeSolver();
+        final List<String> expected = new ArrayList<String>();
+
+        for (int i = 0; i < lines.size(); i++)
+            if (!lines.get(i).isEmpty())
+                expected.add(expectedResult(solver, lines.get(i), i + 1));
+
+        return expected;
+    }
+
+    private static void assertResultsMatch(final String expected, final String actual) {
+        if (expected.endsWith("\"error\": "))
+            Assert.assertTrue(actual, actual.startsWith(expected));
+        else
+            Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void preservesTheOrderOfTheInput() throws Exception {
+        final List<String> lines = generateLines(new Random(23));
+        final List<String> expected = expectedResults(lines);
+        final List<String> actual = runPipeline(lines, true, 4);
+
+        Assert.assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++)
+            assertResultsMatch(expected.get(i), actual.get(i));
+    }
+
+    @Test
+    public void writesEveryResultOutOfOrder() throws Exception {
+        final List<String> lines = generateLines(new Random(24));
+        final List<String> expected = expectedResults(lines);
+        final List<String> actual = new ArrayList<String>(runPipeline(lines, false, 16));
+
+        Assert.assertEquals(expected.size(), actual.size());
+
+        //Match by line number.
+        actual.sort((first, second) -> Integer.compare(lineNumberOf(first), lineNumberOf(second)));
+
+        for (int i = 0; i < expected.size(); i++)
+            assertResultsMatch(expected.get(i), actual.get(i));
+
+        Assert.assertEquals(expected.size(), new HashSet<String>(actual).size());
+    }
+
+    private static int lineNumberOf(final String result) {
+        return Integer.parseInt(result.substring("{\"line\": ".length(), result.indexOf(',')));
+    }
+
+    @Test
+    public void handlesAnEmptyInput() throws Exception {
+        Assert.assertTrue(runPipeline(new ArrayList<String>(), true, 1).isEmpty());
+        Assert.assertTrue(runPipeline(Arrays.asList("", " ", ""), false, 1).isEmpty());
+    }
+
+    /**
+     * The error repeats the unknown field name, whose tab must be escaped, so that the line stays valid JSON.
+     * */
+    @Test
+    public void escapesControlCharactersInErrors() throws Exception {
+        Assert.assertEquals(Arrays.asList("{\"line\": 1, \"error\": \"Unknown field: \\\"bo\\u0009gus\\\".\"}",
+                "{\"line\": 2, \"status\": \"SOLVED\", \"cost\": 3}"),
+                runPipeline(Arrays.asList("{\"bo\tgus\": 1}", "{\"maze\": [[3]], \"x\": 0, \"y\": 0}"), true, 1));
+    }
+
+    /**
+     * Every stage counts each non-blank line once - not the blank lines, nor the end of the input.
+     * */
+    @Test
+    public void countsEveryLineOnceInEveryStage() throws Exception {
+        final List<String> lines = generateLines(new Random(25));
+        final long lineCount = lines.stream().filter(line -> !line.isEmpty()).count();
+        final SolvePipeline pipeline = new SolvePipeline(new DijkstraMazeSolver(), 3, 4, true);
+
+        pipeline.run(new BufferedReader(new StringReader(String.join("\n", lines))), new StringWriter());
+
+        final List<SolvePipeline.StageStats> stageStats = pipeline.getStageStats();
+
+        Assert.assertEquals(Arrays.asList("read", "parse", "validate", "solve", "write"),
+                stageStats.stream().map(SolvePipeline.StageStats::getName).collect(Collectors.toList()));
+
+        for (SolvePipeline.StageStats stats : stageStats) {
+            Assert.assertEquals(stats.getName(), lineCount, stats.getProcessedCount());
+            Assert.assertTrue(stats.getName(), stats.getBusyNanos() > 0);
+            Assert.assertTrue(stats.getName(), stats.getMaxQueueDepth() <= 4);
+            Assert.assertEquals(stats.getName(), 0, stats.getQueueDepth());
+        }
+    }
+}
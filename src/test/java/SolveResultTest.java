@@ -0,0 +1,113 @@
+import com.mazesolver.CachingMazeSolver;
+import com.mazesolver.MazeSolver;
+import com.mazesolver.SolveResult;
+import com.mazesolver.SolveStatus;
+import com.mazesolver.astar.AStarMazeSolver;
+import com.mazesolver.deltastepping.DeltaSteppingMazeSolver;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests for MazeSolver.solveResult: every failure is reported as a SolveStatus, instead of an exception.
+ *
+ * */
+public class SolveResultTest {
+
+    /**
+     * A loop around a wall, with a closed cell (2, 5).
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 4},
+            {0, 0, 0, 0, 0, 0},
+            {0, 0, 3, 0, 0, 0},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    @Test
+    public void reportsEveryStart() {
+        final MazeSolver[] solvers = {new DijkstraMazeSolver(), new AStarMazeSolver(),
+                new CachingMazeSolver(new DijkstraMazeSolver(), 1 << 20), new DeltaSteppingMazeSolver()};
+
+        for (MazeSolver solver : solvers) {
+            final String message = solver.getClass().getSimpleName();
+
+            Assert.assertEquals(message, SolveStatus.SOLVED, solver.solveResult(LOOP_MAZE, 1, 1).getStatus());
+            Assert.assertEquals(message, 10, solver.solveResult(LOOP_MAZE, 1, 1).getCost());
+            Assert.assertEquals(message, 4, solver.solveResult(LOOP_MAZE, 5, 3).getCost());
+            Assert.assertEquals(message, SolveStatus.INESCAPABLE, solver.solveResult(LOOP_MAZE, 2, 5).getStatus());
+            Assert.assertEquals(message, -1, solver.solveResult(LOOP_MAZE, 2, 5).getCost());
+            Assert.assertEquals(message, SolveStatus.BAD_START, solver.solveResult(LOOP_MAZE, 2, 2).getStatus());
+            Assert.assertEquals(message, SolveStatus.BAD_COORDINATES,
+                    solver.solveResult(LOOP_MAZE, -1, 0).getStatus());
+            Assert.assertEquals(message, SolveStatus.BAD_COORDINATES,
+                    solver.solveResult(LOOP_MAZE, 0, LOOP_MAZE.length).getStatus());
+        }
+    }
+
+    @Test
+    public void reportsInvalidMazes() {
+        final MazeSolver solver = new DijkstraMazeSolver();
+
+        Assert.assertEquals(SolveStatus.EMPTY, solver.solveResult(new int[][] {{}}, 0, 0).getStatus());
+        Assert.assertEquals(SolveStatus.MALFORMED, solver.solveResult(new int[][] {{1, 1}, {1}}, 0, 0).getStatus());
+        Assert.assertEquals(SolveStatus.INVALID_VALUES, solver.solveResult(new int[][] {{1, -1}}, 0, 0).getStatus());
+        Assert.assertEquals(-1, solver.solveResult(new int[][] {{1, -1}}, 0, 0).getCost());
+        Assert.assertEquals(3, solver.solveResult(new int[][] {{3}}, 0, 0).getCost());
+    }
+
+    /**
+     * Up to 70 cells per row - several full vectors of any SIMD width, plus every remainder -
+     * with the negative value in every position, in the first and the last row.
+     * */
+    @Test
+    public void findsEveryNegativeValue() {
+        final MazeSolver solver = new DijkstraMazeSolver();
+
+        for (int width = 1; width <= 70; width++) {
+            final int[][] maze = new int[3][width];
+
+            for (int[] row : maze)
+                Arrays.fill(row, 2);
+
+            Assert.assertTrue(solver.solveResult(maze, 0, 0).isSolved());
+
+            for (int y : new int[] {0, maze.length - 1}) {
+                for (int x = 0; x < width; x++) {
+                    final String message = "width: " + width + ", (" + x + ", " + y + ")";
+
+                    maze[y][x] = -1;
+                    Assert.assertEquals(message, SolveStatus.INVALID_VALUES,
+                            solver.solveResult(maze, 0, 0).getStatus());
+
+                    maze[y][x] = Integer.MIN_VALUE;
+                    Assert.assertEquals(message, SolveStatus.INVALID_VALUES,
+                            solver.solveResult(maze, 0, 0).getStatus());
+
+                    maze[y][x] = 2;
+                }
+            }
+        }
+    }
+
+    /**
+     * The shape is reported first, wherever the negative value is.
+     * */
+    @Test
+    public void reportsAMalformedMazeBeforeANegativeValue() {
+        final MazeSolver solver = new DijkstraMazeSolver();
+
+        for (int y = 0; y < 3; y++) {
+            final int[][] maze = {{1, 1, 1}, {1, 1, 1}, {1, 1, 1, 1}};
+
+            maze[y][1] = -1;
+
+            Assert.assertEquals(SolveStatus.MALFORMED, solver.solveResult(maze, 0, 0).getStatus());
+        }
+    }
+}
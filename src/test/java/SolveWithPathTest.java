@@ -0,0 +1,129 @@
+import com.mazesolver.MazeSolution;
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.MazeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.Point;
+
+/**
+ * Tests, that DijkstraMazeSolver.solveWithPath returns a lowest cost path, whose moves lead through
+ * traversable cells from the start to a border cell, and that MazeSolution packs its moves.
+ *
+ * */
+public class SolveWithPathTest {
+
+    /**
+     * From (1, 1), the cheap way is down & right (7), the other one over the 9 (15).
+     * */
+    private static final int[][] LOOP_MAZE = {
+            {0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 0},
+            {0, 1, 0, 0, 9, 0},
+            {0, 1, 1, 1, 1, 1},
+            {0, 0, 0, 0, 0, 0}
+    };
+
+    private static final int[][] MAZE = {
+            {0, 11, 0, 0, 0, 2},
+            {0, 15, 0, 0, 0, 5},
+            {0, 1, 0, 0, 0, 5},
+            {0, 9, 1, 4, 1, 0},
+            {0, 2, 0, 9, 0, 0},
+            {0, 3, 0, 7, 0, 0}
+    };
+
+    /**
+     * Only left at its left end: 9 moves west from (9, 1), over 3 bytes of moves.
+     * */
+    private static final int[][] CORRIDOR_MAZE = {
+            {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {5, 1, 1, 1, 1, 1, 1, 1, 1, 1, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}
+    };
+
+    private final DijkstraMazeSolver solver = new DijkstraMazeSolver();
+
+    /**
+     * Follows the moves and adds up the cells they pass through.
+     *
+     * @return The cost of the path.
+     * */
+    private static long walk(final int[][] maze, final MazeSolution solution) {
+        final Point start = solution.getStartCoordinates();
+        int x = start.x;
+        int y = start.y;
+        long cost = maze[y][x];
+
+        for (int i = 0; i < solution.getMoveCount(); i++) {
+            x += solution.getMove(i).getDeltaX();
+            y += solution.getMove(i).getDeltaY();
+
+            Assert.assertTrue(maze[y][x] > 0);
+            cost += maze[y][x];
+        }
+
+        Assert.assertEquals(new Point(x, y), solution.getExitCoordinates());
+        Assert.assertTrue(x == 0 || y == 0 || x == maze[0].length - 1 || y == maze.length - 1);
+        Assert.assertEquals((solution.getMoveCount() + 3) / 4, solution.getEncodedMoves().length);
+        Assert.assertEquals(solution.getCost(), cost);
+
+        return cost;
+    }
+
+    @Test
+    public void takesTheCheapWayAroundALoop() throws MazeException {
+        final MazeSolution solution = solver.solveWithPath(LOOP_MAZE, 1, 1);
+
+        Assert.assertEquals(7, solution.getCost());
+        Assert.assertEquals("SSEEEE", solution.toString());
+        Assert.assertEquals(new Point(1, 1), solution.getStartCoordinates());
+        Assert.assertEquals(new Point(5, 3), solution.getExitCoordinates());
+        Assert.assertEquals(7, walk(LOOP_MAZE, solution));
+    }
+
+    @Test
+    public void everyPathIsALowestCostPath() {
+        for (DijkstraMazeSolver.SearchMode searchMode : DijkstraMazeSolver.SearchMode.values()) {
+            final DijkstraMazeSolver pathSolver = new DijkstraMazeSolver(DijkstraMazeSolver.Engine.IMPLICIT_GRID,
+                    searchMode, DijkstraMazeSolver.DEFAULT_BUCKET_QUEUE_THRESHOLD);
+
+            for (int[][] maze : new int[][][] {LOOP_MAZE, MAZE, CORRIDOR_MAZE})
+                MazeOracle.assertEveryCell(searchMode.name(), maze,
+                        (x, y) -> walk(maze, pathSolver.solveWithPath(maze, x, y)));
+        }
+    }
+
+    @Test
+    public void packsMovesOverSeveralBytes() throws MazeException {
+        final MazeSolution solution = solver.solveWithPath(CORRIDOR_MAZE, 9, 1);
+
+        Assert.assertEquals(9 + 5, solution.getCost());
+        Assert.assertEquals("WWWWWWWWW", solution.toString());
+        Assert.assertEquals(3, solution.getEncodedMoves().length);
+    }
+
+    /**
+     * Leaving the Maze through the exit cell is not a move.
+     * */
+    @Test
+    public void aBorderStartHasNoMoves() throws MazeException {
+        final MazeSolution solution = solver.solveWithPath(MAZE, 5, 0);
+
+        Assert.assertEquals(2, solution.getCost());
+        Assert.assertEquals(0, solution.getMoveCount());
+        Assert.assertEquals(new Point(5, 0), solution.getExitCoordinates());
+        Assert.assertEquals(0, solution.getEncodedMoves().length);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsMovesBeyondThePath() throws MazeException {
+        solver.solveWithPath(LOOP_MAZE, 1, 1).getMove(6);
+    }
+
+    @Test(expected = InescapableMazeException.class)
+    public void rejectsInescapableMazes() throws MazeException {
+        solver.solveWithPath(new int[][] {{0, 0, 0}, {0, 1, 0}, {0, 0, 0}}, 1, 1);
+    }
+}
@@ -0,0 +1,115 @@
+import com.mazesolver.dijkstra.DijkstraMazeSolver;
+import com.mazesolver.dijkstra.TiledExitIndex;
+import com.mazesolver.exception.InescapableMazeException;
+import com.mazesolver.exception.InvalidMazeCoordinatesException;
+import com.mazesolver.exception.InvalidMazeStartPositionException;
+import com.mazesolver.exception.MazeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests for the TiledExitIndex on Mazes, whose sides are not multiples of the tile size, so that the last
+ * tiles of a row and a column are cut short (ragged).
+ *
+ * */
+public class TiledExitIndexTest {
+
+    /**
+     * 9 x 7: a snake from (1, 1) through every tile row to the exit (1, 6), a closed cell (7, 3)
+     * and a short way out of (7, 5).
+     * */
+    private static final int[][] SNAKE_MAZE = {
+            {0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 1, 1, 1, 1, 1, 0, 0, 0},
+            {0, 0, 0, 0, 0, 1, 0, 0, 0},
+            {0, 1, 1, 1, 0, 1, 0, 6, 0},
+            {0, 1, 0, 1, 1, 1, 0, 0, 0},
+            {0, 1, 0, 0, 0, 0, 0, 2, 3},
+            {0, 1, 0, 0, 0, 0, 0, 0, 0}
+    };
+
+    /**
+     * 11 x 3: a corridor, which is only left at its left end - the cheapest way crosses every tile.
+     * */
+    private static final int[][] CORRIDOR_MAZE = {
+            {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {5, 1, 1, 1, 1, 1, 1, 1, 1, 1, 0},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}
+    };
+
+    private static void assertEveryTileSize(final int[][] maze) throws MazeException {
+        //Up to a single tile, larger than the Maze
+        for (int tileSize = 1; tileSize <= Math.max(maze.length, maze[0].length) + 1; tileSize++) {
+            final TiledExitIndex index = new DijkstraMazeSolver().buildTiledExitIndex(maze, tileSize);
+
+            Assert.assertEquals(tileSize, index.getTileSize());
+            MazeOracle.assertEveryCell("tile size: " + tileSize, maze, index::getCost);
+        }
+    }
+
+    @Test
+    public void aSnakeAcrossRaggedTilesAgreesForEveryTileSize() throws MazeException {
+        final TiledExitIndex index = new DijkstraMazeSolver().buildTiledExitIndex(SNAKE_MAZE, 4);
+
+        Assert.assertEquals(16, index.getCost(1, 1));
+        Assert.assertEquals(5, index.getCost(7, 5));
+
+        assertEveryTileSize(SNAKE_MAZE);
+    }
+
+    @Test
+    public void aCorridorAcrossRaggedTilesAgreesForEveryTileSize() throws MazeException {
+        Assert.assertEquals(9 + 5, new DijkstraMazeSolver().buildTiledExitIndex(CORRIDOR_MAZE, 3).getCost(9, 1));
+
+        assertEveryTileSize(CORRIDOR_MAZE);
+    }
+
+    /**
+     * A single row or column: every cell is a border cell, whatever the tiles.
+     * */
+    @Test
+    public void aSingleRowOrColumnAgreesForEveryTileSize() throws MazeException {
+        assertEveryTileSize(new int[][] {{4, 1, 0, 7, 2, 2, 9}});
+        assertEveryTileSize(new int[][] {{4}, {1}, {0}, {7}, {2}, {2}, {9}});
+    }
+
+    /**
+     * 100 x 100 in tiles of 10: 20 border rows and 20 border columns of 100 exit costs each are kept, while the
+     * build takes the exit costs of all 10000 cells on top of them.
+     * */
+    @Test
+    public void reportsTheMemoryOfTheBuild() throws MazeException {
+        final int[][] maze = new int[100][100];
+
+        for (int[] row : maze)
+            Arrays.fill(row, 1);
+
+        final TiledExitIndex index = new DijkstraMazeSolver().buildTiledExitIndex(maze, 10);
+
+        Assert.assertEquals(2 * 20 * 100 * Integer.BYTES, index.getIndexBytes());
+        Assert.assertTrue(index.getPeakBuildBytes() + " bytes",
+                index.getPeakBuildBytes() >= index.getIndexBytes() + 100 * 100 * Integer.BYTES);
+    }
+
+    @Test(expected = InescapableMazeException.class)
+    public void rejectsAClosedCell() throws MazeException {
+        new DijkstraMazeSolver().buildTiledExitIndex(SNAKE_MAZE, 2).getCost(7, 3);
+    }
+
+    @Test(expected = InvalidMazeStartPositionException.class)
+    public void rejectsWalls() throws MazeException {
+        new DijkstraMazeSolver().buildTiledExitIndex(new int[][] {{1, 0}}, 1).getCost(1, 0);
+    }
+
+    @Test(expected = InvalidMazeCoordinatesException.class)
+    public void rejectsCoordinatesOutsideOfTheMaze() throws MazeException {
+        new DijkstraMazeSolver().buildTiledExitIndex(SNAKE_MAZE, 4).getCost(9, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAnEmptyTile() throws MazeException {
+        new DijkstraMazeSolver().buildTiledExitIndex(SNAKE_MAZE, 0);
+    }
+}
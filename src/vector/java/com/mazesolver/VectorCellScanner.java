@@ -0,0 +1,72 @@
+package com.mazesolver;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ *
+ * Scans as many cells at a time as the preferred SIMD registers of the CPU hold (e.g. 8 with AVX2),
+ * with the incubating Vector API. Every lane keeps its own lowest value (for the negative check),
+ * highest value, lowest positive value and positive cell count, which are only reduced to single values
+ * at the end of each row. The cells after the last full vector are scanned one at a time.
+ *
+ * Lives in its own source root (src/vector/java), which is compiled separately with
+ * --add-modules jdk.incubator.vector, so that src/main/java compiles with a plain javac.
+ * MazeScan loads this class reflectively and only if the module is present at run time.
+ *
+ * */
+final class VectorCellScanner implements CellScanner {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean scanRow(final int[] row, final MazeScan scan) {
+        final int loopBound = SPECIES.loopBound(row.length);
+
+        IntVector minValues = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        IntVector maxValues = IntVector.zero(SPECIES);
+        IntVector minPositiveValues = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        IntVector positiveCellCounts = IntVector.zero(SPECIES);
+
+        int x = 0;
+
+        for (; x < loopBound; x += SPECIES.length()) {
+            final IntVector cells = IntVector.fromArray(SPECIES, row, x);
+            final VectorMask<Integer> positiveCells = cells.compare(VectorOperators.GT, 0);
+
+            minValues = minValues.min(cells);
+            maxValues = maxValues.max(cells);
+            minPositiveValues = minPositiveValues.lanewise(VectorOperators.MIN, cells, positiveCells);
+            positiveCellCounts = positiveCellCounts.add(1, positiveCells);
+        }
+
+        if (minValues.reduceLanes(VectorOperators.MIN) < 0)
+            return false;
+
+        int maxValue = maxValues.reduceLanes(VectorOperators.MAX);
+        int minPositiveValue = minPositiveValues.reduceLanes(VectorOperators.MIN);
+        int positiveCellCount = positiveCellCounts.reduceLanes(VectorOperators.ADD);
+
+        for (; x < row.length; x++) {
+            final int cell = row[x];
+
+            if (cell < 0)
+                return false;
+
+            if (cell > 0) {
+                positiveCellCount++;
+
+                if (cell < minPositiveValue)
+                    minPositiveValue = cell;
+
+                if (cell > maxValue)
+                    maxValue = cell;
+            }
+        }
+
+        scan.fold(maxValue, minPositiveValue, positiveCellCount);
+        return true;
+    }
+}